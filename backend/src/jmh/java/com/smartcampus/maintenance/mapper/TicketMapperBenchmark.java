@@ -0,0 +1,92 @@
+package com.smartcampus.maintenance.mapper;
+
+import com.smartcampus.maintenance.dto.ticket.TicketResponse;
+import com.smartcampus.maintenance.entity.Building;
+import com.smartcampus.maintenance.entity.RequestType;
+import com.smartcampus.maintenance.entity.ServiceDomain;
+import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.entity.User;
+import com.smartcampus.maintenance.entity.enums.Role;
+import com.smartcampus.maintenance.entity.enums.TicketCategory;
+import com.smartcampus.maintenance.entity.enums.TicketStatus;
+import com.smartcampus.maintenance.entity.enums.UrgencyLevel;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of mapping one fully loaded ticket (request type with service domain, building, creator,
+ * assignee and both attachments) to its API response, as done for every row of a ticket page.
+ *
+ * <p>Run with {@code mvn -q -Pbenchmarks test-compile exec:exec -Djmh.include=TicketMapperBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TicketMapperBenchmark {
+
+    private Ticket ticket;
+
+    @Setup
+    public void setUp() {
+        ServiceDomain domain = new ServiceDomain();
+        domain.setId(3L);
+        domain.setKey("ELECTRICAL");
+        domain.setLabel("Electrical");
+        RequestType requestType = new RequestType();
+        requestType.setId(17L);
+        requestType.setLabel("Lighting fault");
+        requestType.setServiceDomain(domain);
+        Building building = new Building();
+        building.setId(5L);
+        building.setName("Engineering Block");
+        building.setCode("ENG");
+
+        ticket = new Ticket();
+        ticket.setId(48_213L);
+        ticket.setTitle("Flickering lights in lecture room 204");
+        ticket.setDescription("Half of the ceiling lights flicker constantly during lectures and two tubes are out.");
+        ticket.setCategory(TicketCategory.ELECTRICAL);
+        ticket.setRequestType(requestType);
+        ticket.setBuildingRecord(building);
+        ticket.setBuilding(building.getName());
+        ticket.setLocation("Room 204, second floor");
+        ticket.setUrgency(UrgencyLevel.HIGH);
+        ticket.setStatus(TicketStatus.IN_PROGRESS);
+        ticket.setCreatedBy(user(1_024L, "s.khan", "Sara Khan", Role.STUDENT));
+        ticket.setAssignedTo(user(4_211L, "tech.alvarez", "Maria Alvarez", Role.MAINTENANCE));
+        ticket.setImagePath("/uploads/3f2a9c1e-7d4b-4e0a-9a51-0c2d7e6b8f14.jpg");
+        ticket.setAfterImagePath("/uploads/a81c55d0-2b6e-4f7c-8d3e-5e9f1a0b2c47.webp");
+        ticket.setCreatedAt(LocalDateTime.of(2025, 3, 4, 9, 15));
+        ticket.setUpdatedAt(LocalDateTime.of(2025, 3, 4, 11, 40));
+    }
+
+    @Benchmark
+    public TicketResponse toResponse() {
+        return TicketMapper.toResponse(
+                ticket,
+                "/api/tickets/48213/attachments/before?expires=1741090500&signature=Qm9ndXNTaWduYXR1cmVGb3JCZW5jaG1hcms",
+                "/api/tickets/48213/attachments/after?expires=1741090500&signature=QWZ0ZXJTaWduYXR1cmVGb3JCZW5jaG1hcms");
+    }
+
+    private static User user(Long id, String username, String fullName, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setFullName(fullName);
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,63 @@
+package com.smartcampus.maintenance.optimization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-candidate cost of scoring one auto-assignment round: a campus-sized pool of technicians
+ * with mixed workloads, resolution history and specialty matches.
+ *
+ * <p>Run with {@code mvn -q -Pbenchmarks test-compile exec:exec -Djmh.include=AssignmentScorerBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssignmentScorerBenchmark {
+
+    private static final int CANDIDATES = 40;
+
+    private List<AssignmentCandidateMetrics> candidates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(11);
+        candidates = new ArrayList<>(CANDIDATES);
+        for (int i = 0; i < CANDIDATES; i++) {
+            candidates.add(new AssignmentCandidateMetrics(
+                    (long) i + 1,
+                    "tech" + i,
+                    "Technician " + i,
+                    random.nextInt(12),
+                    random.nextInt(80),
+                    random.nextInt(40),
+                    random.nextInt(15),
+                    random.nextInt(3) == 0,
+                    List.of("ELECTRICAL", "PLUMBING")));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CANDIDATES)
+    public void scoreCandidatePool(Blackhole blackhole) {
+        for (AssignmentCandidateMetrics candidate : candidates) {
+            blackhole.consume(AssignmentScorer.scoreCandidate(candidate));
+        }
+    }
+}
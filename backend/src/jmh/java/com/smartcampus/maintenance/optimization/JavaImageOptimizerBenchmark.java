@@ -0,0 +1,112 @@
+package com.smartcampus.maintenance.optimization;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decode and re-encode cost of one uploaded attachment at the default optimization settings
+ * (JPEG quality 85, PNG compression 85, 5% minimum savings). The fixture is a phone-camera
+ * sized image with gradients and sensor-like noise, saved at a high source quality so the
+ * optimizer has something to save.
+ *
+ * <p>Run with {@code mvn -q -Pbenchmarks test-compile exec:exec -Djmh.include=JavaImageOptimizerBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JavaImageOptimizerBenchmark {
+
+    private static final int WIDTH = 1280;
+    private static final int HEIGHT = 960;
+
+    @Param({"image/jpeg", "image/png"})
+    public String contentType;
+
+    private byte[] upload;
+
+    @Setup
+    public void setUp() throws IOException {
+        BufferedImage image = photoLikeImage(WIDTH, HEIGHT);
+        upload = contentType.equals("image/png") ? png(image) : jpeg(image, 0.97f);
+    }
+
+    @Benchmark
+    public Optional<JavaImageOptimizer.OptimizedImageResult> optimize() {
+        return JavaImageOptimizer.optimize(contentType, upload, 5, 85, 85);
+    }
+
+    private static BufferedImage photoLikeImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, new Color(92, 110, 128), width, height, new Color(214, 198, 170)));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(new Color(60, 60, 66));
+        graphics.fillRect(width / 5, height / 3, width / 3, height / 2);
+        graphics.setColor(new Color(180, 40, 30));
+        graphics.fillOval(width / 2, height / 4, width / 4, width / 4);
+        graphics.dispose();
+        Random random = new Random(3);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb = image.getRGB(x, y);
+                int noise = random.nextInt(17) - 8;
+                int r = clamp(((rgb >> 16) & 0xFF) + noise);
+                int g = clamp(((rgb >> 8) & 0xFF) + noise);
+                int b = clamp((rgb & 0xFF) + noise);
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        return image;
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+
+    private static byte[] jpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
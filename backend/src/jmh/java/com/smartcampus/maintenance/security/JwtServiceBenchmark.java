@@ -0,0 +1,67 @@
+package com.smartcampus.maintenance.security;
+
+import com.smartcampus.maintenance.entity.User;
+import com.smartcampus.maintenance.entity.enums.Role;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Per-request cost of validating a bearer token: the full {@code isTokenValid} check against a
+ * resolved principal, and the claims-only parse used by the JWT fast path.
+ *
+ * <p>Run with {@code mvn -q -Pbenchmarks test-compile exec:exec -Djmh.include=JwtServiceBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private AuthenticatedUser principal;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secret", "benchmark-jwt-secret-with-at-least-32-bytes");
+        ReflectionTestUtils.setField(jwtService, "expirationMs", 86_400_000L);
+        jwtService.init();
+
+        User user = new User();
+        user.setId(4_211L);
+        user.setUsername("tech.alvarez");
+        user.setEmail("tech.alvarez@campus.example.edu");
+        user.setFullName("Maria Alvarez");
+        user.setPasswordHash("$2a$10$abcdefghijklmnopqrstuvABCDEFGHIJKLMNOPQRSTUVWXYZ01234");
+        user.setRole(Role.MAINTENANCE);
+        user.setEmailVerified(true);
+        user.setTokenVersion(3);
+        user.setCreatedAt(LocalDateTime.of(2024, 9, 1, 8, 0));
+        principal = new AuthenticatedUser(user);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, principal);
+    }
+
+    @Benchmark
+    public AccessTokenClaims parseAccessToken() {
+        return jwtService.parseAccessToken(token);
+    }
+}
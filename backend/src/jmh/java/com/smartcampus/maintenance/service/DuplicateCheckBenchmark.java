@@ -0,0 +1,127 @@
+package com.smartcampus.maintenance.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.smartcampus.maintenance.repository.TicketRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of one duplicate check against {@code openTickets} open titles in a single building and
+ * request type: the trigram index with banded verification, against the previous scan that ran
+ * a full-matrix Levenshtein on every open ticket.
+ *
+ * <p>Run with {@code mvn -q -Pbenchmarks test-compile exec:exec -Djmh.include=DuplicateCheckBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DuplicateCheckBenchmark {
+
+    private static final String[] WORDS = {
+        "projector", "wifi", "leaking", "broken", "door", "window", "light", "flickering", "heater",
+        "not", "working", "room", "lab", "library", "toilet", "blocked", "socket", "sparking",
+        "ceiling", "stain", "noisy", "fan", "locked", "printer", "jammed", "floor", "wet"
+    };
+
+    @Param({"200", "2000"})
+    public int openTickets;
+
+    private DuplicateTicketIndex index;
+    private List<String> titles;
+    private String query;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        titles = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < openTickets; i++) {
+            String title = randomTitle(random) + " " + (100 + random.nextInt(400));
+            titles.add(title);
+            rows.add(new Object[] {(long) i, 1L, 1L, title});
+        }
+        query = titles.get(openTickets / 2).replace('o', '0');
+
+        TicketRepository ticketRepository = mock(TicketRepository.class);
+        when(ticketRepository.streamOpenTicketTitles(any())).thenAnswer(invocation -> rows.stream());
+        index = new DuplicateTicketIndex(ticketRepository, new SimpleMeterRegistry(), 32);
+        index.buildOnStartup();
+    }
+
+    @Benchmark
+    public List<DuplicateTicketIndex.Match> trigramIndex() {
+        return index.findSimilar(1L, 1L, query, 5).orElseThrow();
+    }
+
+    @Benchmark
+    public List<String> fullScan() {
+        String input = query.trim().toLowerCase();
+        return titles.stream()
+                .filter(title -> legacySimilarity(input, title.toLowerCase()) > 0.5)
+                .limit(5)
+                .toList();
+    }
+
+    private static double legacySimilarity(String a, String b) {
+        if (a.equals(b)) {
+            return 1.0;
+        }
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        if (a.contains(b) || b.contains(a)) {
+            return 0.8;
+        }
+        int maxLen = Math.max(a.length(), b.length());
+        return 1.0 - ((double) legacyLevenshtein(a, b) / maxLen);
+    }
+
+    private static int legacyLevenshtein(String a, String b) {
+        int[][] dp = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            dp[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            dp[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                dp[i][j] = Math.min(Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1), dp[i - 1][j - 1] + cost);
+            }
+        }
+        return dp[a.length()][b.length()];
+    }
+
+    private static String randomTitle(Random random) {
+        StringBuilder title = new StringBuilder();
+        int words = 3 + random.nextInt(4);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                title.append(' ');
+            }
+            title.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return title.toString();
+    }
+}
@@ -0,0 +1,67 @@
+package com.smartcampus.maintenance.service;
+
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * One in-memory token-bucket check as done for every login and public auth request: a single
+ * client hitting its own bucket, and many clients spread over thousands of buckets in one scope
+ * from four request threads. Limits are high enough that no request is rejected, so the numbers
+ * exclude exception construction.
+ *
+ * <p>Run with {@code mvn -q -Pbenchmarks test-compile exec:exec -Djmh.include=RateLimitServiceBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitServiceBenchmark {
+
+    private static final int CLIENTS = 5_000;
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private RateLimitService rateLimitService;
+    private String[] clientIps;
+    private final AtomicInteger nextClient = new AtomicInteger();
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        rateLimitService = new RateLimitService(
+                mock(ObjectProvider.class), new SimpleMeterRegistry(), true, false, 50_000);
+        clientIps = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientIps[i] = "10.%d.%d.%d".formatted(i >> 16 & 0xFF, i >> 8 & 0xFF, i & 0xFF);
+        }
+    }
+
+    @Benchmark
+    public void singleClient() {
+        rateLimitService.enforce("login-ip", "203.0.113.7", 1_000_000_000, WINDOW);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void manyClientsContended() {
+        int client = Math.floorMod(nextClient.getAndIncrement(), CLIENTS);
+        rateLimitService.enforce("login-ip", clientIps[client], 1_000_000_000, WINDOW);
+    }
+}
@@ -0,0 +1,76 @@
+package com.smartcampus.maintenance.service;
+
+import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.service.TicketAttachmentAccessService.AttachmentType;
+import com.smartcampus.maintenance.util.FileStorageService;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-ticket cost of signing the before/after attachment URLs in a ticket response, against the
+ * previous per-call {@code Mac.getInstance} + {@code String.formatted} implementation.
+ *
+ * <p>Run with {@code mvn -q -Pbenchmarks test-compile exec:exec -Djmh.include=TicketAttachmentSigningBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TicketAttachmentSigningBenchmark {
+
+    private static final String SECRET = "benchmark-signing-secret-with-at-least-32-bytes";
+
+    private TicketAttachmentAccessService accessService;
+    private Ticket ticket;
+
+    @Setup
+    public void setUp() {
+        FileStorageService fileStorageService = new FileStorageService(
+                System.getProperty("java.io.tmpdir"), List.of("image/jpeg"), 5_242_880L);
+        accessService = new TicketAttachmentAccessService(fileStorageService, SECRET, 300, 64);
+        ticket = new Ticket();
+        ticket.setId(48_213L);
+        ticket.setImagePath("/uploads/3f2a9c1e-7d4b-4e0a-9a51-0c2d7e6b8f14.jpg");
+        ticket.setAfterImagePath("/uploads/a81c55d0-2b6e-4f7c-8d3e-5e9f1a0b2c47.webp");
+    }
+
+    @Benchmark
+    public void signTicketUrls(Blackhole blackhole) {
+        blackhole.consume(accessService.buildSignedUrl(ticket, AttachmentType.BEFORE, ticket.getImagePath()));
+        blackhole.consume(accessService.buildSignedUrl(ticket, AttachmentType.AFTER, ticket.getAfterImagePath()));
+    }
+
+    @Benchmark
+    public void signTicketUrlsPerCallMac(Blackhole blackhole) throws Exception {
+        blackhole.consume(legacySignedUrl(ticket.getId(), "before", "3f2a9c1e-7d4b-4e0a-9a51-0c2d7e6b8f14.jpg"));
+        blackhole.consume(legacySignedUrl(ticket.getId(), "after", "a81c55d0-2b6e-4f7c-8d3e-5e9f1a0b2c47.webp"));
+    }
+
+    private static String legacySignedUrl(Long ticketId, String type, String reference) throws Exception {
+        long expiresAt = Instant.now().plusSeconds(300).getEpochSecond();
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        byte[] digest = mac.doFinal(
+                ("%d:%s:%s:%d".formatted(ticketId, type, reference, expiresAt)).getBytes(StandardCharsets.UTF_8));
+        String signature = Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        return "/api/tickets/%d/attachments/%s?expires=%d&signature=%s".formatted(ticketId, type, expiresAt, signature);
+    }
+}
@@ -0,0 +1,47 @@
+package com.smartcampus.maintenance.service;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Pairwise title comparison used to confirm duplicate-check candidates: a near duplicate with a
+ * typo (full banded edit distance), an unrelated title (stops at the first row over the bound)
+ * and the trigram extraction done once per query.
+ *
+ * <p>Run with {@code mvn -q -Pbenchmarks test-compile exec:exec -Djmh.include=TitleSimilarityBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TitleSimilarityBenchmark {
+
+    private final String query = TitleSimilarity.normalize("Projector not working in lecture room 204");
+    private final String nearDuplicate = TitleSimilarity.normalize("Projecter not workng in lecture room 204");
+    private final String unrelated = TitleSimilarity.normalize("Toilet blocked on second floor of library");
+
+    @Benchmark
+    public double similarityNearDuplicate() {
+        return TitleSimilarity.similarity(query, nearDuplicate);
+    }
+
+    @Benchmark
+    public double similarityUnrelated() {
+        return TitleSimilarity.similarity(query, unrelated);
+    }
+
+    @Benchmark
+    public long[] trigrams() {
+        return TitleSimilarity.trigrams(query);
+    }
+}
@@ -0,0 +1,488 @@
+package com.smartcampus.maintenance.loadtest;
+
+import com.smartcampus.maintenance.entity.enums.NotificationType;
+import com.smartcampus.maintenance.entity.enums.Role;
+import com.smartcampus.maintenance.entity.enums.TechnicianSpecialty;
+import com.smartcampus.maintenance.entity.enums.TicketStatus;
+import com.smartcampus.maintenance.entity.enums.UrgencyLevel;
+import com.smartcampus.maintenance.util.TicketSearchText;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.flywaydb.core.Flyway;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Bulk-loads a synthetic campus (buildings, users, tickets with their status logs, and
+ * notifications) through batched JDBC inserts, so production-sized behaviour can be reproduced
+ * on a laptop against H2 or MySQL.
+ *
+ * <p>The same seed, sizes and anchor date always produce the same rows. Ids continue from the
+ * current maximum of each table, so the schema (migrated here with the application's Flyway
+ * scripts) may already hold the bootstrap admin, but the generator refuses to run twice on the
+ * same database. Analytics rollups and SLA deadlines are left to the application, which rebuilds
+ * and backfills them on startup.</p>
+ *
+ * <p>Configured through the environment: {@code DB_URL}, {@code DB_USERNAME} and
+ * {@code DB_PASSWORD} as for the application, plus {@code LOADTEST_SEED}, {@code LOADTEST_USERS},
+ * {@code LOADTEST_TICKETS}, {@code LOADTEST_NOTIFICATIONS}, {@code LOADTEST_PASSWORD} and
+ * {@code LOADTEST_ANCHOR_DATE}.</p>
+ */
+public final class CampusDatasetGenerator {
+
+    static final String USERNAME_PREFIX = "lt_";
+    static final String ADMIN_USERNAME = USERNAME_PREFIX + "admin_%d";
+    static final String TECHNICIAN_USERNAME = USERNAME_PREFIX + "tech_%d";
+    static final String STUDENT_USERNAME = USERNAME_PREFIX + "student_%d";
+    static final String DEFAULT_PASSWORD = "LoadTest#2025!";
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int BUILDINGS = 24;
+    private static final int OPEN_TICKET_AGE_DAYS = 3;
+    private static final int HISTORY_DAYS = 365;
+    private static final int NOTIFICATION_HISTORY_DAYS = 90;
+
+    private final Connection connection;
+    private final Random random;
+    private final int userCount;
+    private final int ticketCount;
+    private final int notificationCount;
+    private final String password;
+    private final LocalDateTime anchor;
+
+    private final List<Long> buildingIds = new ArrayList<>();
+    private final List<String> buildingNames = new ArrayList<>();
+    private final List<RequestTypeRow> requestTypes = new ArrayList<>();
+    private long firstAdminId;
+    private long firstTechnicianId;
+    private long firstStudentId;
+    private int adminCount;
+    private int technicianCount;
+    private int studentCount;
+    private long firstTicketId;
+
+    private CampusDatasetGenerator(
+            Connection connection,
+            long seed,
+            int userCount,
+            int ticketCount,
+            int notificationCount,
+            String password,
+            LocalDate anchorDate) {
+        this.connection = connection;
+        this.random = new Random(seed);
+        this.userCount = userCount;
+        this.ticketCount = ticketCount;
+        this.notificationCount = notificationCount;
+        this.password = password;
+        this.anchor = anchorDate.atStartOfDay();
+    }
+
+    public static void main(String[] args) throws SQLException {
+        String url = LoadTestConfig.string(
+                "DB_URL", "jdbc:h2:file:./data/smart-campus-maintenance;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        String username = LoadTestConfig.string("DB_USERNAME", "sa");
+        String dbPassword = LoadTestConfig.string("DB_PASSWORD", "");
+
+        Flyway.configure()
+                .dataSource(url, username, dbPassword)
+                .locations("classpath:db/migration", "classpath:db/vendor/" + (isH2(url) ? "h2" : "mysql"))
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, username, dbPassword)) {
+            connection.setAutoCommit(false);
+            new CampusDatasetGenerator(
+                    connection,
+                    LoadTestConfig.longValue("LOADTEST_SEED", 42L),
+                    LoadTestConfig.integer("LOADTEST_USERS", 30_000),
+                    LoadTestConfig.integer("LOADTEST_TICKETS", 200_000),
+                    LoadTestConfig.integer("LOADTEST_NOTIFICATIONS", 2_000_000),
+                    LoadTestConfig.string("LOADTEST_PASSWORD", DEFAULT_PASSWORD),
+                    LocalDate.parse(LoadTestConfig.string("LOADTEST_ANCHOR_DATE", LocalDate.now().toString())))
+                    .generate(isH2(url));
+        }
+    }
+
+    private static boolean isH2(String url) {
+        return url.startsWith("jdbc:h2:");
+    }
+
+    private void generate(boolean h2) throws SQLException {
+        if (count("select count(*) from users where left(username, 3) = '" + USERNAME_PREFIX + "'") > 0) {
+            throw new IllegalStateException("Load-test users already exist; generate into an empty database");
+        }
+        long startedAt = System.nanoTime();
+        loadRequestTypes();
+        insertBuildings();
+        insertUsers();
+        insertTickets();
+        insertNotifications();
+        if (h2) {
+            for (String table : List.of("buildings", "users", "tickets", "ticket_logs", "notifications")) {
+                restartIdentity(table);
+            }
+            connection.commit();
+        }
+        System.out.printf("Generated %d users, %d tickets and %d notifications in %d s%n",
+                userCount, ticketCount, notificationCount, (System.nanoTime() - startedAt) / 1_000_000_000L);
+    }
+
+    private void loadRequestTypes() throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("""
+                        select rt.id, rt.label, d.domain_key
+                        from request_types rt
+                        join service_domains d on d.id = rt.service_domain_id
+                        where rt.active = true
+                        order by rt.id
+                        """)) {
+            while (rows.next()) {
+                requestTypes.add(new RequestTypeRow(rows.getLong(1), rows.getString(2), rows.getString(3)));
+            }
+        }
+        if (requestTypes.isEmpty()) {
+            throw new IllegalStateException("No active request types; the catalog migration has not run");
+        }
+    }
+
+    private void insertBuildings() throws SQLException {
+        long nextId = nextId("buildings");
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into buildings (id, name, code, floors, active, sort_order, created_at) values (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= BUILDINGS; i++) {
+                long id = nextId++;
+                String name = "Load Test Hall %02d".formatted(i);
+                insert.setLong(1, id);
+                insert.setString(2, name);
+                insert.setString(3, "LT-%02d".formatted(i));
+                insert.setInt(4, 2 + random.nextInt(7));
+                insert.setBoolean(5, true);
+                insert.setInt(6, 100 + i);
+                insert.setTimestamp(7, Timestamp.valueOf(anchor.minusDays(HISTORY_DAYS + 30)));
+                insert.addBatch();
+                buildingIds.add(id);
+                buildingNames.add(name);
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private void insertUsers() throws SQLException {
+        adminCount = Math.max(2, userCount / 3_000);
+        technicianCount = Math.max(5, userCount / 50);
+        studentCount = Math.max(1, userCount - adminCount - technicianCount);
+        String passwordHash = new BCryptPasswordEncoder().encode(password);
+        TechnicianSpecialty[] specialties = TechnicianSpecialty.values();
+
+        long nextId = nextId("users");
+        firstAdminId = nextId;
+        firstTechnicianId = firstAdminId + adminCount;
+        firstStudentId = firstTechnicianId + technicianCount;
+        Progress progress = new Progress("users", adminCount + technicianCount + studentCount);
+        try (PreparedStatement user = connection.prepareStatement("""
+                        insert into users (id, username, email, password_hash, role, full_name, email_verified,
+                                           token_version, mfa_enabled, primary_building_id, created_at)
+                        values (?, ?, ?, ?, ?, ?, true, 0, false, ?, ?)
+                        """);
+                PreparedStatement specialty = connection.prepareStatement(
+                        "insert into user_specialties (user_id, specialty) values (?, ?)")) {
+            int pending = 0;
+            for (int i = 0; i < adminCount + technicianCount + studentCount; i++) {
+                long id = nextId++;
+                Role role;
+                String username;
+                if (i < adminCount) {
+                    role = Role.ADMIN;
+                    username = ADMIN_USERNAME.formatted(i + 1);
+                } else if (i < adminCount + technicianCount) {
+                    role = Role.MAINTENANCE;
+                    username = TECHNICIAN_USERNAME.formatted(i - adminCount + 1);
+                } else {
+                    role = Role.STUDENT;
+                    username = STUDENT_USERNAME.formatted(i - adminCount - technicianCount + 1);
+                }
+                user.setLong(1, id);
+                user.setString(2, username);
+                user.setString(3, username + "@loadtest.campus.local");
+                user.setString(4, passwordHash);
+                user.setString(5, role.name());
+                user.setString(6, "Load Test " + username.substring(USERNAME_PREFIX.length()).replace('_', ' '));
+                user.setLong(7, buildingIds.get(random.nextInt(buildingIds.size())));
+                user.setTimestamp(8, Timestamp.valueOf(anchor.minusDays(HISTORY_DAYS + 1 + random.nextInt(700))));
+                user.addBatch();
+                if (role == Role.MAINTENANCE) {
+                    int first = random.nextInt(specialties.length);
+                    specialty.setLong(1, id);
+                    specialty.setString(2, specialties[first].name());
+                    specialty.addBatch();
+                    if (random.nextBoolean()) {
+                        specialty.setLong(1, id);
+                        specialty.setString(2, specialties[(first + 1 + random.nextInt(specialties.length - 1)) % specialties.length].name());
+                        specialty.addBatch();
+                    }
+                }
+                if (++pending == BATCH_SIZE) {
+                    user.executeBatch();
+                    specialty.executeBatch();
+                    connection.commit();
+                    progress.advance(pending);
+                    pending = 0;
+                }
+            }
+            user.executeBatch();
+            specialty.executeBatch();
+            connection.commit();
+            progress.advance(pending);
+        }
+    }
+
+    private void insertTickets() throws SQLException {
+        long nextTicketId = nextId("tickets");
+        long nextLogId = nextId("ticket_logs");
+        firstTicketId = nextTicketId;
+        LocalDateTime historyStart = anchor.minusDays(HISTORY_DAYS);
+        long spanMinutes = HISTORY_DAYS * 24L * 60L;
+        Progress progress = new Progress("tickets", ticketCount);
+        try (PreparedStatement ticket = connection.prepareStatement("""
+                        insert into tickets (id, title, description, category, building, building_id, request_type_id,
+                                             location, urgency, status, created_by, assigned_to,
+                                             assignment_review_required, created_at, updated_at, resolved_at, search_text)
+                        values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?, ?, ?)
+                        """);
+                PreparedStatement log = connection.prepareStatement("""
+                        insert into ticket_logs (id, ticket_id, old_status, new_status, changed_by, note, `timestamp`)
+                        values (?, ?, ?, ?, ?, ?, ?)
+                        """)) {
+            int pending = 0;
+            for (int i = 0; i < ticketCount; i++) {
+                long id = nextTicketId++;
+                LocalDateTime createdAt = historyStart.plusMinutes(spanMinutes * i / ticketCount + random.nextInt(30));
+                boolean recent = createdAt.isAfter(anchor.minusDays(OPEN_TICKET_AGE_DAYS));
+                TicketStatus status = recent ? recentStatus() : settledStatus();
+                int buildingIndex = random.nextInt(buildingIds.size());
+                RequestTypeRow requestType = requestTypes.get(random.nextInt(requestTypes.size()));
+                int room = CampusVocabulary.room(random);
+                String title = CampusVocabulary.title(random, room);
+                String description = CampusVocabulary.description(random);
+                String location = "Room " + room;
+                long createdBy = firstStudentId + random.nextInt(studentCount);
+                Long assignedTo = switch (status) {
+                    case SUBMITTED, APPROVED, REJECTED -> null;
+                    default -> firstTechnicianId + random.nextInt(technicianCount);
+                };
+                LocalDateTime resolvedAt = status == TicketStatus.RESOLVED || status == TicketStatus.CLOSED
+                        ? min(createdAt.plusHours(2 + random.nextInt(240)), anchor.minusMinutes(1))
+                        : null;
+                LocalDateTime updatedAt = resolvedAt != null
+                        ? resolvedAt
+                        : status == TicketStatus.SUBMITTED ? createdAt : min(createdAt.plusHours(1 + random.nextInt(48)), anchor.minusMinutes(1));
+
+                ticket.setLong(1, id);
+                ticket.setString(2, title);
+                ticket.setString(3, description);
+                ticket.setString(4, requestType.domainKey());
+                ticket.setString(5, buildingNames.get(buildingIndex));
+                ticket.setLong(6, buildingIds.get(buildingIndex));
+                ticket.setLong(7, requestType.id());
+                ticket.setString(8, location);
+                ticket.setString(9, urgency().name());
+                ticket.setString(10, status.name());
+                ticket.setLong(11, createdBy);
+                if (assignedTo == null) {
+                    ticket.setNull(12, Types.BIGINT);
+                } else {
+                    ticket.setLong(12, assignedTo);
+                }
+                ticket.setTimestamp(13, Timestamp.valueOf(createdAt));
+                ticket.setTimestamp(14, Timestamp.valueOf(updatedAt));
+                ticket.setTimestamp(15, resolvedAt == null ? null : Timestamp.valueOf(resolvedAt));
+                ticket.setString(16, TicketSearchText.document(
+                        title, description, location, buildingNames.get(buildingIndex), requestType.label()));
+                ticket.addBatch();
+
+                addLog(log, nextLogId++, id, null, TicketStatus.SUBMITTED, createdBy, "Ticket submitted", createdAt);
+                if (status != TicketStatus.SUBMITTED) {
+                    long changedBy = assignedTo != null ? assignedTo : firstAdminId + random.nextInt(adminCount);
+                    addLog(log, nextLogId++, id, TicketStatus.SUBMITTED, status, changedBy, null, updatedAt);
+                }
+                if (++pending == BATCH_SIZE) {
+                    ticket.executeBatch();
+                    log.executeBatch();
+                    connection.commit();
+                    progress.advance(pending);
+                    pending = 0;
+                }
+            }
+            ticket.executeBatch();
+            log.executeBatch();
+            connection.commit();
+            progress.advance(pending);
+        }
+    }
+
+    private void insertNotifications() throws SQLException {
+        long nextId = nextId("notifications");
+        int userTotal = adminCount + technicianCount + studentCount;
+        NotificationType[] types = {
+            NotificationType.TICKET_UPDATE, NotificationType.TICKET_UPDATE, NotificationType.ASSIGNMENT,
+            NotificationType.COMMENT, NotificationType.SLA_BREACH, NotificationType.ANNOUNCEMENT
+        };
+        LocalDateTime historyStart = anchor.minusDays(NOTIFICATION_HISTORY_DAYS);
+        long spanSeconds = NOTIFICATION_HISTORY_DAYS * 24L * 3600L;
+        Progress progress = new Progress("notifications", notificationCount);
+        try (PreparedStatement insert = connection.prepareStatement("""
+                insert into notifications (id, user_id, title, message, type, is_read, link_url, created_at)
+                values (?, ?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            int pending = 0;
+            for (int i = 0; i < notificationCount; i++) {
+                long ticketId = firstTicketId + random.nextInt(Math.max(1, ticketCount));
+                NotificationType type = types[random.nextInt(types.length)];
+                LocalDateTime createdAt = historyStart.plusSeconds(spanSeconds * i / notificationCount);
+                boolean read = createdAt.isBefore(anchor.minusDays(7)) ? random.nextInt(10) > 0 : random.nextBoolean();
+                insert.setLong(1, nextId++);
+                insert.setLong(2, firstAdminId + random.nextInt(userTotal));
+                insert.setString(3, switch (type) {
+                    case ASSIGNMENT -> "Ticket #" + ticketId + " assigned";
+                    case COMMENT -> "New comment on ticket #" + ticketId;
+                    case SLA_BREACH -> "SLA breached for ticket #" + ticketId;
+                    case ANNOUNCEMENT -> "Campus maintenance announcement";
+                    default -> "Ticket #" + ticketId + " updated";
+                });
+                insert.setString(4, "Open the ticket to see the latest changes.");
+                insert.setString(5, type.name());
+                insert.setBoolean(6, read);
+                insert.setString(7, type == NotificationType.ANNOUNCEMENT ? null : "/tickets/" + ticketId);
+                insert.setTimestamp(8, Timestamp.valueOf(createdAt));
+                insert.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    insert.executeBatch();
+                    connection.commit();
+                    progress.advance(pending);
+                    pending = 0;
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+            progress.advance(pending);
+        }
+    }
+
+    private static void addLog(
+            PreparedStatement log,
+            long id,
+            long ticketId,
+            TicketStatus oldStatus,
+            TicketStatus newStatus,
+            long changedBy,
+            String note,
+            LocalDateTime timestamp) throws SQLException {
+        log.setLong(1, id);
+        log.setLong(2, ticketId);
+        log.setString(3, oldStatus == null ? null : oldStatus.name());
+        log.setString(4, newStatus.name());
+        log.setLong(5, changedBy);
+        log.setString(6, note);
+        log.setTimestamp(7, Timestamp.valueOf(timestamp));
+        log.addBatch();
+    }
+
+    private TicketStatus recentStatus() {
+        int roll = random.nextInt(100);
+        if (roll < 25) {
+            return TicketStatus.SUBMITTED;
+        }
+        if (roll < 35) {
+            return TicketStatus.APPROVED;
+        }
+        if (roll < 55) {
+            return TicketStatus.ASSIGNED;
+        }
+        if (roll < 65) {
+            return TicketStatus.ACCEPTED;
+        }
+        if (roll < 85) {
+            return TicketStatus.IN_PROGRESS;
+        }
+        return TicketStatus.RESOLVED;
+    }
+
+    private TicketStatus settledStatus() {
+        int roll = random.nextInt(100);
+        if (roll < 80) {
+            return TicketStatus.CLOSED;
+        }
+        return roll < 92 ? TicketStatus.RESOLVED : TicketStatus.REJECTED;
+    }
+
+    private UrgencyLevel urgency() {
+        int roll = random.nextInt(100);
+        return roll < 45 ? UrgencyLevel.LOW : roll < 85 ? UrgencyLevel.MEDIUM : UrgencyLevel.HIGH;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private long nextId(String table) throws SQLException {
+        return count("select coalesce(max(id), 0) + 1 from " + table);
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rows = statement.executeQuery(sql)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    /**
+     * Explicit ids do not move an H2 identity column, so the next application insert would
+     * collide without this; MySQL advances {@code AUTO_INCREMENT} on its own.
+     */
+    private void restartIdentity(String table) throws SQLException {
+        long next = nextId(table);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("alter table " + table + " alter column id restart with " + next);
+        }
+    }
+
+    private record RequestTypeRow(long id, String label, String domainKey) {
+    }
+
+    private static final class Progress {
+
+        private final String label;
+        private final int total;
+        private final long startedAt = System.nanoTime();
+        private int done;
+        private int reportedAt;
+
+        private Progress(String label, int total) {
+            this.label = label;
+            this.total = total;
+        }
+
+        private void advance(int rows) {
+            done += rows;
+            if (done - reportedAt >= 100_000 || (done == total && reportedAt != total)) {
+                reportedAt = done;
+                double seconds = Math.max(1e-3, (System.nanoTime() - startedAt) / 1e9);
+                System.out.printf("  %-13s %,10d / %,d (%,.0f rows/s)%n", label, done, total, done / seconds);
+            }
+        }
+    }
+}
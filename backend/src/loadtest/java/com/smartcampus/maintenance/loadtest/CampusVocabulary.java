@@ -0,0 +1,47 @@
+package com.smartcampus.maintenance.loadtest;
+
+import java.util.Random;
+
+/**
+ * Word lists for synthetic tickets, shared by the dataset generator and the submit step of the
+ * load scenario so generated and submitted titles overlap the way real duplicates do.
+ */
+final class CampusVocabulary {
+
+    private static final String[] PROBLEMS = {
+        "Projector not working", "Wifi keeps dropping", "Leaking tap", "Broken door handle",
+        "Window will not close", "Flickering lights", "Heater not turning on", "Toilet blocked",
+        "Power socket sparking", "Ceiling stain spreading", "Noisy air conditioning", "Door lock jammed",
+        "Printer out of order", "Wet floor near entrance", "Smoke detector beeping", "Desk chair broken",
+        "No hot water", "Lift stuck between floors", "Whiteboard falling off wall", "Network port dead"
+    };
+    private static final String[] PLACES = {
+        "lecture room", "lab", "library", "study room", "corridor", "office", "cafeteria", "washroom",
+        "seminar room", "workshop"
+    };
+    private static final String[] DETAILS = {
+        "It started this morning and is getting worse.",
+        "Students reported it during the first lecture.",
+        "This has happened before and was only partly fixed.",
+        "The area has been taped off for safety.",
+        "It affects everyone using the room today.",
+        "Please check before the evening classes start.",
+        "A photo can be provided on request.",
+        "The problem comes and goes every few minutes."
+    };
+
+    private CampusVocabulary() {
+    }
+
+    static String title(Random random, int room) {
+        return PROBLEMS[random.nextInt(PROBLEMS.length)] + " in " + PLACES[random.nextInt(PLACES.length)] + " " + room;
+    }
+
+    static String description(Random random) {
+        return DETAILS[random.nextInt(DETAILS.length)] + " " + DETAILS[random.nextInt(DETAILS.length)];
+    }
+
+    static int room(Random random) {
+        return 100 * (1 + random.nextInt(6)) + random.nextInt(40);
+    }
+}
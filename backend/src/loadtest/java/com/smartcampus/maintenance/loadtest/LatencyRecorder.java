@@ -0,0 +1,83 @@
+package com.smartcampus.maintenance.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-endpoint latency samples for one load run. Every sample is kept so percentiles are exact
+ * (nearest rank); a few minutes at a few thousand requests per second is only megabytes.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long latencyNanos, boolean success) {
+        endpoints.computeIfAbsent(endpoint, ignored -> new Samples()).add(latencyNanos, success);
+    }
+
+    /**
+     * Summary per endpoint, sorted by name, with latencies in milliseconds.
+     */
+    Map<String, Summary> summarize(double measuredSeconds) {
+        Map<String, Summary> summaries = new TreeMap<>();
+        endpoints.forEach((endpoint, samples) -> summaries.put(endpoint, samples.summarize(measuredSeconds)));
+        return summaries;
+    }
+
+    record Summary(long requests, long errors, double throughputPerSecond, double p50Ms, double p95Ms, double p99Ms,
+            double maxMs) {
+
+        Map<String, Object> toMap() {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("requests", requests);
+            values.put("errors", errors);
+            values.put("throughputPerSecond", throughputPerSecond);
+            values.put("p50Ms", p50Ms);
+            values.put("p95Ms", p95Ms);
+            values.put("p99Ms", p99Ms);
+            values.put("maxMs", maxMs);
+            return values;
+        }
+    }
+
+    private static final class Samples {
+
+        private long[] latencies = new long[1_024];
+        private int size;
+        private long errors;
+
+        private synchronized void add(long latencyNanos, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        private synchronized Summary summarize(double measuredSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new Summary(
+                    size,
+                    errors,
+                    size / Math.max(measuredSeconds, 1e-3),
+                    percentile(sorted, 50),
+                    percentile(sorted, 95),
+                    percentile(sorted, 99),
+                    size == 0 ? 0 : sorted[size - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.smartcampus.maintenance.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scripted traffic mix against a running backend, for datasets built by
+ * {@link CampusDatasetGenerator}. Virtual users pick one step per iteration:
+ *
+ * <ul>
+ *   <li>40% notification polling (unread count and list), any role;</li>
+ *   <li>25% admin ticket list with a random filter, following the cursor to a second page now and then;</li>
+ *   <li>15% technician queue;</li>
+ *   <li>10% student submit (duplicate check, create, then the student's own list);</li>
+ *   <li>10% analytics dashboard refresh.</li>
+ * </ul>
+ *
+ * <p>Only requests that start after the warm-up are recorded. Latency percentiles per endpoint
+ * are printed and written as JSON to {@code LOADTEST_REPORT_FILE}. Everything runs against the
+ * given base URL, so no network access beyond the backend is needed.</p>
+ *
+ * <p>Configured through the environment: {@code LOADTEST_BASE_URL}, {@code LOADTEST_VIRTUAL_USERS},
+ * {@code LOADTEST_DURATION_SECONDS}, {@code LOADTEST_WARMUP_SECONDS}, {@code LOADTEST_THINK_TIME_MS},
+ * {@code LOADTEST_REQUEST_TIMEOUT_SECONDS}, {@code LOADTEST_STUDENT_SESSIONS},
+ * {@code LOADTEST_TECHNICIAN_SESSIONS}, {@code LOADTEST_SEED}, {@code LOADTEST_PASSWORD} and
+ * {@code LOADTEST_REPORT_FILE}. A request that times out counts as an error for its endpoint.</p>
+ */
+public final class LoadScenario {
+
+    private static final String[] STATUS_FILTERS = {"SUBMITTED", "ASSIGNED", "IN_PROGRESS", "RESOLVED", "CLOSED"};
+    private static final String[] URGENCY_FILTERS = {"LOW", "MEDIUM", "HIGH"};
+    private static final String[] DOMAIN_FILTERS = {"ELECTRICAL", "PLUMBING", "HVAC", "IT", "CLEANING"};
+    private static final String[] SEARCH_TERMS = {"projector", "leaking", "wifi", "door lock", "heater", "library"};
+    private static final String[] ANALYTICS = {
+        "summary", "resolution-time", "top-buildings", "crew-performance", "sla-compliance"
+    };
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final AtomicLong iterations = new AtomicLong();
+
+    private final String baseUrl;
+    private final String password;
+    private final long thinkTimeMs;
+    private final Duration requestTimeout;
+    private final List<String> adminTokens = new ArrayList<>();
+    private final List<String> technicianTokens = new ArrayList<>();
+    private final List<String> studentTokens = new ArrayList<>();
+    private final List<Long> buildingIds = new ArrayList<>();
+    private final List<Long> requestTypeIds = new ArrayList<>();
+    private volatile long recordFromNanos;
+
+    private LoadScenario(String baseUrl, String password, long thinkTimeMs, Duration requestTimeout) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.password = password;
+        this.thinkTimeMs = thinkTimeMs;
+        this.requestTimeout = requestTimeout;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadScenario scenario = new LoadScenario(
+                LoadTestConfig.string("LOADTEST_BASE_URL", "http://localhost:8080"),
+                LoadTestConfig.string("LOADTEST_PASSWORD", CampusDatasetGenerator.DEFAULT_PASSWORD),
+                LoadTestConfig.longValue("LOADTEST_THINK_TIME_MS", 200),
+                Duration.ofSeconds(LoadTestConfig.longValue("LOADTEST_REQUEST_TIMEOUT_SECONDS", 30)));
+        scenario.signIn(
+                LoadTestConfig.integer("LOADTEST_TECHNICIAN_SESSIONS", 20),
+                LoadTestConfig.integer("LOADTEST_STUDENT_SESSIONS", 100));
+        scenario.loadCatalog();
+        scenario.run(
+                LoadTestConfig.integer("LOADTEST_VIRTUAL_USERS", 50),
+                LoadTestConfig.integer("LOADTEST_WARMUP_SECONDS", 10),
+                LoadTestConfig.integer("LOADTEST_DURATION_SECONDS", 60),
+                LoadTestConfig.longValue("LOADTEST_SEED", 42L),
+                Path.of(LoadTestConfig.string("LOADTEST_REPORT_FILE", "target/loadtest-report.json")));
+    }
+
+    private void signIn(int technicians, int students) throws IOException, InterruptedException {
+        adminTokens.add(login(CampusDatasetGenerator.ADMIN_USERNAME.formatted(1)));
+        adminTokens.add(login(CampusDatasetGenerator.ADMIN_USERNAME.formatted(2)));
+        for (int i = 1; i <= technicians; i++) {
+            technicianTokens.add(login(CampusDatasetGenerator.TECHNICIAN_USERNAME.formatted(i)));
+        }
+        for (int i = 1; i <= students; i++) {
+            studentTokens.add(login(CampusDatasetGenerator.STUDENT_USERNAME.formatted(i)));
+        }
+        System.out.printf("Signed in %d admins, %d technicians and %d students%n",
+                adminTokens.size(), technicianTokens.size(), studentTokens.size());
+    }
+
+    private String login(String username) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of("username", username, "password", password));
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                        .timeout(requestTimeout)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode token = response.statusCode() == 200 ? objectMapper.readTree(response.body()).path("accessToken") : null;
+        if (token == null || !token.isTextual()) {
+            throw new IllegalStateException("Login failed for " + username + " (HTTP " + response.statusCode()
+                    + "); generate the dataset first and run the backend with rate limiting and MFA off");
+        }
+        return token.asText();
+    }
+
+    private void loadCatalog() throws IOException, InterruptedException {
+        String token = adminTokens.get(0);
+        for (JsonNode building : objectMapper.readTree(get("/api/buildings", token).body())) {
+            buildingIds.add(building.path("id").asLong());
+        }
+        for (JsonNode requestType : objectMapper.readTree(get("/api/catalog/request-types", token).body())) {
+            requestTypeIds.add(requestType.path("id").asLong());
+        }
+    }
+
+    private void run(int virtualUsers, int warmupSeconds, int durationSeconds, long seed, Path reportFile)
+            throws IOException, InterruptedException {
+        long startedAt = System.nanoTime();
+        recordFromNanos = startedAt + Duration.ofSeconds(warmupSeconds).toNanos();
+        long stopAt = recordFromNanos + Duration.ofSeconds(durationSeconds).toNanos();
+        System.out.printf("Running %d virtual users: %d s warm-up, %d s measured%n",
+                virtualUsers, warmupSeconds, durationSeconds);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < virtualUsers; user++) {
+                Random random = new Random(seed + user);
+                executor.submit(() -> {
+                    while (System.nanoTime() < stopAt) {
+                        iterate(random);
+                    }
+                    return null;
+                });
+            }
+        }
+
+        double measuredSeconds = (System.nanoTime() - recordFromNanos) / 1e9;
+        Map<String, LatencyRecorder.Summary> summaries = recorder.summarize(measuredSeconds);
+        printReport(summaries);
+        writeReport(reportFile, virtualUsers, durationSeconds, summaries);
+    }
+
+    private void iterate(Random random) throws InterruptedException {
+        int roll = random.nextInt(100);
+        try {
+            if (roll < 40) {
+                pollNotifications(pick(random, allTokens(random)));
+            } else if (roll < 65) {
+                listTicketsAsAdmin(random);
+            } else if (roll < 80) {
+                timed("tickets.assigned", () -> get("/api/tickets/assigned", pick(random, technicianTokens)));
+            } else if (roll < 90) {
+                submitTicketAsStudent(random);
+            } else {
+                refreshAnalytics(pick(random, adminTokens));
+            }
+        } catch (IOException ex) {
+            // Already recorded as an error for the endpoint; keep the virtual user going.
+        }
+        iterations.incrementAndGet();
+        if (thinkTimeMs > 0) {
+            Thread.sleep(thinkTimeMs / 2 + ThreadLocalRandom.current().nextLong(thinkTimeMs));
+        }
+    }
+
+    private List<String> allTokens(Random random) {
+        int roll = random.nextInt(10);
+        return roll == 0 ? adminTokens : roll < 3 ? technicianTokens : studentTokens;
+    }
+
+    private void pollNotifications(String token) throws IOException, InterruptedException {
+        timed("notifications.unread-count", () -> get("/api/notifications/unread-count", token));
+        timed("notifications.list", () -> get("/api/notifications", token));
+    }
+
+    private void listTicketsAsAdmin(Random random) throws IOException, InterruptedException {
+        String token = pick(random, adminTokens);
+        String filter = switch (random.nextInt(6)) {
+            case 0 -> "";
+            case 1 -> "&status=" + STATUS_FILTERS[random.nextInt(STATUS_FILTERS.length)];
+            case 2 -> "&urgency=" + URGENCY_FILTERS[random.nextInt(URGENCY_FILTERS.length)];
+            case 3 -> "&buildingId=" + pick(random, buildingIds);
+            case 4 -> "&serviceDomainKey=" + DOMAIN_FILTERS[random.nextInt(DOMAIN_FILTERS.length)];
+            default -> "&search=" + URLEncoder.encode(SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)], StandardCharsets.UTF_8);
+        };
+        HttpResponse<String> page = timed("tickets.page", () -> get("/api/tickets/page?limit=20" + filter, token));
+        if (page.statusCode() == 200 && random.nextInt(3) == 0) {
+            JsonNode cursor = objectMapper.readTree(page.body()).path("nextCursor");
+            if (cursor.isTextual()) {
+                String next = "/api/tickets/page?limit=20" + filter + "&cursor="
+                        + URLEncoder.encode(cursor.asText(), StandardCharsets.UTF_8);
+                timed("tickets.page.next", () -> get(next, token));
+            }
+        }
+    }
+
+    private void submitTicketAsStudent(Random random) throws IOException, InterruptedException {
+        String token = pick(random, studentTokens);
+        int room = CampusVocabulary.room(random);
+        Map<String, Object> ticket = new LinkedHashMap<>();
+        ticket.put("title", CampusVocabulary.title(random, room));
+        ticket.put("description", CampusVocabulary.description(random));
+        ticket.put("requestTypeId", pick(random, requestTypeIds));
+        ticket.put("buildingId", pick(random, buildingIds));
+        ticket.put("location", "Room " + room);
+        ticket.put("urgency", URGENCY_FILTERS[random.nextInt(URGENCY_FILTERS.length)]);
+        String body = objectMapper.writeValueAsString(ticket);
+        timed("tickets.duplicate-check", () -> post("/api/tickets/duplicate-check", token, body));
+        timed("tickets.create", () -> post("/api/tickets", token, body));
+        timed("tickets.my", () -> get("/api/tickets/my", token));
+    }
+
+    private void refreshAnalytics(String token) throws IOException, InterruptedException {
+        for (String report : ANALYTICS) {
+            timed("analytics." + report, () -> get("/api/analytics/" + report, token));
+        }
+    }
+
+    private HttpResponse<String> timed(String endpoint, Call call) throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = call.execute();
+            record(endpoint, started, response.statusCode() < 400);
+            return response;
+        } catch (IOException ex) {
+            record(endpoint, started, false);
+            throw ex;
+        }
+    }
+
+    private void record(String endpoint, long startedNanos, boolean success) {
+        if (startedNanos >= recordFromNanos) {
+            recorder.record(endpoint, System.nanoTime() - startedNanos, success);
+        }
+    }
+
+    private HttpResponse<String> get(String path, String token) throws IOException, InterruptedException {
+        return client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .timeout(requestTimeout)
+                        .header("Authorization", "Bearer " + token)
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String token, String json) throws IOException, InterruptedException {
+        return client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .timeout(requestTimeout)
+                        .header("Authorization", "Bearer " + token)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(json))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private void printReport(Map<String, LatencyRecorder.Summary> summaries) {
+        System.out.printf("%n%-28s %9s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms",
+                "p95 ms", "p99 ms");
+        summaries.forEach((endpoint, summary) -> System.out.printf("%-28s %9d %7d %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint, summary.requests(), summary.errors(), summary.throughputPerSecond(), summary.p50Ms(),
+                summary.p95Ms(), summary.p99Ms()));
+        System.out.printf("%d scenario iterations in total%n", iterations.get());
+    }
+
+    private void writeReport(Path reportFile, int virtualUsers, int durationSeconds,
+            Map<String, LatencyRecorder.Summary> summaries) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("baseUrl", baseUrl);
+        report.put("virtualUsers", virtualUsers);
+        report.put("durationSeconds", durationSeconds);
+        report.put("thinkTimeMs", thinkTimeMs);
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        summaries.forEach((endpoint, summary) -> endpoints.put(endpoint, summary.toMap()));
+        report.put("endpoints", endpoints);
+        Path parent = reportFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.println("Report written to " + reportFile.toAbsolutePath());
+    }
+
+    @FunctionalInterface
+    private interface Call {
+
+        HttpResponse<String> execute() throws IOException, InterruptedException;
+    }
+}
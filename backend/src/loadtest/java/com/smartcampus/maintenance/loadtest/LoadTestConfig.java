@@ -0,0 +1,24 @@
+package com.smartcampus.maintenance.loadtest;
+
+/**
+ * Environment lookups for the load-test tools, with the same {@code NAME} / default convention
+ * as {@code application.properties}.
+ */
+final class LoadTestConfig {
+
+    private LoadTestConfig() {
+    }
+
+    static String string(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    static int integer(String name, int defaultValue) {
+        return Integer.parseInt(string(name, Integer.toString(defaultValue)));
+    }
+
+    static long longValue(String name, long defaultValue) {
+        return Long.parseLong(string(name, Long.toString(defaultValue)));
+    }
+}
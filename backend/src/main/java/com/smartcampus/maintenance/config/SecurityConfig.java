@@ -31,6 +31,7 @@ import com.smartcampus.maintenance.exception.ErrorResponse;
 import com.smartcampus.maintenance.security.CustomUserDetailsService;
 import com.smartcampus.maintenance.security.JwtAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 
 @Configuration
@@ -42,13 +43,15 @@ public class SecurityConfig {
     private final ObjectMapper objectMapper;
     private final List<String> allowedOrigins;
     private final boolean h2ConsoleEnabled;
+    private final boolean prometheusPermitAll;
 
     public SecurityConfig(
         JwtAuthenticationFilter jwtAuthenticationFilter,
         CustomUserDetailsService userDetailsService,
         ObjectMapper objectMapper,
         @Value("${app.cors.allowed-origins:}") List<String> allowedOrigins,
-        @Value("${spring.h2.console.enabled:false}") boolean h2ConsoleEnabled
+        @Value("${spring.h2.console.enabled:false}") boolean h2ConsoleEnabled,
+        @Value("${app.metrics.prometheus.permit-all:false}") boolean prometheusPermitAll
     ) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.userDetailsService = userDetailsService;
@@ -60,6 +63,7 @@ public class SecurityConfig {
             .distinct()
             .toList();
         this.h2ConsoleEnabled = h2ConsoleEnabled;
+        this.prometheusPermitAll = prometheusPermitAll;
     }
 
     @Bean
@@ -96,6 +100,9 @@ public class SecurityConfig {
                 response.getWriter().write(objectMapper.writeValueAsString(error));
             }))
             .authorizeHttpRequests(auth -> {
+                // Async dispatches continue a request that was already authorized (streamed
+                // exports, SSE); the stateless JWT filter does not run again for them.
+                auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
                 auth.requestMatchers(
                         "/api/auth/login",
                         "/api/auth/register",
@@ -113,6 +120,12 @@ public class SecurityConfig {
                 }
                 auth.requestMatchers(HttpMethod.GET, "/api/tickets/*/attachments/*").permitAll();
                 auth.requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**").permitAll();
+                // Scrapers cannot sign in; open the endpoint only where the management port is private.
+                if (prometheusPermitAll) {
+                    auth.requestMatchers(HttpMethod.GET, "/actuator/prometheus").permitAll();
+                } else {
+                    auth.requestMatchers("/actuator/prometheus").hasRole("ADMIN");
+                }
                 auth.requestMatchers(HttpMethod.GET, "/api/analytics/public-summary").permitAll();
                 auth.requestMatchers(HttpMethod.GET, "/api/analytics/public-config").permitAll();
                 auth.requestMatchers(HttpMethod.GET, "/api/catalog/support-categories").permitAll();
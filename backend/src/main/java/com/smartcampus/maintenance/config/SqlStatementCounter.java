@@ -0,0 +1,56 @@
+package com.smartcampus.maintenance.config;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a {@link #count}
+ * block runs, so a service can report how many queries one decision cost. Unlike Hibernate
+ * statistics, which are global, concurrent requests do not inflate each other's counts.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<int[]> ACTIVE = new ThreadLocal<>();
+
+    public record Counted<T>(T result, int statements) {
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] statements = ACTIVE.get();
+        if (statements != null) {
+            statements[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Runs {@code work} and returns its result with the number of statements it issued. Nested
+     * blocks also count toward the enclosing one.
+     */
+    public <T> Counted<T> count(Supplier<T> work) {
+        int[] enclosing = ACTIVE.get();
+        int[] statements = new int[1];
+        ACTIVE.set(statements);
+        try {
+            return new Counted<>(work.get(), statements[0]);
+        } finally {
+            if (enclosing == null) {
+                ACTIVE.remove();
+            } else {
+                enclosing[0] += statements[0];
+                ACTIVE.set(enclosing);
+            }
+        }
+    }
+}
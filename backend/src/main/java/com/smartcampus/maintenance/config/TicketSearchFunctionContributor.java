@@ -0,0 +1,27 @@
+package com.smartcampus.maintenance.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers {@code ticket_text_match(searchText, booleanQuery, pattern)}, a relevance score that
+ * is positive when the ticket matches. MySQL answers it from the InnoDB full-text index; other
+ * databases (H2 in dev and tests) scan with a regular expression and score every match equally.
+ */
+public class TicketSearchFunctionContributor implements FunctionContributor {
+
+    public static final String FUNCTION_NAME = "ticket_text_match";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        String pattern = functionContributions.getDialect() instanceof MySQLDialect
+                ? "match(?1) against(?2 in boolean mode)"
+                : "case when regexp_like(?1, ?3) then 1.0 else 0.0 end";
+        functionContributions.getFunctionRegistry().registerPattern(
+                FUNCTION_NAME,
+                pattern,
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE));
+    }
+}
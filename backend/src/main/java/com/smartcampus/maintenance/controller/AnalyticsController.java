@@ -7,19 +7,27 @@ import com.smartcampus.maintenance.dto.analytics.PublicLandingStatsResponse;
 import com.smartcampus.maintenance.dto.analytics.ResolutionTimeResponse;
 import com.smartcampus.maintenance.dto.analytics.SlaComplianceResponse;
 import com.smartcampus.maintenance.dto.analytics.TopBuildingResponse;
+import com.smartcampus.maintenance.entity.Ticket;
 import com.smartcampus.maintenance.entity.User;
+import com.smartcampus.maintenance.entity.enums.TicketStatus;
+import com.smartcampus.maintenance.entity.enums.UrgencyLevel;
 import com.smartcampus.maintenance.service.AnalyticsService;
 import com.smartcampus.maintenance.service.CurrentUserService;
 import com.smartcampus.maintenance.service.PublicLandingConfigService;
 import com.smartcampus.maintenance.service.ReportService;
 import com.smartcampus.maintenance.service.SlaService;
+import java.time.LocalDate;
 import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/analytics")
@@ -81,12 +89,24 @@ public class AnalyticsController {
     }
 
     @GetMapping("/export/csv")
-    public ResponseEntity<byte[]> exportCsv() {
+    public ResponseEntity<StreamingResponseBody> exportCsv(
+            @RequestParam(value = "status", required = false) TicketStatus status,
+            @RequestParam(value = "serviceDomainKey", required = false) String serviceDomainKey,
+            @RequestParam(value = "requestTypeId", required = false) Long requestTypeId,
+            @RequestParam(value = "buildingId", required = false) Long buildingId,
+            @RequestParam(value = "urgency", required = false) UrgencyLevel urgency,
+            @RequestParam(value = "assignee", required = false) Long assigneeId,
+            @RequestParam(value = "reviewRequired", required = false) Boolean reviewRequired,
+            @RequestParam(value = "search", required = false) String search,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
         User actor = currentUserService.requireCurrentUser();
-        byte[] csv = reportService.exportTicketsCsv(actor);
+        Specification<Ticket> specification = reportService.ticketExportSpecification(actor, status, serviceDomainKey,
+                requestTypeId, buildingId, urgency, assigneeId, reviewRequired, search, from, to);
+        StreamingResponseBody body = out -> reportService.writeTicketsCsv(specification, out);
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=tickets-report.csv")
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(csv);
+                .body(body);
     }
 }
@@ -6,11 +6,13 @@ import com.smartcampus.maintenance.service.CurrentUserService;
 import com.smartcampus.maintenance.service.NotificationService;
 import java.util.List;
 import java.util.Map;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/notifications")
@@ -36,6 +38,12 @@ public class NotificationController {
         return Map.of("count", notificationService.getUnreadCount(actor));
     }
 
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications() {
+        User actor = currentUserService.requireCurrentUser();
+        return notificationService.subscribe(actor);
+    }
+
     @PutMapping("/{id}/read")
     public void markRead(@PathVariable Long id) {
         User actor = currentUserService.requireCurrentUser();
@@ -6,17 +6,23 @@ import com.smartcampus.maintenance.dto.ticket.DuplicateCheckResponse;
 import com.smartcampus.maintenance.dto.ticket.TicketAssignRequest;
 import com.smartcampus.maintenance.dto.ticket.TicketAssignmentResponseRequest;
 import com.smartcampus.maintenance.dto.ticket.TicketAssignmentRecommendationResponse;
+import com.smartcampus.maintenance.dto.ticket.TicketAttachmentUrlsRequest;
+import com.smartcampus.maintenance.dto.ticket.TicketAttachmentUrlsResponse;
 import com.smartcampus.maintenance.dto.ticket.TicketCreateRequest;
 import com.smartcampus.maintenance.dto.ticket.TicketDetailResponse;
 import com.smartcampus.maintenance.dto.ticket.TicketLogResponse;
+import com.smartcampus.maintenance.dto.ticket.TicketPageResponse;
 import com.smartcampus.maintenance.dto.ticket.TicketRateRequest;
 import com.smartcampus.maintenance.dto.ticket.TicketRatingResponse;
 import com.smartcampus.maintenance.dto.ticket.TicketResponse;
+import com.smartcampus.maintenance.dto.ticket.TicketSearchResponse;
 import com.smartcampus.maintenance.dto.ticket.TicketStatusUpdateRequest;
+import com.smartcampus.maintenance.dto.ticket.WorkloadIndexConsistencyResponse;
 import com.smartcampus.maintenance.entity.User;
 import com.smartcampus.maintenance.entity.enums.TicketStatus;
 import com.smartcampus.maintenance.entity.enums.UrgencyLevel;
 import com.smartcampus.maintenance.service.CurrentUserService;
+import com.smartcampus.maintenance.service.TicketSearchService;
 import com.smartcampus.maintenance.service.TicketService;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -41,10 +47,15 @@ import org.springframework.web.bind.annotation.RequestPart;
 public class TicketController {
 
     private final TicketService ticketService;
+    private final TicketSearchService ticketSearchService;
     private final CurrentUserService currentUserService;
 
-    public TicketController(TicketService ticketService, CurrentUserService currentUserService) {
+    public TicketController(
+            TicketService ticketService,
+            TicketSearchService ticketSearchService,
+            CurrentUserService currentUserService) {
         this.ticketService = ticketService;
+        this.ticketSearchService = ticketSearchService;
         this.currentUserService = currentUserService;
     }
 
@@ -73,22 +84,65 @@ public class TicketController {
             @RequestParam(value = "urgency", required = false) UrgencyLevel urgency,
             @RequestParam(value = "assignee", required = false) Long assigneeId,
             @RequestParam(value = "reviewRequired", required = false) Boolean reviewRequired,
-            @RequestParam(value = "search", required = false) String search) {
+            @RequestParam(value = "search", required = false) String search,
+            @RequestParam(value = "includeAttachmentUrls", defaultValue = "false") boolean includeAttachmentUrls) {
         User actor = currentUserService.requireCurrentUser();
         return ticketService.getAllTickets(actor, status, serviceDomainKey, requestTypeId, buildingId, urgency,
-                assigneeId, reviewRequired, search);
+                assigneeId, reviewRequired, search, includeAttachmentUrls);
+    }
+
+    @GetMapping("/page")
+    public TicketPageResponse getTicketPage(
+            @RequestParam(value = "status", required = false) TicketStatus status,
+            @RequestParam(value = "serviceDomainKey", required = false) String serviceDomainKey,
+            @RequestParam(value = "requestTypeId", required = false) Long requestTypeId,
+            @RequestParam(value = "buildingId", required = false) Long buildingId,
+            @RequestParam(value = "urgency", required = false) UrgencyLevel urgency,
+            @RequestParam(value = "assignee", required = false) Long assigneeId,
+            @RequestParam(value = "reviewRequired", required = false) Boolean reviewRequired,
+            @RequestParam(value = "search", required = false) String search,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "includeAttachmentUrls", defaultValue = "false") boolean includeAttachmentUrls) {
+        User actor = currentUserService.requireCurrentUser();
+        return ticketService.getTicketPage(actor, status, serviceDomainKey, requestTypeId, buildingId, urgency,
+                assigneeId, reviewRequired, search, cursor, limit, includeAttachmentUrls);
     }
 
     @GetMapping("/my")
-    public List<TicketResponse> getMyTickets() {
+    public List<TicketResponse> getMyTickets(
+            @RequestParam(value = "includeAttachmentUrls", defaultValue = "false") boolean includeAttachmentUrls) {
         User actor = currentUserService.requireCurrentUser();
-        return ticketService.getMyTickets(actor);
+        return ticketService.getMyTickets(actor, includeAttachmentUrls);
     }
 
     @GetMapping("/assigned")
-    public List<TicketResponse> getAssignedTickets() {
+    public List<TicketResponse> getAssignedTickets(
+            @RequestParam(value = "includeAttachmentUrls", defaultValue = "false") boolean includeAttachmentUrls) {
+        User actor = currentUserService.requireCurrentUser();
+        return ticketService.getAssignedTickets(actor, includeAttachmentUrls);
+    }
+
+    @PostMapping("/attachment-urls")
+    public List<TicketAttachmentUrlsResponse> signAttachmentUrls(
+            @Valid @RequestBody TicketAttachmentUrlsRequest request) {
+        User actor = currentUserService.requireCurrentUser();
+        return ticketService.signAttachmentUrls(request, actor);
+    }
+
+    @GetMapping("/search")
+    public TicketSearchResponse searchTickets(
+            @RequestParam("q") String q,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        User actor = currentUserService.requireCurrentUser();
+        return ticketSearchService.search(actor, q, page, size);
+    }
+
+    @GetMapping("/workload-index/consistency")
+    public WorkloadIndexConsistencyResponse getWorkloadIndexConsistency() {
         User actor = currentUserService.requireCurrentUser();
-        return ticketService.getAssignedTickets(actor);
+        return ticketService.checkWorkloadIndexConsistency(actor);
     }
 
     @GetMapping("/{id}")
@@ -108,8 +162,9 @@ public class TicketController {
             @PathVariable Long id,
             @PathVariable String attachmentType,
             @RequestParam(value = "expires", required = false) Long expires,
-            @RequestParam(value = "signature", required = false) String signature) {
-        return ticketService.downloadAttachment(id, attachmentType, expires, signature);
+            @RequestParam(value = "signature", required = false) String signature,
+            @RequestParam(value = "size", required = false) String size) {
+        return ticketService.downloadAttachment(id, attachmentType, expires, signature, size);
     }
 
     @PatchMapping("/{id}/status")
@@ -0,0 +1,11 @@
+package com.smartcampus.maintenance.dto.notification;
+
+import java.time.LocalDateTime;
+
+public record NotificationStreamEvent(
+        String action,
+        NotificationResponse notification,
+        long unreadDelta,
+        Long unreadCount,
+        LocalDateTime occurredAt) {
+}
@@ -0,0 +1,13 @@
+package com.smartcampus.maintenance.dto.ticket;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record TicketAttachmentUrlsRequest(
+    @NotEmpty(message = "At least one ticket id is required")
+    @Size(max = 200, message = "At most 200 tickets can be signed per request")
+    List<@NotNull Long> ticketIds
+) {
+}
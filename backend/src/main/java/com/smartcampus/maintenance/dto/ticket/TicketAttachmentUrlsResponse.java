@@ -0,0 +1,7 @@
+package com.smartcampus.maintenance.dto.ticket;
+
+public record TicketAttachmentUrlsResponse(
+        Long ticketId,
+        String imageUrl,
+        String afterImageUrl) {
+}
@@ -0,0 +1,10 @@
+package com.smartcampus.maintenance.dto.ticket;
+
+import java.util.List;
+
+public record TicketPageResponse(
+        List<TicketResponse> items,
+        String nextCursor,
+        boolean hasMore,
+        int limit) {
+}
@@ -19,6 +19,8 @@ public record TicketResponse(
         TicketUserInfoResponse assignedTo,
         String imageUrl,
         String afterImageUrl,
+        boolean hasImage,
+        boolean hasAfterImage,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
         LocalDateTime resolvedAt) {
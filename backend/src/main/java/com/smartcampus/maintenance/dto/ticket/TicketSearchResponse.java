@@ -0,0 +1,10 @@
+package com.smartcampus.maintenance.dto.ticket;
+
+import java.util.List;
+
+public record TicketSearchResponse(
+        List<TicketResponse> items,
+        int page,
+        int size,
+        boolean hasMore) {
+}
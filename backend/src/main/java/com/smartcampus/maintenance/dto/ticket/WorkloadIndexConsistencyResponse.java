@@ -0,0 +1,12 @@
+package com.smartcampus.maintenance.dto.ticket;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record WorkloadIndexConsistencyResponse(
+        boolean ready,
+        boolean consistent,
+        int trackedTechnicians,
+        List<Long> driftingTechnicianIds,
+        LocalDateTime lastReconciledAt) {
+}
@@ -4,6 +4,7 @@ import com.smartcampus.maintenance.entity.enums.TicketCategory;
 import com.smartcampus.maintenance.entity.enums.TicketAssignmentReviewReason;
 import com.smartcampus.maintenance.entity.enums.TicketStatus;
 import com.smartcampus.maintenance.entity.enums.UrgencyLevel;
+import com.smartcampus.maintenance.util.TicketSearchText;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -82,6 +83,9 @@ public class Ticket {
     @Column(name = "resolved_at")
     private LocalDateTime resolvedAt;
 
+    @Column(name = "sla_deadline_at")
+    private LocalDateTime slaDeadlineAt;
+
     @Column(name = "assignment_review_required", nullable = false)
     private boolean assignmentReviewRequired = false;
 
@@ -89,8 +93,19 @@ public class Ticket {
     @Column(name = "assignment_review_reason", length = 40)
     private TicketAssignmentReviewReason assignmentReviewReason;
 
+    @Column(name = "search_text", columnDefinition = "LONGTEXT")
+    private String searchText;
+
     @PrePersist
     public void onCreate() {
+        if (this.searchText == null) {
+            this.searchText = TicketSearchText.document(
+                    title,
+                    description,
+                    location,
+                    buildingRecord == null ? building : buildingRecord.getName(),
+                    requestType == null ? null : requestType.getLabel());
+        }
         if (this.createdAt == null) {
             this.createdAt = LocalDateTime.now();
         }
@@ -235,6 +250,22 @@ public class Ticket {
         this.resolvedAt = resolvedAt;
     }
 
+    public LocalDateTime getSlaDeadlineAt() {
+        return slaDeadlineAt;
+    }
+
+    public void setSlaDeadlineAt(LocalDateTime slaDeadlineAt) {
+        this.slaDeadlineAt = slaDeadlineAt;
+    }
+
+    public String getSearchText() {
+        return searchText;
+    }
+
+    public void setSearchText(String searchText) {
+        this.searchText = searchText;
+    }
+
     public String getAfterImagePath() {
         return afterImagePath;
     }
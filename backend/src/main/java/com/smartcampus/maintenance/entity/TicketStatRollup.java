@@ -0,0 +1,104 @@
+package com.smartcampus.maintenance.entity;
+
+import com.smartcampus.maintenance.entity.enums.TicketRollupDimension;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ticket_stat_rollups")
+public class TicketStatRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TicketRollupDimension dimension;
+
+    @Column(name = "group_key", nullable = false, length = 160)
+    private String groupKey;
+
+    @Column(name = "ticket_count", nullable = false)
+    private long ticketCount;
+
+    @Column(name = "resolved_count", nullable = false)
+    private long resolvedCount;
+
+    @Column(name = "resolution_minutes", nullable = false)
+    private long resolutionMinutes;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public TicketRollupDimension getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(TicketRollupDimension dimension) {
+        this.dimension = dimension;
+    }
+
+    public String getGroupKey() {
+        return groupKey;
+    }
+
+    public void setGroupKey(String groupKey) {
+        this.groupKey = groupKey;
+    }
+
+    public long getTicketCount() {
+        return ticketCount;
+    }
+
+    public void setTicketCount(long ticketCount) {
+        this.ticketCount = ticketCount;
+    }
+
+    public long getResolvedCount() {
+        return resolvedCount;
+    }
+
+    public void setResolvedCount(long resolvedCount) {
+        this.resolvedCount = resolvedCount;
+    }
+
+    public long getResolutionMinutes() {
+        return resolutionMinutes;
+    }
+
+    public void setResolutionMinutes(long resolutionMinutes) {
+        this.resolutionMinutes = resolutionMinutes;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
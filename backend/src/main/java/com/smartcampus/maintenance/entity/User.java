@@ -2,10 +2,12 @@ package com.smartcampus.maintenance.entity;
 
 import com.smartcampus.maintenance.entity.enums.Role;
 import com.smartcampus.maintenance.entity.enums.TechnicianSpecialty;
+import com.smartcampus.maintenance.security.PrincipalCacheEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -20,6 +22,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(PrincipalCacheEntityListener.class)
 public class User {
 
     @Id
@@ -117,6 +120,10 @@ public class User {
         return createdAt;
     }
 
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
     public boolean isEmailVerified() {
         return emailVerified;
     }
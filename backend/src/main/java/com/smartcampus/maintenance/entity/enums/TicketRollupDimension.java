@@ -0,0 +1,9 @@
+package com.smartcampus.maintenance.entity.enums;
+
+public enum TicketRollupDimension {
+    TOTAL,
+    STATUS,
+    SERVICE_DOMAIN,
+    URGENCY,
+    BUILDING
+}
@@ -0,0 +1,14 @@
+package com.smartcampus.maintenance.event;
+
+import com.smartcampus.maintenance.entity.enums.NotificationType;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record NotificationFanOutRequestedEvent(
+        List<Long> userIds,
+        String title,
+        String message,
+        NotificationType type,
+        String linkUrl,
+        LocalDateTime createdAt) {
+}
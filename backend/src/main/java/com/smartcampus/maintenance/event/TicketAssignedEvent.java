@@ -0,0 +1,8 @@
+package com.smartcampus.maintenance.event;
+
+public record TicketAssignedEvent(
+        Long ticketId,
+        String title,
+        Long assigneeId,
+        Long createdById) {
+}
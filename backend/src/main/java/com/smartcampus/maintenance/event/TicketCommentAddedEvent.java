@@ -0,0 +1,11 @@
+package com.smartcampus.maintenance.event;
+
+public record TicketCommentAddedEvent(
+        Long ticketId,
+        String title,
+        Long commentId,
+        Long actorId,
+        String actorFullName,
+        Long createdById,
+        Long assigneeId) {
+}
@@ -0,0 +1,15 @@
+package com.smartcampus.maintenance.event;
+
+import com.smartcampus.maintenance.entity.enums.TicketAssignmentReviewReason;
+
+/**
+ * Published once a new ticket is saved. Exactly one of {@code autoAssigneeId} and
+ * {@code reviewReason} is set: the ticket was either auto-assigned or queued for admin review.
+ */
+public record TicketCreatedEvent(
+        Long ticketId,
+        String title,
+        Long createdById,
+        Long autoAssigneeId,
+        TicketAssignmentReviewReason reviewReason) {
+}
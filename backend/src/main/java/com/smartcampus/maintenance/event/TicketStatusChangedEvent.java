@@ -0,0 +1,13 @@
+package com.smartcampus.maintenance.event;
+
+import com.smartcampus.maintenance.entity.enums.TicketStatus;
+
+public record TicketStatusChangedEvent(
+        Long ticketId,
+        String title,
+        TicketStatus oldStatus,
+        TicketStatus newStatus,
+        Long actorId,
+        Long createdById,
+        Long assigneeId) {
+}
@@ -10,6 +10,7 @@ import com.smartcampus.maintenance.entity.RequestType;
 import com.smartcampus.maintenance.entity.Ticket;
 import com.smartcampus.maintenance.entity.TicketLog;
 import com.smartcampus.maintenance.entity.TicketRating;
+import org.springframework.util.StringUtils;
 
 public final class TicketMapper {
 
@@ -35,6 +36,8 @@ public final class TicketMapper {
                 UserMapper.toTicketUserInfo(ticket.getAssignedTo()),
                 imageUrl,
                 afterImageUrl,
+                StringUtils.hasText(ticket.getImagePath()),
+                StringUtils.hasText(ticket.getAfterImagePath()),
                 ticket.getCreatedAt(),
                 ticket.getUpdatedAt(),
                 ticket.getResolvedAt());
@@ -0,0 +1,132 @@
+package com.smartcampus.maintenance.optimization;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded background pool that optimizes stored uploads and renders their resized variants after
+ * the upload request has returned.
+ *
+ * <p>Each worker decodes one image at a time, so {@code worker-threads} caps how many decoded
+ * bitmaps are on the heap at once. When the queue is full the upload keeps its original bytes.
+ * The state of the most recent files is kept in a bounded map; files queued when the instance
+ * stops are simply left unoptimized.</p>
+ */
+@Component
+public class ImageOptimizationWorker {
+
+    public enum State {
+        PENDING,
+        RUNNING,
+        OPTIMIZED,
+        UNCHANGED,
+        SKIPPED,
+        FAILED
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(ImageOptimizationWorker.class);
+    private static final int MAX_TRACKED_FILES = 10_000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final ThreadPoolExecutor executor;
+    private final LinkedHashMap<String, State> states = new LinkedHashMap<>(64, 0.75f, true);
+    private final Counter rejected;
+
+    public ImageOptimizationWorker(
+            MeterRegistry meterRegistry,
+            @Value("${app.image.optimization.worker-threads:2}") int workerThreads,
+            @Value("${app.image.optimization.queue-capacity:100}") int queueCapacity) {
+        int threads = Math.max(1, workerThreads);
+        AtomicInteger workerSequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-optimizer-" + workerSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.rejected = Counter.builder("image.optimization.rejected")
+                .description("Uploads stored unoptimized because the optimization queue was full")
+                .register(meterRegistry);
+        Gauge.builder("image.optimization.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Stored uploads waiting for background optimization")
+                .register(meterRegistry);
+        Gauge.builder("image.optimization.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Uploads being optimized right now")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues {@code optimization} for the stored file. The task returns the final state; an
+     * exception marks the file {@link State#FAILED} and leaves the original in place.
+     */
+    public void submit(String filename, Callable<State> optimization) {
+        track(filename, State.PENDING);
+        try {
+            executor.execute(() -> run(filename, optimization));
+        } catch (RejectedExecutionException ex) {
+            track(filename, State.SKIPPED);
+            rejected.increment();
+        }
+    }
+
+    public Optional<State> state(String filename) {
+        synchronized (states) {
+            return Optional.ofNullable(states.get(filename));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run(String filename, Callable<State> optimization) {
+        track(filename, State.RUNNING);
+        try {
+            track(filename, optimization.call());
+        } catch (Exception ex) {
+            track(filename, State.FAILED);
+            log.warn("Background optimization failed for upload {}; keeping the original", filename, ex);
+        }
+    }
+
+    private void track(String filename, State state) {
+        synchronized (states) {
+            states.put(filename, state);
+            if (states.size() > MAX_TRACKED_FILES) {
+                Iterator<State> eldest = states.values().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+}
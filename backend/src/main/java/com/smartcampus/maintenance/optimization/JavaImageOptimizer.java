@@ -1,16 +1,22 @@
 package com.smartcampus.maintenance.optimization;
 
 import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
 import javax.imageio.ImageWriteParam;
 import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
 import javax.imageio.stream.ImageOutputStream;
 
 public final class JavaImageOptimizer {
@@ -24,6 +30,9 @@ public final class JavaImageOptimizer {
             int optimizedHeight) {
     }
 
+    public record ResizedImage(int maxEdge, byte[] bytes, int width, int height) {
+    }
+
     private JavaImageOptimizer() {
     }
 
@@ -69,6 +78,97 @@ public final class JavaImageOptimizer {
                 originalImage.getHeight()));
     }
 
+    /**
+     * Width times height read from the image header without decoding the pixels, or empty when
+     * no installed reader understands the format.
+     */
+    public static Optional<Long> pixelCount(byte[] imageBytes) {
+        if (imageBytes == null || imageBytes.length == 0) {
+            return Optional.empty();
+        }
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(imageBytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return Optional.of((long) reader.getWidth(0) * reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Downscaled copies of the image whose longest edge fits each of {@code maxEdges}, encoded in
+     * the original format. The image is decoded once and each smaller size is scaled from the
+     * next larger one. Sizes the image already fits are left out, as are formats without a
+     * pure-Java encoder.
+     */
+    public static List<ResizedImage> resize(
+            String contentType,
+            byte[] originalBytes,
+            List<Integer> maxEdges,
+            int jpegQuality,
+            int pngCompressionQuality) {
+        String normalizedContentType = normalizeContentType(contentType);
+        boolean jpeg = normalizedContentType.equals("image/jpeg") || normalizedContentType.equals("image/jpg");
+        if (originalBytes == null || originalBytes.length == 0 || (!jpeg && !normalizedContentType.equals("image/png"))) {
+            return List.of();
+        }
+        BufferedImage current = decode(originalBytes).orElse(null);
+        if (current == null) {
+            return List.of();
+        }
+
+        List<ResizedImage> resized = new ArrayList<>();
+        for (int maxEdge : maxEdges.stream().sorted(Comparator.reverseOrder()).toList()) {
+            int longestEdge = Math.max(current.getWidth(), current.getHeight());
+            if (maxEdge <= 0 || longestEdge <= maxEdge) {
+                continue;
+            }
+            double scale = (double) maxEdge / longestEdge;
+            int width = Math.max(1, (int) Math.round(current.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(current.getHeight() * scale));
+            current = scaleDown(current, width, height, jpeg ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+            Optional<byte[]> encoded = jpeg
+                    ? encodeJpeg(current, jpegQuality)
+                    : encodePng(current, pngCompressionQuality);
+            BufferedImage scaled = current;
+            encoded.ifPresent(bytes -> resized.add(new ResizedImage(maxEdge, bytes, scaled.getWidth(), scaled.getHeight())));
+        }
+        return resized;
+    }
+
+    /**
+     * Halves the image with bilinear filtering until one last step reaches the target size; a
+     * single bilinear pass over a large reduction skips most source pixels and aliases badly.
+     */
+    private static BufferedImage scaleDown(BufferedImage source, int targetWidth, int targetHeight, int imageType) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage step = new BufferedImage(width, height, imageType);
+            Graphics2D graphics = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = step;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
     private static Optional<BufferedImage> decode(byte[] imageBytes) {
         try (ByteArrayInputStream input = new ByteArrayInputStream(imageBytes)) {
             return Optional.ofNullable(ImageIO.read(input));
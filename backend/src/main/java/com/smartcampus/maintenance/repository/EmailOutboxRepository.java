@@ -3,16 +3,106 @@ package com.smartcampus.maintenance.repository;
 import com.smartcampus.maintenance.entity.EmailOutbox;
 import com.smartcampus.maintenance.entity.enums.EmailOutboxStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import org.springframework.data.domain.Pageable;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
 
-    List<EmailOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByCreatedAtAsc(
-            EmailOutboxStatus status,
-            LocalDateTime now,
-            Pageable pageable);
+    /**
+     * Row-locks up to {@code limit} claimable messages, skipping rows another instance has
+     * already locked. Requires MySQL 8+; callers stamp the claim before the transaction ends.
+     */
+    @Query(value = """
+                select id
+                from email_outbox
+                where status = :status
+                  and next_attempt_at <= :now
+                  and (claim_expires_at is null or claim_expires_at <= :now)
+                order by created_at asc
+                limit :limit
+                for update skip locked
+            """, nativeQuery = true)
+    List<Long> lockClaimableIds(
+            @Param("status") String status,
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit);
+
+    /**
+     * Unlocked variant of {@link #lockClaimableIds} for databases without SKIP LOCKED; the
+     * conditional {@link #claim} update is what keeps concurrent claimers apart there.
+     */
+    @Query(value = """
+                select id
+                from email_outbox
+                where status = :status
+                  and next_attempt_at <= :now
+                  and (claim_expires_at is null or claim_expires_at <= :now)
+                order by created_at asc
+                limit :limit
+            """, nativeQuery = true)
+    List<Long> findClaimableIds(
+            @Param("status") String status,
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+                update EmailOutbox m
+                set m.claimedBy = :owner, m.claimExpiresAt = :leaseUntil
+                where m.id in :ids
+                  and m.status = :status
+                  and (m.claimExpiresAt is null or m.claimExpiresAt <= :now)
+            """)
+    int claim(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") EmailOutboxStatus status,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Query("""
+                select m.id
+                from EmailOutbox m
+                where m.id in :ids
+                  and m.claimedBy = :owner
+                  and m.claimExpiresAt = :leaseUntil
+                order by m.createdAt asc
+            """)
+    List<Long> findClaimedIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("owner") String owner,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Counts an attempt and renews the lease for the send, but only while {@code owner} still
+     * holds a live claim. Zero means the lease ran out and another instance may already have
+     * re-claimed the message.
+     */
+    @Modifying
+    @Query("""
+                update EmailOutbox m
+                set m.attemptCount = m.attemptCount + 1, m.lastAttemptAt = :now, m.claimExpiresAt = :leaseUntil
+                where m.id = :id
+                  and m.status = :status
+                  and m.claimedBy = :owner
+                  and m.claimExpiresAt > :now
+            """)
+    int startAttempt(
+            @Param("id") Long id,
+            @Param("status") EmailOutboxStatus status,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    long countByStatus(EmailOutboxStatus status);
+
+    @Query("select min(m.createdAt) from EmailOutbox m where m.status = :status")
+    Optional<LocalDateTime> findOldestCreatedAt(@Param("status") EmailOutboxStatus status);
 
     long deleteByStatusAndCreatedAtBefore(EmailOutboxStatus status, LocalDateTime cutoff);
 }
@@ -2,8 +2,12 @@ package com.smartcampus.maintenance.repository;
 
 import com.smartcampus.maintenance.entity.Notification;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
@@ -12,4 +16,32 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByUserIdAndReadFalseOrderByCreatedAtDesc(Long userId);
 
     long countByUserIdAndReadFalseAndCreatedAtGreaterThanEqual(Long userId, LocalDateTime cutoff);
+
+    @Query("""
+                select n
+                from Notification n
+                join fetch n.user
+                where n.user.id in :userIds
+                  and n.createdAt = :createdAt
+                  and n.title = :title
+            """)
+    List<Notification> findFanOutRows(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("title") String title);
+
+    @Modifying
+    @Query(value = """
+                insert into notifications (user_id, title, message, type, is_read, link_url, created_at)
+                select u.id, :title, :message, :type, false, :linkUrl, :createdAt
+                from users u
+                where u.id in (:userIds)
+            """, nativeQuery = true)
+    int insertForUsers(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("title") String title,
+            @Param("message") String message,
+            @Param("type") String type,
+            @Param("linkUrl") String linkUrl,
+            @Param("createdAt") LocalDateTime createdAt);
 }
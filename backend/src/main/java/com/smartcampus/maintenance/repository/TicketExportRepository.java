@@ -0,0 +1,15 @@
+package com.smartcampus.maintenance.repository;
+
+import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.repository.projection.TicketExportRow;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface TicketExportRepository {
+
+    /**
+     * Streams flat export rows for the matching tickets, newest first, over a forward-only
+     * cursor. Must be consumed (and closed) inside a transaction.
+     */
+    Stream<TicketExportRow> streamExportRows(Specification<Ticket> specification);
+}
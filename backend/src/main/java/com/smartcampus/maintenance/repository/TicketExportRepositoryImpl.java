@@ -0,0 +1,71 @@
+package com.smartcampus.maintenance.repository;
+
+import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.repository.projection.TicketExportRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+
+class TicketExportRepositoryImpl implements TicketExportRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int fetchSize;
+
+    TicketExportRepositoryImpl(
+            @Value("${app.reports.export.fetch-size:500}") int fetchSize,
+            @Value("${spring.datasource.url:}") String datasourceUrl) {
+        // MySQL Connector/J only streams rows (instead of buffering the whole result) when the
+        // fetch size is Integer.MIN_VALUE; other drivers honour a regular positive fetch size.
+        this.fetchSize = datasourceUrl != null && datasourceUrl.startsWith("jdbc:mysql:")
+                ? Integer.MIN_VALUE
+                : Math.max(1, fetchSize);
+    }
+
+    @Override
+    public Stream<TicketExportRow> streamExportRows(Specification<Ticket> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TicketExportRow> query = cb.createQuery(TicketExportRow.class);
+        Root<Ticket> ticket = query.from(Ticket.class);
+        Join<Object, Object> requestType = ticket.join("requestType", JoinType.LEFT);
+        Join<Object, Object> serviceDomain = requestType.join("serviceDomain", JoinType.LEFT);
+        Join<Object, Object> building = ticket.join("buildingRecord", JoinType.LEFT);
+        Join<Object, Object> createdBy = ticket.join("createdBy", JoinType.LEFT);
+        Join<Object, Object> assignedTo = ticket.join("assignedTo", JoinType.LEFT);
+
+        query.select(cb.construct(
+                TicketExportRow.class,
+                ticket.get("id"),
+                ticket.get("title"),
+                serviceDomain.get("key"),
+                ticket.get("category"),
+                cb.coalesce(building.<String>get("name"), ticket.<String>get("building")),
+                ticket.get("location"),
+                ticket.get("urgency"),
+                ticket.get("status"),
+                createdBy.get("fullName"),
+                assignedTo.get("fullName"),
+                ticket.get("createdAt"),
+                ticket.get("resolvedAt")));
+        Predicate predicate = specification == null ? null : specification.toPredicate(ticket, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.desc(ticket.get("createdAt")), cb.desc(ticket.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
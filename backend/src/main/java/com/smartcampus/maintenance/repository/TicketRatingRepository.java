@@ -2,11 +2,13 @@ package com.smartcampus.maintenance.repository;
 
 import com.smartcampus.maintenance.entity.TicketRating;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface TicketRatingRepository extends JpaRepository<TicketRating, Long> {
 
     boolean existsByTicketId(Long ticketId);
 
+    @EntityGraph(attributePaths = "ratedBy")
     Optional<TicketRating> findByTicketId(Long ticketId);
 }
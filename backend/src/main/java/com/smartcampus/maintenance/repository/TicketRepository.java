@@ -1,21 +1,93 @@
 package com.smartcampus.maintenance.repository;
 
 import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.entity.enums.Role;
 import com.smartcampus.maintenance.entity.enums.TicketStatus;
+import com.smartcampus.maintenance.repository.projection.CandidateMetricsRow;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket> {
+public interface TicketRepository
+        extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket>, TicketExportRepository {
 
+    /**
+     * Associations {@code TicketMapper.toResponse} reads, fetched in the same statement as the
+     * tickets. Keep in sync with the {@code @EntityGraph} paths below.
+     */
+    List<String> RESPONSE_FETCH_PATHS = List.of("requestType.serviceDomain", "buildingRecord", "createdBy", "assignedTo");
+
+    @EntityGraph(attributePaths = {"requestType.serviceDomain", "buildingRecord", "createdBy", "assignedTo"})
     List<Ticket> findByCreatedByIdOrderByCreatedAtDesc(Long createdById);
 
+    @EntityGraph(attributePaths = {"requestType.serviceDomain", "buildingRecord", "createdBy", "assignedTo"})
     List<Ticket> findByAssignedToIdOrderByCreatedAtDesc(Long assignedToId);
 
+    @EntityGraph(attributePaths = {"requestType.serviceDomain", "buildingRecord", "createdBy", "assignedTo"})
+    Optional<Ticket> findForResponseById(Long id);
+
+    @EntityGraph(attributePaths = {"requestType.serviceDomain", "buildingRecord", "createdBy", "assignedTo"})
+    List<Ticket> findForResponseByIdIn(Collection<Long> ids);
+
+    /**
+     * Ticket ids ranked by {@code ticket_text_match}; see {@code TicketSearchFunctionContributor}.
+     */
+    @Query("""
+                select t.id
+                from Ticket t
+                where ticket_text_match(t.searchText, :booleanQuery, :pattern) > 0
+                order by ticket_text_match(t.searchText, :booleanQuery, :pattern) desc, t.createdAt desc, t.id desc
+            """)
+    Slice<Long> findIdsByTextRelevance(
+            @Param("booleanQuery") String booleanQuery,
+            @Param("pattern") String pattern,
+            Pageable pageable);
+
+    @Modifying
+    @Query(value = """
+                update tickets t
+                set search_text = lower(concat_ws(' ', t.title, t.description, t.location,
+                        coalesce((select b.name from buildings b where b.id = t.building_id), t.building),
+                        (select r.label from request_types r where r.id = t.request_type_id)))
+                where t.search_text is null
+            """, nativeQuery = true)
+    int backfillSearchText();
+
+    /**
+     * Rewrites the search document of every ticket in a renamed building; the new name is passed
+     * in so the update does not depend on the rename having been flushed.
+     */
+    @Modifying
+    @Query(value = """
+                update tickets t
+                set search_text = lower(concat_ws(' ', t.title, t.description, t.location, :buildingName,
+                        (select r.label from request_types r where r.id = t.request_type_id)))
+                where t.building_id = :buildingId
+            """, nativeQuery = true)
+    int refreshSearchTextForBuilding(@Param("buildingId") Long buildingId, @Param("buildingName") String buildingName);
+
+    @Modifying
+    @Query(value = """
+                update tickets t
+                set search_text = lower(concat_ws(' ', t.title, t.description, t.location,
+                        coalesce((select b.name from buildings b where b.id = t.building_id), t.building),
+                        :requestTypeLabel))
+                where t.request_type_id = :requestTypeId
+            """, nativeQuery = true)
+    int refreshSearchTextForRequestType(
+            @Param("requestTypeId") Long requestTypeId,
+            @Param("requestTypeLabel") String requestTypeLabel);
+
     long countByCreatedById(Long createdById);
 
     long countByCreatedByIdAndStatusIn(Long createdById, Collection<TicketStatus> statuses);
@@ -46,22 +118,99 @@ public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecif
             Long buildingRecordId,
             Collection<TicketStatus> statuses);
 
-    long countByAssignedToIdAndStatusIn(Long assignedToId, Collection<TicketStatus> statuses);
+    @Query("""
+                select new com.smartcampus.maintenance.repository.projection.CandidateMetricsRow(
+                    u.id,
+                    u.username,
+                    u.fullName,
+                    sum(case when t.id is not null and t.status not in :resolvedStatuses then 1 else 0 end),
+                    sum(case when t.status in :resolvedStatuses and d.key = :serviceDomainKey then 1 else 0 end),
+                    sum(case when t.status in :resolvedStatuses and t.buildingRecord.id = :buildingId then 1 else 0 end),
+                    sum(case when t.status in :resolvedStatuses and t.resolvedAt > :resolvedAfter then 1 else 0 end))
+                from User u
+                left join Ticket t on t.assignedTo = u
+                left join t.requestType rt
+                left join rt.serviceDomain d
+                where u.role = :role
+                group by u.id, u.username, u.fullName
+            """)
+    List<CandidateMetricsRow> aggregateCandidateMetrics(
+            @Param("role") Role role,
+            @Param("resolvedStatuses") Collection<TicketStatus> resolvedStatuses,
+            @Param("serviceDomainKey") String serviceDomainKey,
+            @Param("buildingId") Long buildingId,
+            @Param("resolvedAfter") LocalDateTime resolvedAfter);
 
-    long countByAssignedToIdAndRequestType_ServiceDomain_KeyAndStatusIn(
-            Long assignedToId,
-            String serviceDomainKey,
-            Collection<TicketStatus> statuses);
+    @Query("""
+                select t.resolvedAt
+                from Ticket t
+                where t.status in :resolvedStatuses
+                  and t.resolvedAt >= :resolvedAfter
+            """)
+    List<LocalDateTime> findResolvedAtSince(
+            @Param("resolvedStatuses") Collection<TicketStatus> resolvedStatuses,
+            @Param("resolvedAfter") LocalDateTime resolvedAfter);
 
-    long countByAssignedToIdAndBuildingRecord_IdAndStatusIn(
-            Long assignedToId,
-            Long buildingRecordId,
-            Collection<TicketStatus> statuses);
+    @Query("""
+                select t.status, t.urgency, d.key, t.category, b.id, t.building, t.createdAt, t.resolvedAt
+                from Ticket t
+                left join t.requestType rt
+                left join rt.serviceDomain d
+                left join t.buildingRecord b
+            """)
+    Stream<Object[]> streamRollupSources();
 
-    long countByAssignedToIdAndResolvedAtAfterAndStatusIn(
-            Long assignedToId,
-            java.time.LocalDateTime resolvedAfter,
-            Collection<TicketStatus> statuses);
+    @Query("""
+                select u.id, t.status, d.key, b.id, t.resolvedAt
+                from Ticket t
+                join t.assignedTo u
+                left join t.requestType rt
+                left join rt.serviceDomain d
+                left join t.buildingRecord b
+            """)
+    Stream<Object[]> streamWorkloadSources();
+
+    @Query("""
+                select t.id, b.id, rt.id, t.title
+                from Ticket t
+                join t.buildingRecord b
+                join t.requestType rt
+                where t.status not in :closedStatuses
+            """)
+    Stream<Object[]> streamOpenTicketTitles(@Param("closedStatuses") Collection<TicketStatus> closedStatuses);
+
+    List<Ticket> findBySlaDeadlineAtLessThanEqualOrderBySlaDeadlineAtAsc(LocalDateTime now);
+
+    @Query("""
+                select t.id, t.slaDeadlineAt
+                from Ticket t
+                where t.slaDeadlineAt <= :horizon
+                  and t.status in :activeStatuses
+            """)
+    List<Object[]> findSlaDeadlinesUpTo(
+            @Param("activeStatuses") Collection<TicketStatus> activeStatuses,
+            @Param("horizon") LocalDateTime horizon);
+
+    @Modifying
+    @Query("""
+                update Ticket t
+                set t.slaDeadlineAt = null
+                where t.id in :ids
+            """)
+    int clearSlaDeadlines(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = """
+                update tickets
+                set sla_deadline_at = timestampadd(HOUR, :slaHours, created_at)
+                where sla_deadline_at is null
+                  and urgency = :urgency
+                  and status in (:activeStatuses)
+            """, nativeQuery = true)
+    int backfillSlaDeadlines(
+            @Param("urgency") String urgency,
+            @Param("slaHours") long slaHours,
+            @Param("activeStatuses") Collection<String> activeStatuses);
 
     List<Ticket> findByStatusAndAssignedToIsNullAndUpdatedAtBefore(
             TicketStatus status,
@@ -1,10 +1,16 @@
 package com.smartcampus.maintenance.repository;
 
+import com.smartcampus.maintenance.config.TicketSearchFunctionContributor;
 import com.smartcampus.maintenance.entity.Ticket;
 import com.smartcampus.maintenance.entity.enums.TicketStatus;
 import com.smartcampus.maintenance.entity.enums.UrgencyLevel;
+import com.smartcampus.maintenance.util.TicketSearchText;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDateTime;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
@@ -13,6 +19,26 @@ public final class TicketSpecifications {
     private TicketSpecifications() {
     }
 
+    public static Specification<Ticket> adminListing(
+            TicketStatus status,
+            String serviceDomainKey,
+            Long requestTypeId,
+            Long buildingId,
+            UrgencyLevel urgency,
+            Long assigneeId,
+            Boolean assignmentReviewRequired,
+            String search) {
+        return Specification.allOf(
+                statusEquals(status),
+                serviceDomainKeyEquals(serviceDomainKey),
+                requestTypeEquals(requestTypeId),
+                buildingEquals(buildingId),
+                urgencyEquals(urgency),
+                assigneeEquals(assigneeId),
+                assignmentReviewRequiredEquals(assignmentReviewRequired),
+                textSearch(search));
+    }
+
     public static Specification<Ticket> statusEquals(TicketStatus status) {
         return (root, query, cb) -> status == null ? cb.conjunction() : cb.equal(root.get("status"), status);
     }
@@ -59,21 +85,52 @@ public final class TicketSpecifications {
                 : cb.equal(root.get("assignmentReviewRequired"), assignmentReviewRequired);
     }
 
-    public static Specification<Ticket> searchLike(String search) {
+    public static Specification<Ticket> createdWithin(LocalDateTime from, LocalDateTime toExclusive) {
         return (root, query, cb) -> {
-            if (!StringUtils.hasText(search)) {
+            if (from == null && toExclusive == null) {
+                return cb.conjunction();
+            }
+            if (from == null) {
+                return cb.lessThan(root.get("createdAt"), toExclusive);
+            }
+            if (toExclusive == null) {
+                return cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+            }
+            return cb.and(
+                cb.greaterThanOrEqualTo(root.get("createdAt"), from),
+                cb.lessThan(root.get("createdAt"), toExclusive)
+            );
+        };
+    }
+
+    public static Specification<Ticket> createdBefore(LocalDateTime createdAt, Long id) {
+        return (root, query, cb) -> {
+            if (createdAt == null || id == null) {
                 return cb.conjunction();
             }
-            String pattern = "%" + search.trim().toLowerCase() + "%";
-            Join<Object, Object> buildingJoin = root.join("buildingRecord", JoinType.LEFT);
-            Join<Object, Object> requestTypeJoin = root.join("requestType", JoinType.LEFT);
             return cb.or(
-                cb.like(cb.lower(root.get("title")), pattern),
-                cb.like(cb.lower(root.get("description")), pattern),
-                cb.like(cb.lower(root.get("location")), pattern),
-                cb.like(cb.lower(cb.coalesce(buildingJoin.get("name"), root.get("building"))), pattern),
-                cb.like(cb.lower(requestTypeJoin.get("label")), pattern)
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id))
             );
         };
     }
+
+    /**
+     * Matches tickets whose search document contains every term of {@code search}; served by the
+     * full-text index on MySQL. Input without any word characters does not filter.
+     */
+    public static Specification<Ticket> textSearch(String search) {
+        return (root, query, cb) -> TicketSearchText.parse(search)
+            .map(terms -> cb.greaterThan(textRelevance(root, cb, terms), 0.0))
+            .orElseGet(cb::conjunction);
+    }
+
+    public static Expression<Double> textRelevance(Root<Ticket> root, CriteriaBuilder cb, TicketSearchText.Query terms) {
+        return cb.function(
+            TicketSearchFunctionContributor.FUNCTION_NAME,
+            Double.class,
+            root.get("searchText"),
+            cb.literal(terms.booleanMode()),
+            cb.literal(terms.pattern()));
+    }
 }
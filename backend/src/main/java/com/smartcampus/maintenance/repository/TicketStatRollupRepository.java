@@ -0,0 +1,37 @@
+package com.smartcampus.maintenance.repository;
+
+import com.smartcampus.maintenance.entity.TicketStatRollup;
+import com.smartcampus.maintenance.entity.enums.TicketRollupDimension;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TicketStatRollupRepository extends JpaRepository<TicketStatRollup, Long> {
+
+    List<TicketStatRollup> findByDimension(TicketRollupDimension dimension);
+
+    Optional<TicketStatRollup> findByDimensionAndGroupKey(TicketRollupDimension dimension, String groupKey);
+
+    @Modifying
+    @Query(value = """
+                insert into ticket_stat_rollups
+                    (dimension, group_key, ticket_count, resolved_count, resolution_minutes, updated_at)
+                values (:dimension, :groupKey, :ticketDelta, :resolvedDelta, :minutesDelta, :updatedAt)
+                on duplicate key update
+                    ticket_count = ticket_count + values(ticket_count),
+                    resolved_count = resolved_count + values(resolved_count),
+                    resolution_minutes = resolution_minutes + values(resolution_minutes),
+                    updated_at = values(updated_at)
+            """, nativeQuery = true)
+    void applyDelta(
+            @Param("dimension") String dimension,
+            @Param("groupKey") String groupKey,
+            @Param("ticketDelta") long ticketDelta,
+            @Param("resolvedDelta") long resolvedDelta,
+            @Param("minutesDelta") long minutesDelta,
+            @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -2,14 +2,24 @@ package com.smartcampus.maintenance.repository;
 
 import com.smartcampus.maintenance.entity.User;
 import com.smartcampus.maintenance.entity.enums.Role;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByUsername(String username);
 
+    @EntityGraph(attributePaths = "specialties")
+    Optional<User> findWithSpecialtiesByUsername(String username);
+
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
     Optional<User> findByEmail(String email);
 
     boolean existsByUsername(String username);
@@ -24,7 +34,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmailAndIdNot(String email, Long id);
 
+    @EntityGraph(attributePaths = "specialties")
     List<User> findByRoleOrderByFullNameAsc(Role role);
 
     List<User> findByRole(Role role);
+
+    @Query("select u.id from User u where u.role in :roles and (:excludedUserId is null or u.id <> :excludedUserId) order by u.id")
+    List<Long> findIdsByRoleIn(@Param("roles") Collection<Role> roles, @Param("excludedUserId") Long excludedUserId);
 }
@@ -1,6 +1,6 @@
 package com.smartcampus.maintenance.repository.projection;
 
-public record AssignmentCandidateMetrics(
+public record CandidateMetricsRow(
         Long userId,
         String username,
         String fullName,
@@ -0,0 +1,21 @@
+package com.smartcampus.maintenance.repository.projection;
+
+import com.smartcampus.maintenance.entity.enums.TicketCategory;
+import com.smartcampus.maintenance.entity.enums.TicketStatus;
+import com.smartcampus.maintenance.entity.enums.UrgencyLevel;
+import java.time.LocalDateTime;
+
+public record TicketExportRow(
+        Long id,
+        String title,
+        String serviceDomainKey,
+        TicketCategory category,
+        String buildingName,
+        String location,
+        UrgencyLevel urgency,
+        TicketStatus status,
+        String createdByName,
+        String assignedToName,
+        LocalDateTime createdAt,
+        LocalDateTime resolvedAt) {
+}
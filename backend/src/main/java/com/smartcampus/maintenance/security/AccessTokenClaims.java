@@ -0,0 +1,14 @@
+package com.smartcampus.maintenance.security;
+
+import com.smartcampus.maintenance.entity.enums.Role;
+
+/**
+ * Verified contents of an access token. {@code userId} and {@code role} are null for tokens
+ * issued before those claims existed.
+ */
+public record AccessTokenClaims(String username, Long userId, Role role, int tokenVersion) {
+
+    public boolean carriesPrincipal() {
+        return username != null && userId != null && role != null;
+    }
+}
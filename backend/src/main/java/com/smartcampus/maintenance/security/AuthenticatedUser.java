@@ -4,6 +4,7 @@ import com.smartcampus.maintenance.entity.User;
 import com.smartcampus.maintenance.entity.enums.Role;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,16 +13,31 @@ public class AuthenticatedUser implements UserDetails {
 
     private final Long id;
     private final String username;
-    private final String passwordHash;
     private final Role role;
     private final int tokenVersion;
+    private final PrincipalSnapshot snapshot;
 
     public AuthenticatedUser(User user) {
-        this.id = user.getId();
-        this.username = user.getUsername();
-        this.passwordHash = user.getPasswordHash();
-        this.role = user.getRole();
-        this.tokenVersion = user.getTokenVersion();
+        this(PrincipalSnapshot.of(user));
+    }
+
+    public AuthenticatedUser(PrincipalSnapshot snapshot) {
+        this(snapshot.id(), snapshot.username(), snapshot.role(), snapshot.tokenVersion(), snapshot);
+    }
+
+    private AuthenticatedUser(Long id, String username, Role role, int tokenVersion, PrincipalSnapshot snapshot) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Principal built only from verified token claims; the user row has not been loaded.
+     */
+    public static AuthenticatedUser fromClaims(AccessTokenClaims claims) {
+        return new AuthenticatedUser(claims.userId(), claims.username(), claims.role(), claims.tokenVersion(), null);
     }
 
     public Long getId() {
@@ -36,6 +52,13 @@ public class AuthenticatedUser implements UserDetails {
         return tokenVersion;
     }
 
+    /**
+     * Full user state, absent when the principal was built from token claims.
+     */
+    public Optional<PrincipalSnapshot> snapshot() {
+        return Optional.ofNullable(snapshot);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
@@ -43,7 +66,7 @@ public class AuthenticatedUser implements UserDetails {
 
     @Override
     public String getPassword() {
-        return passwordHash;
+        return snapshot == null ? null : snapshot.passwordHash();
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.smartcampus.maintenance.security;
 
 import com.smartcampus.maintenance.exception.UnauthorizedException;
 import com.smartcampus.maintenance.repository.UserRepository;
+import java.util.Optional;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
@@ -10,15 +11,36 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, PrincipalCache principalCache) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) {
-        return userRepository.findByUsername(username)
+        return userRepository.findWithSpecialtiesByUsername(username)
             .map(AuthenticatedUser::new)
             .orElseThrow(() -> new UnauthorizedException("Invalid credentials"));
     }
+
+    /**
+     * Principal for an already-issued access token, served from {@link PrincipalCache}. Login
+     * keeps using {@link #loadUserByUsername} so credentials are always checked against the row.
+     */
+    public AuthenticatedUser loadAuthenticatedUser(String username) {
+        return principalCache.get(username, () -> userRepository.findWithSpecialtiesByUsername(username)
+                .map(PrincipalSnapshot::of))
+            .map(AuthenticatedUser::new)
+            .orElseThrow(() -> new UnauthorizedException("Invalid credentials"));
+    }
+
+    /**
+     * Current token version for the claims-only fast path, from {@link PrincipalCache}'s
+     * token-version table.
+     */
+    public Optional<Integer> currentTokenVersion(Long userId) {
+        return principalCache.tokenVersion(userId, () -> userRepository.findTokenVersionById(userId));
+    }
 }
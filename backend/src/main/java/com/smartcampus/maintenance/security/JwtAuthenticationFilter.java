@@ -5,9 +5,10 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -18,10 +19,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final CustomUserDetailsService userDetailsService;
+    private final boolean claimsFastPath;
 
-    public JwtAuthenticationFilter(JwtService jwtService, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(
+        JwtService jwtService,
+        CustomUserDetailsService userDetailsService,
+        @Value("${app.security.jwt.claims-fast-path:true}") boolean claimsFastPath) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.claimsFastPath = claimsFastPath;
     }
 
     @Override
@@ -35,15 +41,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = header.substring(7);
         try {
-            String username = jwtService.extractUsername(token);
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                if (jwtService.isTokenValid(token, userDetails)) {
+            AccessTokenClaims claims = jwtService.parseAccessToken(token);
+            if (claims.username() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                resolvePrincipal(claims).ifPresent(principal -> {
                     UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+                });
             }
         } catch (Exception ignored) {
             SecurityContextHolder.clearContext();
@@ -51,4 +56,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * With the fast path on, the principal comes straight from the verified claims and only the
+     * token version is checked, against an in-memory table. Older tokens without {@code uid}/{@code
+     * role} claims, or the fast path switched off, resolve the full principal instead.
+     */
+    private Optional<AuthenticatedUser> resolvePrincipal(AccessTokenClaims claims) {
+        if (claimsFastPath && claims.carriesPrincipal()) {
+            return userDetailsService.currentTokenVersion(claims.userId())
+                .filter(version -> version == claims.tokenVersion())
+                .map(version -> AuthenticatedUser.fromClaims(claims));
+        }
+        AuthenticatedUser principal = userDetailsService.loadAuthenticatedUser(claims.username());
+        if (principal.getTokenVersion() != claims.tokenVersion()) {
+            return Optional.empty();
+        }
+        return Optional.of(principal);
+    }
 }
@@ -1,7 +1,9 @@
 package com.smartcampus.maintenance.security;
 
 import com.smartcampus.maintenance.entity.User;
+import com.smartcampus.maintenance.entity.enums.Role;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -23,6 +25,8 @@ public class JwtService {
     private long expirationMs;
 
     private SecretKey signingKey;
+    // Immutable and thread-safe; building one per call re-validates the key every time.
+    private JwtParser parser;
 
     @PostConstruct
     public void init() {
@@ -31,6 +35,7 @@ public class JwtService {
             throw new IllegalStateException("JWT secret must be at least 32 bytes");
         }
         signingKey = Keys.hmacShaKeyFor(secretBytes);
+        parser = Jwts.parser().verifyWith(signingKey).build();
     }
 
     public String generateToken(User user) {
@@ -65,19 +70,33 @@ public class JwtService {
         }
 
         if (userDetails instanceof AuthenticatedUser authenticatedUser) {
-            Number tokenVersionClaim = claims.get("tv", Number.class);
-            int tokenVersion = tokenVersionClaim == null ? 0 : tokenVersionClaim.intValue();
-            return tokenVersion == authenticatedUser.getTokenVersion();
+            return tokenVersion(claims) == authenticatedUser.getTokenVersion();
         }
 
         return true;
     }
 
+    /**
+     * Verifies the signature and expiry once and returns the embedded principal claims. Throws
+     * {@link io.jsonwebtoken.JwtException} for any invalid or expired token.
+     */
+    public AccessTokenClaims parseAccessToken(String token) {
+        Claims claims = parseClaims(token);
+        Number userId = claims.get("uid", Number.class);
+        String role = claims.get("role", String.class);
+        return new AccessTokenClaims(
+            claims.getSubject(),
+            userId == null ? null : userId.longValue(),
+            role == null ? null : Role.valueOf(role),
+            tokenVersion(claims));
+    }
+
+    private int tokenVersion(Claims claims) {
+        Number tokenVersionClaim = claims.get("tv", Number.class);
+        return tokenVersionClaim == null ? 0 : tokenVersionClaim.intValue();
+    }
+
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(signingKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
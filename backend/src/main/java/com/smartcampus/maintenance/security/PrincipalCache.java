@@ -0,0 +1,158 @@
+package com.smartcampus.maintenance.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded, TTL-based cache of {@link PrincipalSnapshot}s keyed by username, used to authenticate
+ * requests without a user lookup per call, plus a compact user id to token version table for
+ * requests authenticated from token claims alone.
+ *
+ * <p>Entries are dropped when the user row changes ({@link PrincipalCacheEntityListener}) and
+ * when sessions are revoked; the TTL bounds staleness for changes made by other instances.</p>
+ */
+@Component
+public class PrincipalCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter versionHits;
+    private final Counter versionMisses;
+    private final LinkedHashMap<String, Entry> entries;
+    private final ConcurrentHashMap<Long, VersionEntry> tokenVersions = new ConcurrentHashMap<>();
+
+    public PrincipalCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.security.principal-cache.max-entries:10000}") int maxEntries,
+            @Value("${app.security.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttlMillis = Math.max(0L, ttlSeconds) * 1000L;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > PrincipalCache.this.maxEntries;
+            }
+        };
+        this.hits = Counter.builder("auth.principal.cache.requests")
+                .description("Principal lookups served from the cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("auth.principal.cache.requests")
+                .description("Principal lookups that had to load the user row")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.versionHits = Counter.builder("auth.token.version.requests")
+                .description("Token version checks served from memory")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.versionMisses = Counter.builder("auth.token.version.requests")
+                .description("Token version checks that had to read the user row")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("auth.principal.cache.size", this, PrincipalCache::size)
+                .description("Principals currently cached")
+                .register(meterRegistry);
+    }
+
+    public Optional<PrincipalSnapshot> get(String username, Supplier<Optional<PrincipalSnapshot>> loader) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry cached = entries.get(username);
+            if (cached != null && cached.expiresAt > now) {
+                hits.increment();
+                return Optional.of(cached.snapshot);
+            }
+        }
+        misses.increment();
+        Optional<PrincipalSnapshot> loaded = loader.get();
+        if (ttlMillis > 0) {
+            synchronized (entries) {
+                if (loaded.isPresent()) {
+                    entries.put(username, new Entry(loaded.get(), now + ttlMillis));
+                } else {
+                    entries.remove(username);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public Optional<Integer> tokenVersion(Long userId, Supplier<Optional<Integer>> loader) {
+        long now = System.currentTimeMillis();
+        VersionEntry cached = tokenVersions.get(userId);
+        if (cached != null && cached.expiresAt > now) {
+            versionHits.increment();
+            return Optional.of(cached.tokenVersion);
+        }
+        versionMisses.increment();
+        Optional<Integer> loaded = loader.get();
+        if (ttlMillis > 0 && loaded.isPresent()) {
+            if (tokenVersions.size() >= maxEntries) {
+                tokenVersions.values().removeIf(entry -> entry.expiresAt <= now);
+            }
+            if (tokenVersions.size() < maxEntries) {
+                tokenVersions.put(userId, new VersionEntry(loaded.get(), now + ttlMillis));
+            }
+        } else {
+            tokenVersions.remove(userId);
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the user's entries now and again after the current transaction commits, so a request
+     * racing the write cannot re-cache the old row.
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        tokenVersions.clear();
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void evict(Long userId) {
+        tokenVersions.remove(userId);
+        synchronized (entries) {
+            entries.values().removeIf(entry -> userId.equals(entry.snapshot.id()));
+        }
+    }
+
+    private record Entry(PrincipalSnapshot snapshot, long expiresAt) {
+    }
+
+    private record VersionEntry(int tokenVersion, long expiresAt) {
+    }
+}
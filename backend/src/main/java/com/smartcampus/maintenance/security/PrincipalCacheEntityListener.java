@@ -0,0 +1,24 @@
+package com.smartcampus.maintenance.security;
+
+import com.smartcampus.maintenance.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Evicts cached principals whenever a user row is updated or deleted (password, role, token
+ * version, profile). Instantiated by Hibernate through Spring's bean container.
+ */
+public class PrincipalCacheEntityListener {
+
+    private final PrincipalCache principalCache;
+
+    public PrincipalCacheEntityListener(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        principalCache.invalidate(user.getId());
+    }
+}
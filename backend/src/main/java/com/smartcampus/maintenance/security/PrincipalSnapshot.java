@@ -0,0 +1,66 @@
+package com.smartcampus.maintenance.security;
+
+import com.smartcampus.maintenance.entity.User;
+import com.smartcampus.maintenance.entity.enums.Role;
+import com.smartcampus.maintenance.entity.enums.TechnicianSpecialty;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Immutable copy of every persistent {@link User} column, so an authenticated request can be
+ * served without reloading the user row.
+ */
+public record PrincipalSnapshot(
+        Long id,
+        String username,
+        String email,
+        String passwordHash,
+        Role role,
+        String fullName,
+        boolean emailVerified,
+        int tokenVersion,
+        boolean mfaEnabled,
+        Set<TechnicianSpecialty> specialties,
+        LocalDateTime createdAt) {
+
+    public PrincipalSnapshot {
+        specialties = Set.copyOf(specialties);
+    }
+
+    public static PrincipalSnapshot of(User user) {
+        return new PrincipalSnapshot(
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getPasswordHash(),
+                user.getRole(),
+                user.getFullName(),
+                user.isEmailVerified(),
+                user.getTokenVersion(),
+                user.isMfaEnabled(),
+                user.getSpecialties(),
+                user.getCreatedAt());
+    }
+
+    /**
+     * Builds a fresh, detached {@link User} carrying all columns as of when the snapshot was
+     * cached. Use it for reads, authorization checks and as an association target only; it may
+     * be stale, so never pass it to {@code save}. Writes to the user load the row with
+     * {@code findById} and edit the managed entity.
+     */
+    public User toUser() {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPasswordHash(passwordHash);
+        user.setRole(role);
+        user.setFullName(fullName);
+        user.setEmailVerified(emailVerified);
+        user.setTokenVersion(tokenVersion);
+        user.setMfaEnabled(mfaEnabled);
+        user.setSpecialties(specialties);
+        user.setCreatedAt(createdAt);
+        return user;
+    }
+}
@@ -82,9 +82,12 @@ public class AccountCenterService {
 
     @Transactional
     public UserProfileResponse updateMyProfile(User actor, UserProfileUpdateRequest request, String currentRefreshToken) {
-        actor.setFullName(request.fullName().trim());
-        User saved = userRepository.save(actor);
-        return toAccountResponse(saved, currentRefreshToken);
+        // The actor is a detached copy of the cached principal; saving it would write its possibly
+        // stale password hash and token version back over the row.
+        User user = userRepository.findById(actor.getId())
+                .orElseThrow(() -> new NotFoundException("User not found"));
+        user.setFullName(request.fullName().trim());
+        return toAccountResponse(user, currentRefreshToken);
     }
 
     @Transactional(readOnly = true)
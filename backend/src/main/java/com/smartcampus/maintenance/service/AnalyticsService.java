@@ -7,21 +7,21 @@ import com.smartcampus.maintenance.dto.analytics.DailyResolvedPointResponse;
 import com.smartcampus.maintenance.dto.analytics.PublicLandingStatsResponse;
 import com.smartcampus.maintenance.dto.analytics.ResolutionTimeResponse;
 import com.smartcampus.maintenance.dto.analytics.TopBuildingResponse;
-import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.entity.Building;
+import com.smartcampus.maintenance.entity.TicketStatRollup;
 import com.smartcampus.maintenance.entity.User;
 import com.smartcampus.maintenance.entity.enums.Role;
+import com.smartcampus.maintenance.entity.enums.TicketRollupDimension;
 import com.smartcampus.maintenance.entity.enums.TicketStatus;
 import com.smartcampus.maintenance.exception.ForbiddenException;
-import com.smartcampus.maintenance.mapper.TicketMapper;
+import com.smartcampus.maintenance.repository.BuildingRepository;
 import com.smartcampus.maintenance.repository.TicketRepository;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.springframework.stereotype.Service;
@@ -33,55 +33,66 @@ public class AnalyticsService {
     private static final EnumSet<TicketStatus> RESOLVED_STATUSES = EnumSet.of(TicketStatus.RESOLVED, TicketStatus.CLOSED);
 
     private final TicketRepository ticketRepository;
-
-    public AnalyticsService(TicketRepository ticketRepository) {
+    private final BuildingRepository buildingRepository;
+    private final TicketStatsRollupService ticketStatsRollupService;
+
+    public AnalyticsService(
+        TicketRepository ticketRepository,
+        BuildingRepository buildingRepository,
+        TicketStatsRollupService ticketStatsRollupService
+    ) {
         this.ticketRepository = ticketRepository;
+        this.buildingRepository = buildingRepository;
+        this.ticketStatsRollupService = ticketStatsRollupService;
     }
 
     @Transactional(readOnly = true)
     public AnalyticsSummaryResponse getSummary(User actor) {
         requireAdmin(actor);
-        List<Ticket> tickets = ticketRepository.findAll();
-
-        Map<String, Long> byStatus = tickets.stream()
-            .collect(Collectors.groupingBy(ticket -> ticket.getStatus().name(), Collectors.counting()));
-        Map<String, Long> byCategory = tickets.stream()
-            .collect(Collectors.groupingBy(TicketMapper::resolveServiceDomainKey, Collectors.counting()));
-        Map<String, Long> byUrgency = tickets.stream()
-            .collect(Collectors.groupingBy(ticket -> ticket.getUrgency().name(), Collectors.counting()));
-
-        return new AnalyticsSummaryResponse(tickets.size(), byStatus, byCategory, byUrgency);
+        return new AnalyticsSummaryResponse(
+            ticketStatsRollupService.totals().getTicketCount(),
+            countsByKey(TicketRollupDimension.STATUS),
+            countsByKey(TicketRollupDimension.SERVICE_DOMAIN),
+            countsByKey(TicketRollupDimension.URGENCY));
     }
 
     @Transactional(readOnly = true)
     public ResolutionTimeResponse getResolutionTime(User actor) {
         requireAdmin(actor);
-        List<Ticket> resolvedTickets = ticketRepository.findAll().stream()
-            .filter(ticket -> RESOLVED_STATUSES.contains(ticket.getStatus()))
-            .filter(ticket -> ticket.getResolvedAt() != null)
-            .toList();
-
-        double overall = averageHours(resolvedTickets);
-        List<CategoryResolutionTimeResponse> byCategory = resolvedTickets.stream()
-            .collect(Collectors.groupingBy(TicketMapper::resolveServiceDomainKey))
-            .entrySet()
+        TicketStatRollup totals = ticketStatsRollupService.totals();
+        List<CategoryResolutionTimeResponse> byCategory = ticketStatsRollupService
+            .findByDimension(TicketRollupDimension.SERVICE_DOMAIN)
             .stream()
-            .map(entry -> new CategoryResolutionTimeResponse(
-                entry.getKey(),
-                round(averageHours(entry.getValue())),
-                entry.getValue().size()
+            .filter(rollup -> rollup.getResolvedCount() > 0)
+            .map(rollup -> new CategoryResolutionTimeResponse(
+                rollup.getGroupKey(),
+                round(averageHours(rollup)),
+                rollup.getResolvedCount()
             ))
             .sorted(Comparator.comparing(CategoryResolutionTimeResponse::category))
             .toList();
 
-        return new ResolutionTimeResponse(round(overall), byCategory);
+        return new ResolutionTimeResponse(round(averageHours(totals)), byCategory);
     }
 
     @Transactional(readOnly = true)
     public List<TopBuildingResponse> getTopBuildings(User actor) {
         requireAdmin(actor);
-        return ticketRepository.findAll().stream()
-            .collect(Collectors.groupingBy(this::resolveBuildingName, Collectors.counting()))
+        List<TicketStatRollup> rollups = ticketStatsRollupService.findByDimension(TicketRollupDimension.BUILDING).stream()
+            .filter(rollup -> rollup.getTicketCount() > 0)
+            .toList();
+        List<Long> buildingIds = rollups.stream()
+            .map(TicketStatRollup::getGroupKey)
+            .filter(key -> !key.startsWith(TicketStatsRollupService.LEGACY_BUILDING_PREFIX))
+            .map(Long::valueOf)
+            .toList();
+        Map<String, String> buildingNames = buildingRepository.findAllById(buildingIds).stream()
+            .collect(Collectors.toMap(building -> String.valueOf(building.getId()), Building::getName));
+
+        return rollups.stream()
+            .collect(Collectors.groupingBy(
+                rollup -> resolveBuildingName(rollup.getGroupKey(), buildingNames),
+                Collectors.summingLong(TicketStatRollup::getTicketCount)))
             .entrySet()
             .stream()
             .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
@@ -105,22 +116,17 @@ public class AnalyticsService {
 
     @Transactional(readOnly = true)
     public PublicLandingStatsResponse getPublicLandingStats() {
-        List<Ticket> tickets = ticketRepository.findAll();
-        List<Ticket> resolvedTickets = tickets.stream()
-            .filter(ticket -> RESOLVED_STATUSES.contains(ticket.getStatus()))
-            .filter(ticket -> ticket.getResolvedAt() != null)
-            .toList();
-
-        long totalTickets = tickets.size();
-        long resolvedCount = resolvedTickets.size();
+        TicketStatRollup totals = ticketStatsRollupService.totals();
+        long totalTickets = totals.getTicketCount();
+        long resolvedCount = totals.getResolvedCount();
         long openCount = totalTickets - resolvedCount;
         LocalDate today = LocalDate.now();
-        long resolvedToday = resolvedTickets.stream()
-            .filter(ticket -> ticket.getResolvedAt().toLocalDate().isEqual(today))
-            .count();
 
-        Map<LocalDate, Long> resolvedByDate = resolvedTickets.stream()
-            .collect(Collectors.groupingBy(ticket -> ticket.getResolvedAt().toLocalDate(), Collectors.counting()));
+        Map<LocalDate, Long> resolvedByDate = ticketRepository
+            .findResolvedAtSince(RESOLVED_STATUSES, today.minusDays(6).atStartOfDay())
+            .stream()
+            .collect(Collectors.groupingBy(LocalDateTime::toLocalDate, Collectors.counting()));
+        long resolvedToday = resolvedByDate.getOrDefault(today, 0L);
 
         List<DailyResolvedPointResponse> resolvedLast7Days = IntStream.rangeClosed(0, 6)
             .mapToObj(offset -> today.minusDays(6 - offset))
@@ -135,19 +141,23 @@ public class AnalyticsService {
             resolvedCount,
             openCount,
             resolvedToday,
-            round(averageHours(resolvedTickets)),
+            round(averageHours(totals)),
             resolvedLast7Days,
             LocalDateTime.now()
         );
     }
 
-    private double averageHours(List<Ticket> tickets) {
-        if (tickets.isEmpty()) {
+    private Map<String, Long> countsByKey(TicketRollupDimension dimension) {
+        return ticketStatsRollupService.findByDimension(dimension).stream()
+            .filter(rollup -> rollup.getTicketCount() > 0)
+            .collect(Collectors.toMap(TicketStatRollup::getGroupKey, TicketStatRollup::getTicketCount));
+    }
+
+    private double averageHours(TicketStatRollup rollup) {
+        if (rollup.getResolvedCount() == 0) {
             return 0.0;
         }
-        return tickets.stream()
-            .map(ticket -> Duration.between(ticket.getCreatedAt(), Objects.requireNonNull(ticket.getResolvedAt())).toMinutes() / 60.0)
-            .collect(Collectors.averagingDouble(Double::doubleValue));
+        return rollup.getResolutionMinutes() / 60.0 / rollup.getResolvedCount();
     }
 
     private double round(double value) {
@@ -160,10 +170,10 @@ public class AnalyticsService {
         }
     }
 
-    private String resolveBuildingName(Ticket ticket) {
-        if (ticket.getBuildingRecord() != null) {
-            return ticket.getBuildingRecord().getName();
+    private String resolveBuildingName(String groupKey, Map<String, String> buildingNames) {
+        if (groupKey.startsWith(TicketStatsRollupService.LEGACY_BUILDING_PREFIX)) {
+            return groupKey.substring(TicketStatsRollupService.LEGACY_BUILDING_PREFIX.length());
         }
-        return ticket.getBuilding();
+        return buildingNames.getOrDefault(groupKey, groupKey);
     }
 }
@@ -2,6 +2,7 @@ package com.smartcampus.maintenance.service;
 
 import com.smartcampus.maintenance.dto.announcement.AnnouncementCreateRequest;
 import com.smartcampus.maintenance.dto.announcement.AnnouncementResponse;
+import com.smartcampus.maintenance.dto.user.BroadcastAudience;
 import com.smartcampus.maintenance.entity.Announcement;
 import com.smartcampus.maintenance.entity.User;
 import com.smartcampus.maintenance.entity.enums.NotificationType;
@@ -9,7 +10,6 @@ import com.smartcampus.maintenance.entity.enums.Role;
 import com.smartcampus.maintenance.exception.ForbiddenException;
 import com.smartcampus.maintenance.exception.NotFoundException;
 import com.smartcampus.maintenance.repository.AnnouncementRepository;
-import com.smartcampus.maintenance.repository.UserRepository;
 import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,15 +18,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class AnnouncementService {
 
     private final AnnouncementRepository announcementRepository;
-    private final UserRepository userRepository;
     private final NotificationDispatchService notificationDispatchService;
 
     public AnnouncementService(
             AnnouncementRepository announcementRepository,
-            UserRepository userRepository,
             NotificationDispatchService notificationDispatchService) {
         this.announcementRepository = announcementRepository;
-        this.userRepository = userRepository;
         this.notificationDispatchService = notificationDispatchService;
     }
 
@@ -53,17 +50,14 @@ public class AnnouncementService {
         a.setContent(request.content().trim());
         a.setCreatedBy(actor);
         Announcement saved = announcementRepository.save(a);
-        User adminActor = actor;
-        Long actorId = adminActor.getId();
         String preview = saved.getContent().length() > 400 ? saved.getContent().substring(0, 400) + "..." : saved.getContent();
-        userRepository.findAll().stream()
-                .filter(user -> user.getId() != null && !user.getId().equals(actorId))
-                .forEach(user -> notificationDispatchService.notifyUser(
-                        user,
-                        "New announcement: " + saved.getTitle(),
-                        preview,
-                        NotificationType.ANNOUNCEMENT,
-                        "/announcements"));
+        notificationDispatchService.notifyAudience(
+                BroadcastAudience.ALL,
+                actor.getId(),
+                "New announcement: " + saved.getTitle(),
+                preview,
+                NotificationType.ANNOUNCEMENT,
+                "/announcements");
         return toResponse(saved);
     }
 
@@ -0,0 +1,122 @@
+package com.smartcampus.maintenance.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * HMAC-SHA256 over {@code ticketId:type:reference:expiresAt} for signed attachment URLs.
+ *
+ * <p>Keeps key-initialised {@link Mac} instances for reuse instead of a provider lookup and key
+ * schedule per signature; a pool rather than a thread-local so it behaves the same on virtual
+ * threads. Each pooled engine also owns a scratch buffer, so the numeric fields are fed to the
+ * MAC as ASCII digits without building the message string.</p>
+ */
+class AttachmentUrlSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte SEPARATOR = ':';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecretKeySpec keySpec;
+    private final Mac prototype;
+    private final int maxIdle;
+    private final ConcurrentLinkedDeque<Engine> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    AttachmentUrlSigner(byte[] key, int maxIdle) {
+        this.keySpec = new SecretKeySpec(key, ALGORITHM);
+        this.prototype = initialisedMac();
+        this.maxIdle = Math.max(1, maxIdle);
+    }
+
+    String sign(long ticketId, byte[] typeSegment, String canonicalReference, long expiresAt) {
+        Engine engine = borrow();
+        try {
+            Mac mac = engine.mac;
+            engine.updateDecimal(ticketId);
+            mac.update(SEPARATOR);
+            mac.update(typeSegment);
+            mac.update(SEPARATOR);
+            mac.update(canonicalReference.getBytes(StandardCharsets.UTF_8));
+            mac.update(SEPARATOR);
+            engine.updateDecimal(expiresAt);
+            return ENCODER.encodeToString(mac.doFinal());
+        } finally {
+            release(engine);
+        }
+    }
+
+    private Engine borrow() {
+        Engine engine = idle.pollFirst();
+        if (engine != null) {
+            idleCount.decrementAndGet();
+            return engine;
+        }
+        return new Engine(newMac());
+    }
+
+    private void release(Engine engine) {
+        // doFinal already reset the MAC; an exception mid-update may not have.
+        engine.mac.reset();
+        if (idleCount.incrementAndGet() > maxIdle) {
+            idleCount.decrementAndGet();
+            return;
+        }
+        idle.offerFirst(engine);
+    }
+
+    private Mac newMac() {
+        try {
+            // Cloning copies the initialised key schedule; cheaper than getInstance + init.
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException ex) {
+            return initialisedMac();
+        }
+    }
+
+    private Mac initialisedMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Failed to initialise HMAC-SHA256", ex);
+        }
+    }
+
+    private static final class Engine {
+
+        private final Mac mac;
+        private final byte[] digits = new byte[20];
+
+        private Engine(Mac mac) {
+            this.mac = mac;
+        }
+
+        /**
+         * Same bytes as {@code Long.toString(value).getBytes(US_ASCII)} without the allocations.
+         */
+        private void updateDecimal(long value) {
+            if (value == Long.MIN_VALUE) {
+                mac.update(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+                return;
+            }
+            boolean negative = value < 0;
+            long remaining = negative ? -value : value;
+            int position = digits.length;
+            do {
+                digits[--position] = (byte) ('0' + (remaining % 10));
+                remaining /= 10;
+            } while (remaining != 0);
+            if (negative) {
+                mac.update((byte) '-');
+            }
+            mac.update(digits, position, digits.length - position);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.smartcampus.maintenance.entity.AuthRefreshToken;
 import com.smartcampus.maintenance.entity.User;
 import com.smartcampus.maintenance.exception.UnauthorizedException;
 import com.smartcampus.maintenance.repository.AuthRefreshTokenRepository;
+import com.smartcampus.maintenance.security.PrincipalCache;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -19,14 +20,17 @@ public class AuthRefreshTokenService {
 
     private final AuthRefreshTokenRepository authRefreshTokenRepository;
     private final TokenHashService tokenHashService;
+    private final PrincipalCache principalCache;
     private final long refreshTokenTtlDays;
 
     public AuthRefreshTokenService(
             AuthRefreshTokenRepository authRefreshTokenRepository,
             TokenHashService tokenHashService,
+            PrincipalCache principalCache,
             @Value("${app.auth.refresh-token-ttl-days:14}") long refreshTokenTtlDays) {
         this.authRefreshTokenRepository = authRefreshTokenRepository;
         this.tokenHashService = tokenHashService;
+        this.principalCache = principalCache;
         this.refreshTokenTtlDays = Math.max(1, refreshTokenTtlDays);
     }
 
@@ -116,6 +120,7 @@ public class AuthRefreshTokenService {
         LocalDateTime now = LocalDateTime.now();
         tokens.forEach(token -> token.setRevokedAt(now));
         authRefreshTokenRepository.saveAll(tokens);
+        principalCache.invalidate(userId);
     }
 
     @Transactional
@@ -68,6 +68,7 @@ public class AuthService {
     private final RefreshCookieService refreshCookieService;
     private final AuditEventService auditEventService;
     private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
     private final TransactionTemplate requiresNewTransactionTemplate;
     private final String frontendBaseUrl;
     private final long verificationCodeTtlMinutes;
@@ -125,6 +126,7 @@ public class AuthService {
         this.refreshCookieService = refreshCookieService;
         this.auditEventService = auditEventService;
         this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
         this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
         this.requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
         this.frontendBaseUrl = frontendBaseUrl;
@@ -328,10 +330,8 @@ public class AuthService {
         return new CurrentUserResponse(user.getUsername(), user.getFullName(), user.getRole().name());
     }
 
-    @Transactional
     public void registerStudent(RegisterRequest request, RequestMetadata metadata) {
-        long startedAtNs = System.nanoTime();
-        try {
+        runPaddedPublicRequest(() -> {
             String username = request.username().trim();
             String email = request.email().trim().toLowerCase();
             String fullName = request.fullName().trim();
@@ -373,9 +373,7 @@ public class AuthService {
                     String.valueOf(saved.getId()),
                     metadata,
                     Map.of("email", saved.getEmail(), "username", saved.getUsername()));
-        } finally {
-            enforceMinimumPublicDelay(startedAtNs);
-        }
+        });
     }
 
     @Transactional
@@ -432,10 +430,8 @@ public class AuthService {
                 Map.of("email", savedUser.getEmail()));
     }
 
-    @Transactional
     public void resendVerificationCode(String email, RequestMetadata metadata) {
-        long startedAtNs = System.nanoTime();
-        try {
+        runPaddedPublicRequest(() -> {
             String normalizedEmail = email.trim().toLowerCase();
             PendingRegistration pending = pendingRegistrationRepository.findByEmailIgnoreCase(normalizedEmail).orElse(null);
             if (pending == null) {
@@ -473,15 +469,11 @@ public class AuthService {
                     String.valueOf(saved.getId()),
                     metadata,
                     Map.of("email", saved.getEmail()));
-        } finally {
-            enforceMinimumPublicDelay(startedAtNs);
-        }
+        });
     }
 
-    @Transactional
     public void forgotPassword(String email, RequestMetadata metadata) {
-        long startedAtNs = System.nanoTime();
-        try {
+        runPaddedPublicRequest(() -> {
             String normalizedEmail = email.trim().toLowerCase();
             User user = userRepository.findByEmail(normalizedEmail).orElse(null);
 
@@ -524,9 +516,7 @@ public class AuthService {
                     String.valueOf(user.getId()),
                     metadata,
                     Map.of("email", user.getEmail()));
-        } finally {
-            enforceMinimumPublicDelay(startedAtNs);
-        }
+        });
     }
 
     @Transactional
@@ -741,6 +731,20 @@ public class AuthService {
         return Duration.ofSeconds(Math.max(0, seconds));
     }
 
+    /**
+     * Runs an anti-enumeration public request in its own transaction and pads it to the minimum
+     * duration only after commit, so the padding parks the request thread without holding a
+     * pooled database connection.
+     */
+    private void runPaddedPublicRequest(Runnable work) {
+        long startedAtNs = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> work.run());
+        } finally {
+            enforceMinimumPublicDelay(startedAtNs);
+        }
+    }
+
     private void enforceMinimumPublicDelay(long startedAtNs) {
         if (publicRequestMinDelayMs <= 0) {
             return;
@@ -11,13 +11,17 @@ import com.smartcampus.maintenance.optimization.AssignmentCandidateMetrics;
 import com.smartcampus.maintenance.optimization.AssignmentScorer;
 import com.smartcampus.maintenance.repository.TicketRepository;
 import com.smartcampus.maintenance.repository.UserRepository;
+import com.smartcampus.maintenance.repository.projection.CandidateMetricsRow;
 import com.smartcampus.maintenance.util.TechnicianSpecialtyCatalog;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -29,16 +33,19 @@ public class AutoAssignmentService {
             TicketStatus.RESOLVED,
             TicketStatus.CLOSED);
     private static final int DEFAULT_RECOMMENDATION_LIMIT = 3;
-    private static final int RECENT_RESOLUTION_WINDOW_DAYS = 30;
+    private static final int RECENT_RESOLUTION_WINDOW_DAYS = TechnicianWorkloadIndex.RECENT_RESOLUTION_WINDOW_DAYS;
 
     private final UserRepository userRepository;
     private final TicketRepository ticketRepository;
+    private final TechnicianWorkloadIndex technicianWorkloadIndex;
 
     public AutoAssignmentService(
             UserRepository userRepository,
-            TicketRepository ticketRepository) {
+            TicketRepository ticketRepository,
+            TechnicianWorkloadIndex technicianWorkloadIndex) {
         this.userRepository = userRepository;
         this.ticketRepository = ticketRepository;
+        this.technicianWorkloadIndex = technicianWorkloadIndex;
     }
 
     @Transactional(readOnly = true)
@@ -47,10 +54,9 @@ public class AutoAssignmentService {
             return List.of();
         }
 
-        List<AssignmentCandidateMetrics> candidates = userRepository.findByRoleOrderByFullNameAsc(Role.MAINTENANCE)
-                .stream()
-                .map(user -> buildCandidateMetrics(ticket, user))
-                .toList();
+        List<AssignmentCandidateMetrics> candidates = buildCandidateMetrics(
+                ticket,
+                userRepository.findByRoleOrderByFullNameAsc(Role.MAINTENANCE));
         if (candidates.isEmpty()) {
             return List.of();
         }
@@ -90,13 +96,12 @@ public class AutoAssignmentService {
             return Optional.empty();
         }
 
-        List<AssignmentCandidateMetrics> candidates = userRepository.findByRoleOrderByFullNameAsc(Role.MAINTENANCE)
-                .stream()
-                .map(user -> buildCandidateMetrics(ticket, user))
-                .toList();
+        List<User> users = userRepository.findByRoleOrderByFullNameAsc(Role.MAINTENANCE);
+        List<AssignmentCandidateMetrics> candidates = buildCandidateMetrics(ticket, users);
         if (candidates.isEmpty()) {
             return Optional.empty();
         }
+        Map<Long, User> usersById = users.stream().collect(Collectors.toMap(User::getId, Function.identity()));
 
         if (candidates.stream().noneMatch(AssignmentCandidateMetrics::specializationMatch)) {
             return Optional.empty();
@@ -109,39 +114,45 @@ public class AutoAssignmentService {
                         .comparingDouble(AssignmentScorer::scoreCandidate)
                         .reversed()
                         .thenComparing(AssignmentCandidateMetrics::fullName, String.CASE_INSENSITIVE_ORDER))
-                .map(AssignmentCandidateMetrics::userId)
-                .flatMap(userId -> userRepository.findById(userId).stream())
+                .map(candidate -> usersById.get(candidate.userId()))
                 .findFirst();
     }
 
-    private AssignmentCandidateMetrics buildCandidateMetrics(Ticket ticket, User user) {
+    /**
+     * Reads workload and history counters for every candidate from the in-memory workload index,
+     * falling back to one grouped query over the tickets table while the index is still building.
+     */
+    private List<AssignmentCandidateMetrics> buildCandidateMetrics(Ticket ticket, List<User> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+
         String serviceDomainKey = TicketMapper.resolveServiceDomainKey(ticket);
         Set<TechnicianSpecialty> requiredSpecialties = TechnicianSpecialtyCatalog.specialtiesForServiceDomainKey(serviceDomainKey);
         LocalDateTime recentThreshold = LocalDateTime.now().minusDays(RECENT_RESOLUTION_WINDOW_DAYS);
+        Long buildingId = ticket.getBuildingRecord() != null ? ticket.getBuildingRecord().getId() : null;
+
+        String domainKey = StringUtils.hasText(serviceDomainKey) ? serviceDomainKey : null;
+        Map<Long, CandidateMetricsRow> metricsByUserId =
+                technicianWorkloadIndex.candidateMetrics(users, domainKey, buildingId, recentThreshold)
+                        .orElseGet(() -> ticketRepository.aggregateCandidateMetrics(
+                                        Role.MAINTENANCE,
+                                        RESOLVED_OR_CLOSED,
+                                        domainKey,
+                                        buildingId,
+                                        recentThreshold)
+                                .stream()
+                                .collect(Collectors.toMap(CandidateMetricsRow::userId, Function.identity())));
+
+        return users.stream()
+                .map(user -> toCandidateMetrics(user, metricsByUserId.get(user.getId()), requiredSpecialties))
+                .toList();
+    }
 
-        long totalAssigned = ticketRepository.countByAssignedToId(user.getId());
-        long resolvedOrClosed = ticketRepository.countByAssignedToIdAndStatusIn(user.getId(), RESOLVED_OR_CLOSED);
-        int activeOpenTickets = Math.toIntExact(Math.max(0L, totalAssigned - resolvedOrClosed));
-
-        int sameDomainResolvedTickets = StringUtils.hasText(serviceDomainKey)
-                ? Math.toIntExact(ticketRepository.countByAssignedToIdAndRequestType_ServiceDomain_KeyAndStatusIn(
-                        user.getId(),
-                        serviceDomainKey,
-                        RESOLVED_OR_CLOSED))
-                : 0;
-
-        int sameBuildingResolvedTickets = ticket.getBuildingRecord() != null
-                ? Math.toIntExact(ticketRepository.countByAssignedToIdAndBuildingRecord_IdAndStatusIn(
-                        user.getId(),
-                        ticket.getBuildingRecord().getId(),
-                        RESOLVED_OR_CLOSED))
-                : 0;
-
-        int recentResolvedTickets = Math.toIntExact(ticketRepository.countByAssignedToIdAndResolvedAtAfterAndStatusIn(
-                user.getId(),
-                recentThreshold,
-                RESOLVED_OR_CLOSED));
-
+    private AssignmentCandidateMetrics toCandidateMetrics(
+            User user,
+            CandidateMetricsRow metrics,
+            Set<TechnicianSpecialty> requiredSpecialties) {
         boolean specializationMatch = !requiredSpecialties.isEmpty()
                 && user.getSpecialties().stream().anyMatch(requiredSpecialties::contains);
 
@@ -149,10 +160,10 @@ public class AutoAssignmentService {
                 user.getId(),
                 user.getUsername(),
                 user.getFullName(),
-                activeOpenTickets,
-                sameDomainResolvedTickets,
-                sameBuildingResolvedTickets,
-                recentResolvedTickets,
+                metrics != null ? Math.toIntExact(metrics.activeOpenTickets()) : 0,
+                metrics != null ? Math.toIntExact(metrics.sameDomainResolvedTickets()) : 0,
+                metrics != null ? Math.toIntExact(metrics.sameBuildingResolvedTickets()) : 0,
+                metrics != null ? Math.toIntExact(metrics.recentResolvedTickets()) : 0,
                 specializationMatch,
                 user.getSpecialties().stream().map(Enum::name).sorted().toList());
     }
@@ -10,6 +10,7 @@ import com.smartcampus.maintenance.exception.ConflictException;
 import com.smartcampus.maintenance.exception.ForbiddenException;
 import com.smartcampus.maintenance.exception.NotFoundException;
 import com.smartcampus.maintenance.repository.BuildingRepository;
+import com.smartcampus.maintenance.repository.TicketRepository;
 import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,14 +19,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class BuildingService {
 
     private final BuildingRepository buildingRepository;
+    private final TicketRepository ticketRepository;
     private final CatalogEventStreamService catalogEventStreamService;
     private final AuditEventService auditEventService;
 
     public BuildingService(
             BuildingRepository buildingRepository,
+            TicketRepository ticketRepository,
             CatalogEventStreamService catalogEventStreamService,
             AuditEventService auditEventService) {
         this.buildingRepository = buildingRepository;
+        this.ticketRepository = ticketRepository;
         this.catalogEventStreamService = catalogEventStreamService;
         this.auditEventService = auditEventService;
     }
@@ -99,12 +103,17 @@ public class BuildingService {
         }
 
         boolean wasActive = building.isActive();
+        boolean renamed = !name.equals(building.getName());
         building.setName(name);
         building.setCode(code);
         building.setFloors(request.floors());
         building.setActive(Boolean.TRUE.equals(request.active()));
         building.setSortOrder(request.sortOrder());
         Building saved = buildingRepository.save(building);
+        if (renamed) {
+            // Ticket search documents embed the building name.
+            ticketRepository.refreshSearchTextForBuilding(saved.getId(), name);
+        }
         String action = !wasActive && saved.isActive()
                 ? "RESTORED"
                 : wasActive && !saved.isActive() ? "ARCHIVED" : "UPDATED";
@@ -1,6 +1,9 @@
 package com.smartcampus.maintenance.service;
 
 import com.smartcampus.maintenance.dto.catalog.CatalogStreamEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,10 +17,25 @@ public class CatalogEventStreamService {
 
     private final CopyOnWriteArrayList<SseEmitter> emitters = new CopyOnWriteArrayList<>();
     private final AtomicLong versionCounter = new AtomicLong();
+    private final Counter connections;
+    private final Counter sendFailures;
+
+    public CatalogEventStreamService(MeterRegistry meterRegistry) {
+        Gauge.builder("catalog.stream.emitters", emitters, List::size)
+                .description("Open catalog SSE connections")
+                .register(meterRegistry);
+        this.connections = Counter.builder("catalog.stream.connections")
+                .description("Catalog SSE connections opened")
+                .register(meterRegistry);
+        this.sendFailures = Counter.builder("catalog.stream.send.failures")
+                .description("Catalog SSE emitters dropped because an event could not be written")
+                .register(meterRegistry);
+    }
 
     public SseEmitter subscribe() {
         SseEmitter emitter = new SseEmitter(0L);
         emitters.add(emitter);
+        connections.increment();
         emitter.onCompletion(() -> emitters.remove(emitter));
         emitter.onTimeout(() -> emitters.remove(emitter));
         emitter.onError(ignored -> emitters.remove(emitter));
@@ -39,6 +57,7 @@ public class CatalogEventStreamService {
         try {
             emitter.send(SseEmitter.event().name("catalog").data(event));
         } catch (IOException ex) {
+            sendFailures.increment();
             emitter.complete();
             emitters.remove(emitter);
         }
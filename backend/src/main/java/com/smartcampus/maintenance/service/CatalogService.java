@@ -18,6 +18,7 @@ import com.smartcampus.maintenance.exception.NotFoundException;
 import com.smartcampus.maintenance.repository.RequestTypeRepository;
 import com.smartcampus.maintenance.repository.ServiceDomainRepository;
 import com.smartcampus.maintenance.repository.SupportCategoryRepository;
+import com.smartcampus.maintenance.repository.TicketRepository;
 import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +29,7 @@ public class CatalogService {
     private final ServiceDomainRepository serviceDomainRepository;
     private final RequestTypeRepository requestTypeRepository;
     private final SupportCategoryRepository supportCategoryRepository;
+    private final TicketRepository ticketRepository;
     private final CatalogEventStreamService catalogEventStreamService;
     private final AuditEventService auditEventService;
 
@@ -35,11 +37,13 @@ public class CatalogService {
             ServiceDomainRepository serviceDomainRepository,
             RequestTypeRepository requestTypeRepository,
             SupportCategoryRepository supportCategoryRepository,
+            TicketRepository ticketRepository,
             CatalogEventStreamService catalogEventStreamService,
             AuditEventService auditEventService) {
         this.serviceDomainRepository = serviceDomainRepository;
         this.requestTypeRepository = requestTypeRepository;
         this.supportCategoryRepository = supportCategoryRepository;
+        this.ticketRepository = ticketRepository;
         this.catalogEventStreamService = catalogEventStreamService;
         this.auditEventService = auditEventService;
     }
@@ -111,10 +115,15 @@ public class CatalogService {
         }
 
         boolean wasActive = requestType.isActive();
+        boolean relabeled = !label.equals(requestType.getLabel());
         requestType.setLabel(label);
         requestType.setActive(Boolean.TRUE.equals(request.active()));
         requestType.setSortOrder(request.sortOrder());
         RequestType saved = requestTypeRepository.save(requestType);
+        if (relabeled) {
+            // Ticket search documents embed the request type label.
+            ticketRepository.refreshSearchTextForRequestType(saved.getId(), label);
+        }
         String action = !wasActive && saved.isActive()
                 ? "RESTORED"
                 : wasActive && !saved.isActive() ? "ARCHIVED" : "UPDATED";
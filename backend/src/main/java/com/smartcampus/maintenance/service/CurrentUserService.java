@@ -2,8 +2,9 @@ package com.smartcampus.maintenance.service;
 
 import com.smartcampus.maintenance.entity.User;
 import com.smartcampus.maintenance.exception.UnauthorizedException;
-import com.smartcampus.maintenance.repository.UserRepository;
 import com.smartcampus.maintenance.security.AuthenticatedUser;
+import com.smartcampus.maintenance.security.CustomUserDetailsService;
+import com.smartcampus.maintenance.security.PrincipalSnapshot;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,12 +13,16 @@ import org.springframework.stereotype.Service;
 @Service
 public class CurrentUserService {
 
-    private final UserRepository userRepository;
+    private final CustomUserDetailsService userDetailsService;
 
-    public CurrentUserService(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public CurrentUserService(CustomUserDetailsService userDetailsService) {
+        this.userDetailsService = userDetailsService;
     }
 
+    /**
+     * The authenticated user as a detached, possibly cached copy. Fine for reads, authorization
+     * checks and association targets; code that modifies the user must reload it by id.
+     */
     public User requireCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
@@ -27,7 +32,13 @@ public class CurrentUserService {
         if (!(principal instanceof AuthenticatedUser authUser)) {
             throw new UnauthorizedException("Authentication required");
         }
-        return userRepository.findById(authUser.getId())
-            .orElseThrow(() -> new UnauthorizedException("User not found"));
+        // Built from the principal the JWT filter already validated; claims-only principals are
+        // completed from the principal cache rather than a fresh user query.
+        PrincipalSnapshot snapshot = authUser.snapshot()
+            .orElseGet(() -> userDetailsService.loadAuthenticatedUser(authUser.getUsername()).snapshot().orElseThrow());
+        if (!snapshot.id().equals(authUser.getId())) {
+            throw new UnauthorizedException("Authentication required");
+        }
+        return snapshot.toUser();
     }
 }
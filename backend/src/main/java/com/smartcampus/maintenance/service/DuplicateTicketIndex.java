@@ -0,0 +1,257 @@
+package com.smartcampus.maintenance.service;
+
+import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.entity.enums.TicketStatus;
+import com.smartcampus.maintenance.repository.TicketRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory trigram index of open ticket titles per (building, request type), so a duplicate
+ * check compares the new title against a short list of candidates instead of every open ticket.
+ *
+ * <p>Candidates are ranked by the share of the shorter title's trigrams they have in common; only
+ * the best {@code max-candidates} are confirmed with {@link TitleSimilarity#similarity}. The index
+ * is built on startup, kept current from ticket creation and status changes (applied after
+ * commit) and rebuilt periodically to pick up writes from other instances. Until the first build
+ * completes {@link #findSimilar} returns empty and callers fall back to scanning the database.</p>
+ */
+@Service
+public class DuplicateTicketIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(DuplicateTicketIndex.class);
+    static final EnumSet<TicketStatus> CLOSED_STATUSES = EnumSet.of(TicketStatus.CLOSED, TicketStatus.REJECTED);
+
+    private final TicketRepository ticketRepository;
+    private final int maxCandidates;
+    private final Object lock = new Object();
+
+    private Map<ScopeKey, ScopeTitles> scopes = new HashMap<>();
+    private boolean ready;
+    private long generation;
+
+    public DuplicateTicketIndex(
+            TicketRepository ticketRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.tickets.duplicate-check.max-candidates:32}") int maxCandidates) {
+        this.ticketRepository = ticketRepository;
+        this.maxCandidates = Math.max(1, maxCandidates);
+        Gauge.builder("tickets.duplicate.index.titles", this, DuplicateTicketIndex::size)
+                .description("Open ticket titles held by the duplicate-check index")
+                .register(meterRegistry);
+    }
+
+    public record Match(Long ticketId, double similarity) {
+    }
+
+    private record ScopeKey(Long buildingId, Long requestTypeId) {
+    }
+
+    private record IndexedTitle(Long ticketId, String normalized, long[] trigrams) {
+    }
+
+    private record Candidate(IndexedTitle title, double overlap) {
+    }
+
+    /**
+     * Adds, replaces or removes the ticket's title depending on whether it is still open.
+     */
+    public void record(Ticket ticket) {
+        if (ticket.getId() == null || ticket.getBuildingRecord() == null || ticket.getRequestType() == null) {
+            return;
+        }
+        Long ticketId = ticket.getId();
+        ScopeKey scope = new ScopeKey(ticket.getBuildingRecord().getId(), ticket.getRequestType().getId());
+        String title = CLOSED_STATUSES.contains(ticket.getStatus()) ? null : ticket.getTitle();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(scope, ticketId, title);
+                }
+            });
+            return;
+        }
+        apply(scope, ticketId, title);
+    }
+
+    /**
+     * Open tickets in the scope whose titles score above {@link TitleSimilarity#THRESHOLD}, best
+     * first, or empty when the index has not been built yet.
+     */
+    public Optional<List<Match>> findSimilar(Long buildingId, Long requestTypeId, String title, int limit) {
+        String normalized = TitleSimilarity.normalize(title);
+        long[] trigrams = TitleSimilarity.trigrams(normalized);
+        List<Candidate> candidates;
+        synchronized (lock) {
+            if (!ready) {
+                return Optional.empty();
+            }
+            ScopeTitles scope = scopes.get(new ScopeKey(buildingId, requestTypeId));
+            if (scope == null || trigrams.length == 0) {
+                return Optional.of(List.of());
+            }
+            candidates = scope.candidates(trigrams);
+        }
+
+        // Confirm outside the lock; the shortlist holds immutable snapshots of the titles.
+        List<Match> matches = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            double similarity = TitleSimilarity.similarity(normalized, candidate.title().normalized());
+            if (similarity > TitleSimilarity.THRESHOLD) {
+                matches.add(new Match(candidate.title().ticketId(), similarity));
+            }
+        }
+        return Optional.of(matches.stream()
+                .sorted(Comparator.comparingDouble(Match::similarity).reversed()
+                        .thenComparing(Match::ticketId, Comparator.reverseOrder()))
+                .limit(limit)
+                .toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildOnStartup() {
+        Map<ScopeKey, ScopeTitles> loaded = loadFromDatabase();
+        synchronized (lock) {
+            scopes = loaded;
+            ready = true;
+            generation++;
+        }
+        log.info("Built duplicate-check index for {} open ticket(s)", size());
+    }
+
+    /**
+     * Replaces the index with a fresh database view. The swap is skipped when local changes were
+     * applied while the database was being read; the next run picks them up.
+     */
+    @Scheduled(
+            fixedDelayString = "${app.tickets.duplicate-check.rebuild-fixed-delay-ms:300000}",
+            initialDelayString = "${app.tickets.duplicate-check.rebuild-fixed-delay-ms:300000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long startedAt;
+        synchronized (lock) {
+            if (!ready) {
+                return;
+            }
+            startedAt = generation;
+        }
+        Map<ScopeKey, ScopeTitles> loaded = loadFromDatabase();
+        synchronized (lock) {
+            if (generation == startedAt) {
+                scopes = loaded;
+                generation++;
+            }
+        }
+    }
+
+    int size() {
+        synchronized (lock) {
+            return scopes.values().stream().mapToInt(scope -> scope.titles.size()).sum();
+        }
+    }
+
+    private void apply(ScopeKey scope, Long ticketId, String title) {
+        synchronized (lock) {
+            if (!ready) {
+                return;
+            }
+            ScopeTitles titles = scopes.get(scope);
+            if (titles != null) {
+                titles.remove(ticketId);
+                if (titles.titles.isEmpty()) {
+                    scopes.remove(scope);
+                }
+            }
+            if (title != null) {
+                scopes.computeIfAbsent(scope, ignored -> new ScopeTitles()).add(ticketId, title);
+            }
+            generation++;
+        }
+    }
+
+    private Map<ScopeKey, ScopeTitles> loadFromDatabase() {
+        Map<ScopeKey, ScopeTitles> loaded = new HashMap<>();
+        try (Stream<Object[]> rows = ticketRepository.streamOpenTicketTitles(CLOSED_STATUSES)) {
+            rows.forEach(row -> loaded
+                    .computeIfAbsent(new ScopeKey((Long) row[1], (Long) row[2]), ignored -> new ScopeTitles())
+                    .add((Long) row[0], (String) row[3]));
+        }
+        return loaded;
+    }
+
+    private final class ScopeTitles {
+
+        private final Map<Long, IndexedTitle> titles = new HashMap<>();
+        private final Map<Long, Set<Long>> postings = new HashMap<>();
+
+        private void add(Long ticketId, String title) {
+            String normalized = TitleSimilarity.normalize(title);
+            IndexedTitle indexed = new IndexedTitle(ticketId, normalized, TitleSimilarity.trigrams(normalized));
+            titles.put(ticketId, indexed);
+            for (long trigram : indexed.trigrams()) {
+                postings.computeIfAbsent(trigram, ignored -> new HashSet<>()).add(ticketId);
+            }
+        }
+
+        private void remove(Long ticketId) {
+            IndexedTitle removed = titles.remove(ticketId);
+            if (removed == null) {
+                return;
+            }
+            for (long trigram : removed.trigrams()) {
+                Set<Long> ticketIds = postings.get(trigram);
+                ticketIds.remove(ticketId);
+                if (ticketIds.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+
+        /**
+         * Overlap coefficient (shared trigrams over the smaller trigram set) rewards both near
+         * matches and titles that contain one another, mirroring what the exact score accepts.
+         */
+        private List<Candidate> candidates(long[] trigrams) {
+            Map<Long, Integer> shared = new HashMap<>();
+            for (long trigram : trigrams) {
+                Set<Long> ticketIds = postings.get(trigram);
+                if (ticketIds != null) {
+                    for (Long ticketId : ticketIds) {
+                        shared.merge(ticketId, 1, Integer::sum);
+                    }
+                }
+            }
+            return shared.entrySet().stream()
+                    .map(entry -> {
+                        IndexedTitle title = titles.get(entry.getKey());
+                        int smaller = Math.min(trigrams.length, title.trigrams().length);
+                        return new Candidate(title, (double) entry.getValue() / smaller);
+                    })
+                    .sorted(Comparator.comparingDouble(Candidate::overlap).reversed())
+                    .limit(maxCandidates)
+                    .toList();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.smartcampus.maintenance.service;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import java.nio.charset.StandardCharsets;
@@ -8,8 +9,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.MailException;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -22,14 +23,21 @@ public class EmailDeliveryService {
     private final JavaMailSender javaMailSender;
     private final String fromAddress;
     private final String mailHost;
+    private final SmtpTransportPool transportPool;
 
     public EmailDeliveryService(
             @Autowired(required = false) JavaMailSender javaMailSender,
             @Value("${app.email.from:no-reply@campusfix.local}") String fromAddress,
-            @Value("${spring.mail.host:}") String mailHost) {
+            @Value("${spring.mail.host:}") String mailHost,
+            @Value("${app.email.smtp-pool.enabled:true}") boolean transportPoolEnabled,
+            @Value("${app.email.smtp-pool.max-idle:4}") int transportPoolMaxIdle,
+            @Value("${app.email.smtp-pool.validate-after-idle-ms:5000}") long transportPoolValidateAfterIdleMs) {
         this.javaMailSender = javaMailSender;
         this.fromAddress = fromAddress;
         this.mailHost = mailHost;
+        this.transportPool = transportPoolEnabled && javaMailSender instanceof JavaMailSenderImpl impl
+                ? new SmtpTransportPool(impl, transportPoolMaxIdle, transportPoolValidateAfterIdleMs)
+                : null;
     }
 
     public void send(String to, String subject, String plainText, String htmlBody) {
@@ -43,15 +51,23 @@ public class EmailDeliveryService {
         sendPlain(to, subject, plainText);
     }
 
+    @PreDestroy
+    public void closeTransports() {
+        if (transportPool != null) {
+            transportPool.close();
+        }
+    }
+
     private void sendPlain(String to, String subject, String body) {
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromAddress);
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(body);
-            javaMailSender.send(message);
-        } catch (MailException ex) {
+            MimeMessage message = javaMailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, false, StandardCharsets.UTF_8.name());
+            helper.setFrom(fromAddress);
+            helper.setTo(to);
+            helper.setSubject(subject);
+            helper.setText(body);
+            dispatch(message);
+        } catch (MailException | MessagingException ex) {
             throw enrichDeliveryException(ex);
         }
     }
@@ -64,12 +80,20 @@ public class EmailDeliveryService {
             helper.setTo(to);
             helper.setSubject(subject);
             helper.setText(plainText, htmlBody);
-            javaMailSender.send(message);
+            dispatch(message);
         } catch (MailException | MessagingException ex) {
             throw enrichDeliveryException(ex);
         }
     }
 
+    private void dispatch(MimeMessage message) {
+        if (transportPool != null) {
+            transportPool.send(message);
+            return;
+        }
+        javaMailSender.send(message);
+    }
+
     private boolean canSend(String to, String subject) {
         if (!StringUtils.hasText(fromAddress)) {
             log.warn("Skipping email send because from address is blank. Subject: {}", subject);
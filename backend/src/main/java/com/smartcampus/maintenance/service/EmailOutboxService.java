@@ -3,14 +3,31 @@ package com.smartcampus.maintenance.service;
 import com.smartcampus.maintenance.entity.EmailOutbox;
 import com.smartcampus.maintenance.entity.enums.EmailOutboxStatus;
 import com.smartcampus.maintenance.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 @Service
@@ -24,20 +41,85 @@ public class EmailOutboxService {
     private final int batchSize;
     private final int maxAttempts;
     private final long retentionDays;
+    private final int maxBatchesPerRun;
+    private final long leaseSeconds;
+    private final String claimOwner;
+    private final boolean skipLockedSupported;
+    private final TransactionTemplate messageTransactionTemplate;
+    private final ExecutorService deliveryWorkers;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter permanentFailureCounter;
+    private final Timer deliveryTimer;
+    private final Timer latencyTimer;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+    private final AtomicLong lastRunThroughput = new AtomicLong();
 
     public EmailOutboxService(
             EmailOutboxRepository emailOutboxRepository,
             EmailDeliveryService emailDeliveryService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
             @Value("${app.email.enabled:false}") boolean emailEnabled,
             @Value("${app.email.outbox.batch-size:20}") int batchSize,
             @Value("${app.email.outbox.max-attempts:6}") int maxAttempts,
-            @Value("${app.email.outbox.sent-retention-days:14}") long retentionDays) {
+            @Value("${app.email.outbox.sent-retention-days:14}") long retentionDays,
+            @Value("${app.email.outbox.worker-threads:4}") int workerThreads,
+            @Value("${app.email.outbox.max-batches-per-run:10}") int maxBatchesPerRun,
+            @Value("${app.email.outbox.lease-seconds:120}") long leaseSeconds,
+            @Value("${app.email.outbox.claim-owner:}") String claimOwner,
+            @Value("${spring.datasource.url:}") String datasourceUrl,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
         this.emailOutboxRepository = emailOutboxRepository;
         this.emailDeliveryService = emailDeliveryService;
         this.emailEnabled = emailEnabled;
         this.batchSize = Math.max(1, batchSize);
         this.maxAttempts = Math.max(1, maxAttempts);
         this.retentionDays = Math.max(1, retentionDays);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+        this.leaseSeconds = Math.max(10, leaseSeconds);
+        this.claimOwner = resolveClaimOwner(claimOwner);
+        // H2 (dev/test fallback) has no SKIP LOCKED; the conditional claim update still keeps
+        // instances apart there, it just serializes claimers instead of letting them skip ahead.
+        this.skipLockedSupported = !StringUtils.hasText(datasourceUrl) || !datasourceUrl.startsWith("jdbc:h2:");
+        // Each message is marked and then settled in short transactions of its own; the SMTP round
+        // trip between them runs outside any transaction, so it holds neither a connection nor a
+        // row lock.
+        this.messageTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.messageTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicInteger workerSequence = new AtomicInteger();
+        // worker-threads still bounds concurrent SMTP sessions; in virtual-thread mode the workers
+        // just stop holding a platform thread while they wait on the SMTP server.
+        this.deliveryWorkers = Executors.newFixedThreadPool(Math.max(1, workerThreads), virtualThreads
+                ? Thread.ofVirtual().name("email-outbox-", 1).factory()
+                : runnable -> {
+                    Thread thread = new Thread(runnable, "email-outbox-" + workerSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.sentCounter = Counter.builder("email.outbox.sent")
+                .description("Outbox emails delivered to the SMTP server")
+                .register(meterRegistry);
+        this.retryCounter = failureCounter(meterRegistry, "retry");
+        this.permanentFailureCounter = failureCounter(meterRegistry, "permanent");
+        this.deliveryTimer = Timer.builder("email.outbox.delivery")
+                .description("Time spent handing one outbox email to the SMTP server")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("email.outbox.latency")
+                .description("Time from enqueue to delivery for sent outbox emails, including retries")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.queue.depth", queueDepth, AtomicLong::get)
+                .description("Outbox emails waiting to be sent, as of the last worker run")
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.oldest.pending.age.seconds", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("Age of the oldest pending outbox email, as of the last worker run")
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.throughput", lastRunThroughput, AtomicLong::get)
+                .description("Emails sent per second during the last worker run")
+                .register(meterRegistry);
     }
 
     @Transactional
@@ -63,21 +145,42 @@ public class EmailOutboxService {
         emailOutboxRepository.save(message);
     }
 
-    @Transactional
     public int processPendingBatch() {
         if (!emailEnabled) {
             return 0;
         }
-        List<EmailOutbox> pending = emailOutboxRepository
-                .findByStatusAndNextAttemptAtLessThanEqualOrderByCreatedAtAsc(
-                        EmailOutboxStatus.PENDING,
-                        LocalDateTime.now(),
-                        PageRequest.of(0, batchSize));
+        long startedAt = System.nanoTime();
+        int processed = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            ClaimResult claim = messageTransactionTemplate.execute(status -> claimBatch());
+            if (claim == null) {
+                break;
+            }
+            List<CompletableFuture<Void>> deliveries = new ArrayList<>(claim.claimedIds().size());
+            for (Long id : claim.claimedIds()) {
+                deliveries.add(CompletableFuture.runAsync(() -> deliverClaimed(id), deliveryWorkers));
+            }
+            CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).join();
+            processed += claim.claimedIds().size();
+            if (claim.candidates() < batchSize) {
+                break;
+            }
+        }
+        refreshQueueGauges(processed, System.nanoTime() - startedAt);
+        return processed;
+    }
 
-        for (EmailOutbox message : pending) {
-            deliver(message);
+    @PreDestroy
+    public void shutdownWorkers() {
+        deliveryWorkers.shutdown();
+        try {
+            if (!deliveryWorkers.awaitTermination(10, TimeUnit.SECONDS)) {
+                deliveryWorkers.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            deliveryWorkers.shutdownNow();
+            Thread.currentThread().interrupt();
         }
-        return pending.size();
     }
 
     @Transactional
@@ -87,36 +190,148 @@ public class EmailOutboxService {
                 LocalDateTime.now().minusDays(retentionDays));
     }
 
-    private void deliver(EmailOutbox message) {
-        message.setLastAttemptAt(LocalDateTime.now());
-        message.setAttemptCount(message.getAttemptCount() + 1);
+    private ClaimResult claimBatch() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        String status = EmailOutboxStatus.PENDING.name();
+        List<Long> candidates = skipLockedSupported
+                ? emailOutboxRepository.lockClaimableIds(status, now, batchSize)
+                : emailOutboxRepository.findClaimableIds(status, now, batchSize);
+        if (candidates.isEmpty()) {
+            return new ClaimResult(0, List.of());
+        }
+        int claimed = emailOutboxRepository.claim(candidates, EmailOutboxStatus.PENDING, claimOwner, now, leaseUntil);
+        if (claimed == 0) {
+            return new ClaimResult(candidates.size(), List.of());
+        }
+        return new ClaimResult(
+                candidates.size(),
+                emailOutboxRepository.findClaimedIds(candidates, claimOwner, leaseUntil));
+    }
+
+    private void deliverClaimed(Long id) {
         try {
-            emailDeliveryService.send(
+            EmailOutbox message = messageTransactionTemplate.execute(status -> startAttempt(id));
+            if (message == null) {
+                return;
+            }
+            RuntimeException failure = send(message);
+            messageTransactionTemplate.executeWithoutResult(status -> recordAttempt(id, failure));
+        } catch (RuntimeException ex) {
+            log.error("Email outbox message {} could not be processed", id, ex);
+        }
+    }
+
+    /**
+     * Counts the attempt before the send, so a crash mid-send still uses up one attempt. A batch
+     * drains through the workers one message at a time, so a message can wait in the queue past
+     * the lease it was claimed with; it is only sent if the claim is still live, and the lease is
+     * renewed for the send itself. The claim stays in place until the outcome is recorded.
+     */
+    private EmailOutbox startAttempt(Long id) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int started = emailOutboxRepository.startAttempt(
+                id, EmailOutboxStatus.PENDING, claimOwner, now, now.plusSeconds(leaseSeconds));
+        if (started == 0) {
+            return null;
+        }
+        return emailOutboxRepository.findById(id).orElse(null);
+    }
+
+    private RuntimeException send(EmailOutbox message) {
+        try {
+            deliveryTimer.record(() -> emailDeliveryService.send(
                     message.getToEmail(),
                     message.getSubject(),
                     message.getPlainTextBody(),
-                    message.getHtmlBody());
-            message.setStatus(EmailOutboxStatus.SENT);
-            message.setSentAt(LocalDateTime.now());
-            message.setLastError(null);
-            message.setNextAttemptAt(LocalDateTime.now());
+                    message.getHtmlBody()));
+            return null;
         } catch (RuntimeException ex) {
-            int attempt = message.getAttemptCount();
-            message.setLastError(safeError(ex.getMessage()));
-            if (attempt >= maxAttempts) {
-                message.setStatus(EmailOutboxStatus.FAILED);
-                message.setNextAttemptAt(LocalDateTime.now());
-                log.error("Email outbox message {} failed permanently after {} attempts", message.getId(), attempt);
-            } else {
-                long backoffMinutes = Math.min(60, 1L << Math.min(6, attempt));
-                message.setNextAttemptAt(LocalDateTime.now().plusMinutes(backoffMinutes));
-                log.warn("Email outbox message {} failed attempt {}. Retrying in {} minute(s).",
-                        message.getId(), attempt, backoffMinutes);
-            }
+            return ex;
+        }
+    }
+
+    private void recordAttempt(Long id, RuntimeException failure) {
+        EmailOutbox message = emailOutboxRepository.findById(id)
+                .filter(candidate -> claimOwner.equals(candidate.getClaimedBy()))
+                .orElse(null);
+        if (message == null) {
+            log.warn("Email outbox message {} was re-claimed by another instance during the send", id);
+            return;
+        }
+        message.setClaimedBy(null);
+        message.setClaimExpiresAt(null);
+        if (failure == null) {
+            markSent(message);
+        } else {
+            markFailed(message, failure);
         }
         emailOutboxRepository.save(message);
     }
 
+    private void markSent(EmailOutbox message) {
+        sentCounter.increment();
+        message.setStatus(EmailOutboxStatus.SENT);
+        message.setSentAt(LocalDateTime.now());
+        if (message.getCreatedAt() != null) {
+            latencyTimer.record(Duration.between(message.getCreatedAt(), message.getSentAt()));
+        }
+        message.setLastError(null);
+        message.setNextAttemptAt(LocalDateTime.now());
+    }
+
+    private void markFailed(EmailOutbox message, RuntimeException failure) {
+        int attempt = message.getAttemptCount();
+        message.setLastError(safeError(failure.getMessage()));
+        if (attempt >= maxAttempts) {
+            message.setStatus(EmailOutboxStatus.FAILED);
+            message.setNextAttemptAt(LocalDateTime.now());
+            permanentFailureCounter.increment();
+            log.error("Email outbox message {} failed permanently after {} attempts", message.getId(), attempt);
+        } else {
+            long backoffMinutes = Math.min(60, 1L << Math.min(6, attempt));
+            message.setNextAttemptAt(LocalDateTime.now().plusMinutes(backoffMinutes));
+            retryCounter.increment();
+            log.warn("Email outbox message {} failed attempt {}. Retrying in {} minute(s).",
+                    message.getId(), attempt, backoffMinutes);
+        }
+    }
+
+    private void refreshQueueGauges(int processed, long elapsedNanos) {
+        try {
+            queueDepth.set(emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+            oldestPendingAgeSeconds.set(emailOutboxRepository.findOldestCreatedAt(EmailOutboxStatus.PENDING)
+                    .map(createdAt -> Math.max(0L, Duration.between(createdAt, LocalDateTime.now()).toSeconds()))
+                    .orElse(0L));
+        } catch (RuntimeException ex) {
+            log.warn("Failed to refresh email outbox queue metrics", ex);
+        }
+        if (processed > 0) {
+            long elapsedMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            lastRunThroughput.set(processed * 1000L / elapsedMillis);
+        }
+    }
+
+    private static String resolveClaimOwner(String configured) {
+        if (StringUtils.hasText(configured)) {
+            return configured.trim();
+        }
+        String host = System.getenv("HOSTNAME");
+        String prefix = StringUtils.hasText(host) ? host.trim() : "instance";
+        String owner = prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+        return owner.length() > 100 ? owner.substring(owner.length() - 100) : owner;
+    }
+
+    private static Counter failureCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("email.outbox.failed")
+                .description("Outbox email delivery attempts that failed")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record ClaimResult(int candidates, List<Long> claimedIds) {
+    }
+
     private String safeError(String message) {
         if (!StringUtils.hasText(message)) {
             return "Unknown email delivery error";
@@ -9,13 +9,18 @@ import com.smartcampus.maintenance.entity.enums.UrgencyLevel;
 import com.smartcampus.maintenance.repository.TicketRepository;
 import com.smartcampus.maintenance.repository.UserRepository;
 import java.time.LocalDateTime;
-import java.util.EnumSet;
+import java.util.ArrayList;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Component
 public class EscalationScheduler {
@@ -27,67 +32,66 @@ public class EscalationScheduler {
     private final NotificationService notificationService;
     private final UserRepository userRepository;
     private final EmailService emailService;
+    private final TicketStatsRollupService ticketStatsRollupService;
+    private final SlaDeadlineQueue slaDeadlineQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final long reEscalationMinutes;
 
     public EscalationScheduler(
             TicketRepository ticketRepository,
             SlaService slaService,
             NotificationService notificationService,
             UserRepository userRepository,
-            EmailService emailService) {
+            EmailService emailService,
+            TicketStatsRollupService ticketStatsRollupService,
+            SlaDeadlineQueue slaDeadlineQueue,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.sla.escalation.re-escalation-minutes:30}") long reEscalationMinutes) {
         this.ticketRepository = ticketRepository;
         this.slaService = slaService;
         this.notificationService = notificationService;
         this.userRepository = userRepository;
         this.emailService = emailService;
+        this.ticketStatsRollupService = ticketStatsRollupService;
+        this.slaDeadlineQueue = slaDeadlineQueue;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reEscalationMinutes = Math.max(1, reEscalationMinutes);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeDeadlines() {
+        int backfilled = slaService.backfillDeadlines();
+        if (backfilled > 0) {
+            log.info("Backfilled SLA deadlines for {} ticket(s)", backfilled);
+        }
+        transactionTemplate.executeWithoutResult(status -> reloadDeadlineQueue(LocalDateTime.now()));
     }
 
     /**
-     * Runs every 30 minutes. Finds open tickets that have breached their SLA,
-     * bumps urgency if not already CRITICAL, and notifies all admins.
+     * Cheap in-memory check every few seconds; the database is only queried once a queued
+     * deadline has passed, so breaches escalate within one tick instead of up to 30 minutes late.
      */
-    @Scheduled(fixedRate = 1800000) // 30 minutes
-    @Transactional
-    public void escalateBreachedTickets() {
-        EnumSet<TicketStatus> activeStatuses = EnumSet.of(
-                TicketStatus.SUBMITTED, TicketStatus.APPROVED,
-                TicketStatus.ASSIGNED, TicketStatus.ACCEPTED, TicketStatus.IN_PROGRESS);
-
-        List<Ticket> activeTickets = ticketRepository.findAll().stream()
-                .filter(t -> activeStatuses.contains(t.getStatus()))
-                .filter(slaService::isSlaBreached)
-                .toList();
-
-        if (activeTickets.isEmpty())
+    @Scheduled(fixedDelayString = "${app.sla.escalation.tick-ms:5000}")
+    public void fireDueDeadlines() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!slaDeadlineQueue.takeDue(now)) {
             return;
-
-        List<User> admins = userRepository.findByRole(Role.ADMIN);
-        int escalated = 0;
-
-        for (Ticket ticket : activeTickets) {
-            UrgencyLevel current = ticket.getUrgency();
-            UrgencyLevel escalatedLevel = bumpUrgency(current);
-
-            if (escalatedLevel != current) {
-                ticket.setUrgency(escalatedLevel);
-                ticketRepository.save(ticket);
-                escalated++;
-
-                for (User admin : admins) {
-                    notificationService.notify(admin,
-                            "SLA Breach: Ticket #" + ticket.getId(),
-                            "Ticket \"" + ticket.getTitle() + "\" has breached SLA. Urgency escalated from "
-                                    + current + " to " + escalatedLevel + ".",
-                            NotificationType.SLA_BREACH,
-                            "/tickets/" + ticket.getId());
-                    emailService.sendSlaBreachEmail(admin.getEmail(), ticket.getTitle(), ticket.getId());
-                }
-            }
         }
+        transactionTemplate.executeWithoutResult(status -> escalateDue(now));
+    }
 
-        if (escalated > 0) {
-            log.info("Escalated {} tickets due to SLA breach", escalated);
-        }
+    /**
+     * Periodic sweep. Catches deadlines written by other instances, refreshes the in-memory
+     * deadline window and flags approved tickets that are still waiting for assignment.
+     */
+    @Scheduled(fixedRateString = "${app.sla.escalation.sweep-interval-ms:1800000}")
+    @Transactional
+    public void escalateBreachedTickets() {
+        LocalDateTime now = LocalDateTime.now();
+        escalateDue(now);
+        reloadDeadlineQueue(now);
 
+        List<User> admins = userRepository.findByRole(Role.ADMIN);
         LocalDateTime staleThreshold = LocalDateTime.now().minusHours(2);
         List<Ticket> staleUnassigned = ticketRepository.findByStatusAndAssignedToIsNullAndUpdatedAtBefore(
                 TicketStatus.APPROVED,
@@ -107,6 +111,73 @@ public class EscalationScheduler {
         }
     }
 
+    /**
+     * Escalates active tickets whose deadline has passed by one urgency level and pushes their
+     * deadline out. Tickets that are no longer active, or already CRITICAL, have their deadline
+     * cleared so they drop out of the index range.
+     */
+    private int escalateDue(LocalDateTime now) {
+        List<Ticket> dueTickets = ticketRepository.findBySlaDeadlineAtLessThanEqualOrderBySlaDeadlineAtAsc(now);
+        if (dueTickets.isEmpty())
+            return 0;
+
+        List<Long> settled = new ArrayList<>();
+        List<User> admins = null;
+        int escalated = 0;
+
+        for (Ticket ticket : dueTickets) {
+            UrgencyLevel current = ticket.getUrgency();
+            UrgencyLevel escalatedLevel = bumpUrgency(current);
+            if (!SlaService.ACTIVE_STATUSES.contains(ticket.getStatus()) || escalatedLevel == current) {
+                settled.add(ticket.getId());
+                continue;
+            }
+
+            TicketStatsRollupService.Snapshot before = TicketStatsRollupService.Snapshot.of(ticket);
+            ticket.setUrgency(escalatedLevel);
+            // Give each escalation step time to be acted on before the next one.
+            LocalDateTime nextDeadline = slaService.deadlineFor(ticket);
+            LocalDateTime earliestRecheck = now.plusMinutes(reEscalationMinutes);
+            if (nextDeadline == null || nextDeadline.isBefore(earliestRecheck)) {
+                nextDeadline = earliestRecheck;
+            }
+            slaService.trackDeadline(ticket, nextDeadline);
+            ticketRepository.save(ticket);
+            ticketStatsRollupService.recordChange(before, ticket);
+            escalated++;
+
+            if (admins == null) {
+                admins = userRepository.findByRole(Role.ADMIN);
+            }
+            for (User admin : admins) {
+                notificationService.notify(admin,
+                        "SLA Breach: Ticket #" + ticket.getId(),
+                        "Ticket \"" + ticket.getTitle() + "\" has breached SLA. Urgency escalated from "
+                                + current + " to " + escalatedLevel + ".",
+                        NotificationType.SLA_BREACH,
+                        "/tickets/" + ticket.getId());
+                emailService.sendSlaBreachEmail(admin.getEmail(), ticket.getTitle(), ticket.getId());
+            }
+        }
+
+        if (!settled.isEmpty()) {
+            ticketRepository.clearSlaDeadlines(settled);
+        }
+        if (escalated > 0) {
+            log.info("Escalated {} tickets due to SLA breach", escalated);
+        }
+        return escalated;
+    }
+
+    private void reloadDeadlineQueue(LocalDateTime now) {
+        List<SlaDeadlineQueue.Deadline> upcoming = ticketRepository
+                .findSlaDeadlinesUpTo(SlaService.ACTIVE_STATUSES, slaDeadlineQueue.horizon(now))
+                .stream()
+                .map(row -> new SlaDeadlineQueue.Deadline((Long) row[0], (LocalDateTime) row[1]))
+                .toList();
+        slaDeadlineQueue.reload(upcoming);
+    }
+
     private UrgencyLevel bumpUrgency(UrgencyLevel current) {
         return switch (current) {
             case LOW -> UrgencyLevel.MEDIUM;
@@ -1,19 +1,53 @@
 package com.smartcampus.maintenance.service;
 
+import com.smartcampus.maintenance.dto.user.BroadcastAudience;
 import com.smartcampus.maintenance.entity.User;
 import com.smartcampus.maintenance.entity.enums.NotificationType;
+import com.smartcampus.maintenance.entity.enums.Role;
+import com.smartcampus.maintenance.event.NotificationFanOutRequestedEvent;
+import com.smartcampus.maintenance.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+/**
+ * Writes in-app notifications. Fan-outs to many users are inserted in chunks with one
+ * multi-row statement each; audiences above the async threshold are handed to
+ * {@link NotificationFanOutListener} and written after the caller's transaction commits,
+ * off the request thread. Broadcast audiences are resolved to user ids in SQL, so callers never
+ * load user entities just to address a fan-out.
+ */
 @Service
 public class NotificationDispatchService {
 
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatchService.class);
+
     private final NotificationService notificationService;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int asyncThreshold;
 
-    public NotificationDispatchService(NotificationService notificationService) {
+    public NotificationDispatchService(
+            NotificationService notificationService,
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.notifications.fan-out.batch-size:1000}") int batchSize,
+            @Value("${app.notifications.fan-out.async-threshold:100}") int asyncThreshold) {
         this.notificationService = notificationService;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = Math.max(1, batchSize);
+        this.asyncThreshold = Math.max(0, asyncThreshold);
     }
 
     public void notifyUser(User user, String title, String message, NotificationType type, String linkUrl) {
@@ -29,10 +63,68 @@ public class NotificationDispatchService {
         }
         Set<Long> seen = new LinkedHashSet<>();
         for (User user : users) {
-            if (user == null || user.getId() == null || !seen.add(user.getId())) {
+            if (user == null || user.getId() == null) {
                 continue;
             }
-            notificationService.notify(user, title, message, type, linkUrl);
+            seen.add(user.getId());
+        }
+        fanOut(List.copyOf(seen), title, message, type, linkUrl);
+    }
+
+    /**
+     * Notifies every user in {@code audience} except {@code excludedUserId} (may be null) and
+     * returns the number of recipients addressed.
+     */
+    public int notifyAudience(
+            BroadcastAudience audience,
+            Long excludedUserId,
+            String title,
+            String message,
+            NotificationType type,
+            String linkUrl) {
+        List<Long> userIds = userRepository.findIdsByRoleIn(rolesFor(audience), excludedUserId);
+        fanOut(userIds, title, message, type, linkUrl);
+        return userIds.size();
+    }
+
+    private void fanOut(List<Long> userIds, String title, String message, NotificationType type, String linkUrl) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        NotificationFanOutRequestedEvent fanOut = new NotificationFanOutRequestedEvent(
+                userIds, title, message, type, linkUrl, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        if (userIds.size() > asyncThreshold) {
+            eventPublisher.publishEvent(fanOut);
+            return;
+        }
+        deliver(fanOut);
+    }
+
+    private static Set<Role> rolesFor(BroadcastAudience audience) {
+        return switch (audience) {
+            case ALL -> EnumSet.allOf(Role.class);
+            case STUDENTS -> EnumSet.of(Role.STUDENT);
+            case STAFF -> EnumSet.of(Role.ADMIN, Role.MAINTENANCE);
+        };
+    }
+
+    int deliver(NotificationFanOutRequestedEvent fanOut) {
+        List<Long> userIds = fanOut.userIds();
+        int inserted = 0;
+        for (int start = 0; start < userIds.size(); start += batchSize) {
+            List<Long> chunk = userIds.subList(start, Math.min(start + batchSize, userIds.size()));
+            inserted += notificationService.notifyAll(
+                    chunk,
+                    fanOut.title(),
+                    fanOut.message(),
+                    fanOut.type(),
+                    fanOut.linkUrl(),
+                    fanOut.createdAt());
+        }
+        if (userIds.size() > asyncThreshold) {
+            log.info("Delivered {} \"{}\" notifications in {} batch(es)",
+                    inserted, fanOut.title(), (userIds.size() + batchSize - 1) / batchSize);
         }
+        return inserted;
     }
 }
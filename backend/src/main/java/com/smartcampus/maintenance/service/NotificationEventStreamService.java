@@ -0,0 +1,173 @@
+package com.smartcampus.maintenance.service;
+
+import com.smartcampus.maintenance.dto.notification.NotificationResponse;
+import com.smartcampus.maintenance.dto.notification.NotificationStreamEvent;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Per-user SSE channel for in-app notifications. Each connection gets a bounded send queue
+ * drained on the task executor, so a slow client never blocks the thread that created the
+ * notification; a connection whose queue overflows is closed and the client reconnects and
+ * reloads. Events raised inside a transaction are only queued once it commits.
+ */
+@Service
+public class NotificationEventStreamService {
+
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final TaskExecutor taskExecutor;
+    private final long timeoutMs;
+    private final int queueCapacity;
+
+    public NotificationEventStreamService(
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+            @Value("${app.notifications.stream.timeout-ms:900000}") long timeoutMs,
+            @Value("${app.notifications.stream.queue-capacity:64}") int queueCapacity) {
+        this.taskExecutor = taskExecutor;
+        this.timeoutMs = Math.max(0L, timeoutMs);
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    public SseEmitter subscribe(Long userId, long unreadCount) {
+        Subscription subscription = new Subscription(userId, new SseEmitter(timeoutMs));
+        subscriptions.computeIfAbsent(userId, ignored -> new CopyOnWriteArraySet<>()).add(subscription);
+        subscription.emitter.onCompletion(subscription::close);
+        subscription.emitter.onTimeout(subscription::close);
+        subscription.emitter.onError(ignored -> subscription.close());
+        subscription.enqueue(event(new NotificationStreamEvent("CONNECTED", null, 0, unreadCount, LocalDateTime.now())));
+        return subscription.emitter;
+    }
+
+    public Set<Long> connectedUserIds(Collection<Long> userIds) {
+        return userIds.stream()
+                .filter(subscriptions::containsKey)
+                .collect(Collectors.toSet());
+    }
+
+    public void publishCreated(Long userId, NotificationResponse notification) {
+        afterCommit(() -> publish(userId, new NotificationStreamEvent(
+                "CREATED", notification, notification.read() ? 0 : 1, null, LocalDateTime.now())));
+    }
+
+    public void publishRead(Long userId, NotificationResponse notification) {
+        afterCommit(() -> publish(userId, new NotificationStreamEvent(
+                "READ", notification, -1, null, LocalDateTime.now())));
+    }
+
+    public void publishAllRead(Long userId) {
+        afterCommit(() -> publish(userId, new NotificationStreamEvent(
+                "READ_ALL", null, 0, 0L, LocalDateTime.now())));
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.stream.heartbeat-interval-ms:25000}")
+    public void sendHeartbeats() {
+        subscriptions.values().forEach(userSubscriptions ->
+                userSubscriptions.forEach(subscription -> subscription.enqueue(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    private void publish(Long userId, NotificationStreamEvent event) {
+        Set<Subscription> userSubscriptions = userId == null ? null : subscriptions.get(userId);
+        if (userSubscriptions == null) {
+            return;
+        }
+        userSubscriptions.forEach(subscription -> subscription.enqueue(event(event)));
+    }
+
+    private static SseEmitter.SseEventBuilder event(NotificationStreamEvent event) {
+        return SseEmitter.event().name("notification").data(event);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private final class Subscription {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscription(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                taskExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+            subscriptions.computeIfPresent(userId, (ignored, userSubscriptions) -> {
+                userSubscriptions.remove(this);
+                return userSubscriptions.isEmpty() ? null : userSubscriptions;
+            });
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // Already completed by the container.
+            }
+        }
+    }
+}
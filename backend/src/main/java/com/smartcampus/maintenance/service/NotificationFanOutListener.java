@@ -0,0 +1,31 @@
+package com.smartcampus.maintenance.service;
+
+import com.smartcampus.maintenance.event.NotificationFanOutRequestedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class NotificationFanOutListener {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationFanOutListener.class);
+
+    private final NotificationDispatchService notificationDispatchService;
+
+    public NotificationFanOutListener(NotificationDispatchService notificationDispatchService) {
+        this.notificationDispatchService = notificationDispatchService;
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationFanOutRequested(NotificationFanOutRequestedEvent event) {
+        try {
+            notificationDispatchService.deliver(event);
+        } catch (RuntimeException ex) {
+            log.error("Unable to deliver \"{}\" notifications to {} users", event.title(), event.userIds().size(), ex);
+        }
+    }
+}
@@ -8,19 +8,26 @@ import com.smartcampus.maintenance.exception.ForbiddenException;
 import com.smartcampus.maintenance.exception.NotFoundException;
 import com.smartcampus.maintenance.repository.NotificationRepository;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 public class NotificationService {
 
     private static final long RETENTION_DAYS = 3;
     private final NotificationRepository notificationRepository;
+    private final NotificationEventStreamService notificationEventStreamService;
 
-    public NotificationService(NotificationRepository notificationRepository) {
+    public NotificationService(
+            NotificationRepository notificationRepository,
+            NotificationEventStreamService notificationEventStreamService) {
         this.notificationRepository = notificationRepository;
+        this.notificationEventStreamService = notificationEventStreamService;
     }
 
     @Transactional
@@ -31,7 +38,35 @@ public class NotificationService {
         n.setMessage(message);
         n.setType(type);
         n.setLinkUrl(linkUrl);
-        notificationRepository.save(n);
+        Notification saved = notificationRepository.save(n);
+        notificationEventStreamService.publishCreated(user.getId(), toResponse(saved));
+    }
+
+    /**
+     * Inserts the same notification for every given user with a single multi-row statement.
+     */
+    @Transactional
+    public int notifyAll(
+            Collection<Long> userIds,
+            String title,
+            String message,
+            NotificationType type,
+            String linkUrl,
+            LocalDateTime createdAt) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        int inserted = notificationRepository.insertForUsers(userIds, title, message, type.name(), linkUrl, createdAt);
+        Set<Long> connectedUserIds = notificationEventStreamService.connectedUserIds(userIds);
+        if (!connectedUserIds.isEmpty()) {
+            notificationRepository.findFanOutRows(connectedUserIds, createdAt, title)
+                    .forEach(n -> notificationEventStreamService.publishCreated(n.getUser().getId(), toResponse(n)));
+        }
+        return inserted;
+    }
+
+    public SseEmitter subscribe(User actor) {
+        return notificationEventStreamService.subscribe(actor.getId(), getUnreadCount(actor));
     }
 
     @Transactional(readOnly = true)
@@ -55,8 +90,12 @@ public class NotificationService {
         if (!Objects.equals(n.getUser().getId(), actor.getId())) {
             throw new ForbiddenException("Cannot mark another user's notification as read");
         }
+        if (n.isRead()) {
+            return;
+        }
         n.setRead(true);
         notificationRepository.save(n);
+        notificationEventStreamService.publishRead(actor.getId(), toResponse(n));
     }
 
     @Transactional
@@ -66,6 +105,7 @@ public class NotificationService {
                     n.setRead(true);
                     notificationRepository.save(n);
                 });
+        notificationEventStreamService.publishAllRead(actor.getId());
     }
 
     private NotificationResponse toResponse(Notification n) {
@@ -1,33 +1,89 @@
 package com.smartcampus.maintenance.service;
 
 import com.smartcampus.maintenance.exception.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+/**
+ * Token-bucket rate limiter: each key holds up to {@code limit} tokens, refilled continuously at
+ * {@code limit} per {@code window}, and every request spends one.
+ *
+ * <p>In memory, buckets live in one bounded, access-ordered map per scope. A bucket untouched for
+ * a full window has refilled completely and is indistinguishable from a missing one, so idle
+ * buckets are dropped from the cold end on every call. When the bound is still hit, only a bucket
+ * that has already refilled to capacity may make room; a partly spent bucket is never evicted,
+ * since dropping it would hand its key a fresh allowance. If none qualifies, new keys share one
+ * overflow bucket for the scope until space frees up. With Redis enabled, the refill-and-spend
+ * step runs as one Lua script so concurrent replicas cannot interleave between read and write.</p>
+ */
 @Service
 public class RateLimitService {
 
-    private record Counter(long windowStartMs, int count) {
-    }
+    private static final Logger log = LoggerFactory.getLogger(RateLimitService.class);
+
+    private static final String REDIS_KEY_PREFIX = "rate-bucket:";
+    private static final int EVICTION_SCAN_LIMIT = 64;
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local refill_per_ms = tonumber(ARGV[2])
+            local ttl_ms = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1])
+            local ts = tonumber(state[2])
+            if tokens == nil or ts == nil then
+              tokens = capacity
+              ts = now
+            end
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill_per_ms)
+            local allowed = 0
+            if tokens >= 1 then
+              tokens = tokens - 1
+              allowed = 1
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], ttl_ms)
+            return allowed
+            """, Long.class);
 
     private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final MeterRegistry meterRegistry;
     private final boolean enabled;
     private final boolean redisEnabled;
-    private final Map<String, Counter> inMemoryCounters = new ConcurrentHashMap<>();
+    private final int maxKeysPerScope;
+    private final Map<String, ScopeBuckets> scopes = new ConcurrentHashMap<>();
 
     public RateLimitService(
             ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            MeterRegistry meterRegistry,
             @Value("${app.security.rate-limit.enabled:true}") boolean enabled,
-            @Value("${app.security.rate-limit.redis-enabled:false}") boolean redisEnabled) {
+            @Value("${app.security.rate-limit.redis-enabled:false}") boolean redisEnabled,
+            @Value("${app.security.rate-limit.max-keys-per-scope:50000}") int maxKeysPerScope) {
         this.redisTemplateProvider = redisTemplateProvider;
+        this.meterRegistry = meterRegistry;
         this.enabled = enabled;
         this.redisEnabled = redisEnabled;
+        this.maxKeysPerScope = Math.max(1, maxKeysPerScope);
     }
 
     public void enforce(String scope, String key, int limit, Duration window) {
@@ -36,31 +92,164 @@ public class RateLimitService {
             return;
         }
 
-        String normalizedKey = "rate:" + scope + ":" + key.trim().toLowerCase();
-        if (redisEnabled) {
-            StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
-            if (redisTemplate != null) {
-                Long current = redisTemplate.opsForValue().increment(normalizedKey);
-                if (current != null && current == 1L) {
-                    redisTemplate.expire(normalizedKey, window);
-                }
-                if (current != null && current > limit) {
-                    throw new ApiException(HttpStatus.TOO_MANY_REQUESTS, "Too many requests. Please try again later.");
+        String normalizedKey = key.trim().toLowerCase(Locale.ROOT);
+        ScopeBuckets buckets = scopes.computeIfAbsent(scope, ScopeBuckets::new);
+        boolean allowed = tryAcquireRedis(scope, normalizedKey, limit, window)
+                .orElseGet(() -> buckets.tryAcquire(normalizedKey, limit, window.toMillis()));
+        if (!allowed) {
+            buckets.rejected.increment();
+            throw new ApiException(HttpStatus.TOO_MANY_REQUESTS, "Too many requests. Please try again later.");
+        }
+        buckets.allowed.increment();
+    }
+
+    /**
+     * Empty when Redis is disabled or unavailable, so the caller falls back to the local buckets.
+     */
+    private Optional<Boolean> tryAcquireRedis(String scope, String key, int limit, Duration window) {
+        if (!redisEnabled) {
+            return Optional.empty();
+        }
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return Optional.empty();
+        }
+        try {
+            double refillPerMs = (double) limit / window.toMillis();
+            Long allowed = redisTemplate.execute(
+                    TOKEN_BUCKET_SCRIPT,
+                    List.of(REDIS_KEY_PREFIX + scope + ":" + key),
+                    Integer.toString(limit),
+                    Double.toString(refillPerMs),
+                    Long.toString(window.toMillis()));
+            return Optional.of(allowed != null && allowed == 1L);
+        } catch (DataAccessException ex) {
+            log.warn("Redis rate limit check failed for scope {}; using local buckets", scope, ex);
+            return Optional.empty();
+        }
+    }
+
+    int bucketCount(String scope) {
+        ScopeBuckets buckets = scopes.get(scope);
+        return buckets == null ? 0 : buckets.size();
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private int limit;
+        private long refilledAtMs;
+        private long windowMs;
+
+        private Bucket(int limit, long windowMs, long now) {
+            this.tokens = limit;
+            this.limit = limit;
+            this.refilledAtMs = now;
+            this.windowMs = windowMs;
+        }
+
+        private void refill(int limit, long windowMs, long now) {
+            this.tokens = Math.min(limit, tokensAt(now));
+            this.limit = limit;
+            this.refilledAtMs = now;
+            this.windowMs = windowMs;
+        }
+
+        private double tokensAt(long now) {
+            return tokens + (now - refilledAtMs) * ((double) limit / windowMs);
+        }
+
+        private boolean isFullAt(long now) {
+            return tokensAt(now) >= limit;
+        }
+
+        private boolean trySpend() {
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+
+    private final class ScopeBuckets {
+
+        private final LinkedHashMap<String, Bucket> buckets = new LinkedHashMap<>(64, 0.75f, true);
+        private final Counter allowed;
+        private final Counter rejected;
+        private Bucket overflow;
+
+        private ScopeBuckets(String scope) {
+            this.allowed = Counter.builder("rate.limit.requests")
+                    .description("Rate-limited requests by scope and outcome")
+                    .tag("scope", scope)
+                    .tag("outcome", "allowed")
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("rate.limit.requests")
+                    .description("Rate-limited requests by scope and outcome")
+                    .tag("scope", scope)
+                    .tag("outcome", "rejected")
+                    .register(meterRegistry);
+            Gauge.builder("rate.limit.buckets", this, ScopeBuckets::size)
+                    .description("In-memory rate limit buckets held for the scope")
+                    .tag("scope", scope)
+                    .register(meterRegistry);
+        }
+
+        private synchronized boolean tryAcquire(String key, int limit, long windowMs) {
+            long now = System.currentTimeMillis();
+            evictIdle(now);
+            Bucket bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.refill(limit, windowMs, now);
+                return bucket.trySpend();
+            }
+            if (buckets.size() >= maxKeysPerScope && !evictFull(now)) {
+                if (overflow == null) {
+                    overflow = new Bucket(limit, windowMs, now);
+                } else {
+                    overflow.refill(limit, windowMs, now);
                 }
-                return;
+                return overflow.trySpend();
             }
+            bucket = new Bucket(limit, windowMs, now);
+            buckets.put(key, bucket);
+            return bucket.trySpend();
         }
 
-        long now = System.currentTimeMillis();
-        long windowMs = window.toMillis();
-        inMemoryCounters.compute(normalizedKey, (ignored, existing) -> {
-            if (existing == null || now - existing.windowStartMs >= windowMs) {
-                return new Counter(now, 1);
+        /**
+         * Evicts the coldest bucket among the first few that has refilled to capacity. Scanning
+         * is bounded so a flood of new keys against a full map cannot turn every call into a
+         * walk over all of it.
+         */
+        private boolean evictFull(long now) {
+            Iterator<Bucket> iterator = buckets.values().iterator();
+            for (int scanned = 0; scanned < EVICTION_SCAN_LIMIT && iterator.hasNext(); scanned++) {
+                if (iterator.next().isFullAt(now)) {
+                    iterator.remove();
+                    return true;
+                }
             }
-            if (existing.count + 1 > limit) {
-                throw new ApiException(HttpStatus.TOO_MANY_REQUESTS, "Too many requests. Please try again later.");
+            return false;
+        }
+
+        /**
+         * Access order puts the longest-idle buckets first, so expired ones are peeled off the
+         * head and the loop stops at the first bucket still refilling.
+         */
+        private void evictIdle(long now) {
+            Iterator<Bucket> iterator = buckets.values().iterator();
+            while (iterator.hasNext()) {
+                Bucket bucket = iterator.next();
+                if (now - bucket.refilledAtMs < bucket.windowMs) {
+                    return;
+                }
+                iterator.remove();
             }
-            return new Counter(existing.windowStartMs, existing.count + 1);
-        });
+        }
+
+        private synchronized int size() {
+            return buckets.size();
+        }
     }
 }
@@ -3,15 +3,25 @@ package com.smartcampus.maintenance.service;
 import com.smartcampus.maintenance.entity.Ticket;
 import com.smartcampus.maintenance.entity.User;
 import com.smartcampus.maintenance.entity.enums.Role;
+import com.smartcampus.maintenance.entity.enums.TicketStatus;
+import com.smartcampus.maintenance.entity.enums.UrgencyLevel;
+import com.smartcampus.maintenance.exception.BadRequestException;
 import com.smartcampus.maintenance.exception.ForbiddenException;
-import com.smartcampus.maintenance.mapper.TicketMapper;
 import com.smartcampus.maintenance.repository.TicketRepository;
-import java.io.ByteArrayOutputStream;
+import com.smartcampus.maintenance.repository.TicketSpecifications;
+import com.smartcampus.maintenance.repository.projection.TicketExportRow;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +30,7 @@ public class ReportService {
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
     private static final String CSV_HEADER = "ID,Title,Category,Building,Location,Urgency,Status,Created By,Assigned To,Created At,Resolved At";
+    private static final int FLUSH_EVERY_ROWS = 500;
 
     private final TicketRepository ticketRepository;
 
@@ -27,38 +38,74 @@ public class ReportService {
         this.ticketRepository = ticketRepository;
     }
 
-    @Transactional(readOnly = true)
-    public byte[] exportTicketsCsv(User actor) {
+    /**
+     * Validates access and turns the admin listing filters into the export query. Called before
+     * the response starts streaming so bad requests still get a proper error status.
+     */
+    public Specification<Ticket> ticketExportSpecification(
+            User actor,
+            TicketStatus status,
+            String serviceDomainKey,
+            Long requestTypeId,
+            Long buildingId,
+            UrgencyLevel urgency,
+            Long assigneeId,
+            Boolean reviewRequired,
+            String search,
+            LocalDate from,
+            LocalDate to) {
         requireAdmin(actor);
-        List<Ticket> tickets = ticketRepository.findAll();
-
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        PrintWriter writer = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
-        writer.println(CSV_HEADER);
-
-        for (Ticket t : tickets) {
-            writer.println(String.join(",",
-                    String.valueOf(t.getId()),
-                    escape(t.getTitle()),
-                    TicketMapper.resolveServiceDomainKey(t),
-                    escape(resolveBuildingName(t)),
-                    escape(t.getLocation()),
-                    t.getUrgency().name(),
-                    t.getStatus().name(),
-                    escape(t.getCreatedBy().getFullName()),
-                    t.getAssignedTo() != null ? escape(t.getAssignedTo().getFullName()) : "",
-                    t.getCreatedAt() != null ? t.getCreatedAt().format(FORMATTER) : "",
-                    t.getResolvedAt() != null ? t.getResolvedAt().format(FORMATTER) : ""));
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new BadRequestException("'to' must not be before 'from'");
         }
+        return TicketSpecifications
+                .adminListing(status, serviceDomainKey, requestTypeId, buildingId, urgency, assigneeId,
+                        reviewRequired, search)
+                .and(TicketSpecifications.createdWithin(
+                        from == null ? null : from.atStartOfDay(),
+                        to == null ? null : to.plusDays(1).atStartOfDay()));
+    }
 
-        writer.flush();
-        return out.toByteArray();
+    /**
+     * Writes matching tickets as CSV straight from a forward-only cursor. Only one row is held
+     * at a time, so memory use does not grow with the size of the export.
+     */
+    @Transactional(readOnly = true)
+    public void writeTicketsCsv(Specification<Ticket> specification, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<TicketExportRow> rows = ticketRepository.streamExportRows(specification)) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            int written = 0;
+            for (Iterator<TicketExportRow> it = rows.iterator(); it.hasNext();) {
+                TicketExportRow t = it.next();
+                writer.write(String.join(",",
+                        String.valueOf(t.id()),
+                        escape(t.title()),
+                        resolveServiceDomainKey(t),
+                        escape(t.buildingName()),
+                        escape(t.location()),
+                        t.urgency().name(),
+                        t.status().name(),
+                        escape(t.createdByName()),
+                        escape(t.assignedToName()),
+                        t.createdAt() != null ? t.createdAt().format(FORMATTER) : "",
+                        t.resolvedAt() != null ? t.resolvedAt().format(FORMATTER) : ""));
+                writer.write('\n');
+                if (++written % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to stream ticket export", ex);
+        }
     }
 
     private String escape(String value) {
         if (value == null)
             return "";
-        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
             return "\"" + value.replace("\"", "\"\"") + "\"";
         }
         return value;
@@ -70,10 +117,11 @@ public class ReportService {
         }
     }
 
-    private String resolveBuildingName(Ticket ticket) {
-        if (ticket.getBuildingRecord() != null) {
-            return ticket.getBuildingRecord().getName();
+    // Mirrors TicketMapper.resolveServiceDomainKey for the flattened export row.
+    private String resolveServiceDomainKey(TicketExportRow row) {
+        if (row.serviceDomainKey() != null) {
+            return row.serviceDomainKey();
         }
-        return ticket.getBuilding();
+        return row.category() != null ? row.category().name() : "OTHER";
     }
 }
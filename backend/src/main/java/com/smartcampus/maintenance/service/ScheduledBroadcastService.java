@@ -12,10 +12,8 @@ import com.smartcampus.maintenance.exception.BadRequestException;
 import com.smartcampus.maintenance.exception.ForbiddenException;
 import com.smartcampus.maintenance.exception.NotFoundException;
 import com.smartcampus.maintenance.repository.ScheduledBroadcastRepository;
-import com.smartcampus.maintenance.repository.UserRepository;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -27,15 +25,12 @@ public class ScheduledBroadcastService {
     private static final Logger log = LoggerFactory.getLogger(ScheduledBroadcastService.class);
 
     private final ScheduledBroadcastRepository scheduledBroadcastRepository;
-    private final UserRepository userRepository;
     private final NotificationDispatchService notificationDispatchService;
 
     public ScheduledBroadcastService(
             ScheduledBroadcastRepository scheduledBroadcastRepository,
-            UserRepository userRepository,
             NotificationDispatchService notificationDispatchService) {
         this.scheduledBroadcastRepository = scheduledBroadcastRepository;
-        this.userRepository = userRepository;
         this.notificationDispatchService = notificationDispatchService;
     }
 
@@ -90,10 +85,10 @@ public class ScheduledBroadcastService {
 
         int sentCount = 0;
         for (ScheduledBroadcast scheduled : dueItems) {
-            List<User> recipients = resolveRecipients(scheduled.getAudience(), scheduled.getCreatedBy());
-
-            notificationDispatchService.notifyUsers(
-                    recipients,
+            User createdBy = scheduled.getCreatedBy();
+            int recipientCount = notificationDispatchService.notifyAudience(
+                    scheduled.getAudience(),
+                    createdBy == null ? null : createdBy.getId(),
                     "Scheduled Event: " + scheduled.getTitle(),
                     scheduled.getMessage(),
                     NotificationType.ANNOUNCEMENT,
@@ -101,7 +96,7 @@ public class ScheduledBroadcastService {
 
             scheduled.setStatus(ScheduledBroadcastStatus.SENT);
             scheduled.setSentAt(now);
-            scheduled.setRecipientCount(recipients.size());
+            scheduled.setRecipientCount(recipientCount);
             scheduledBroadcastRepository.save(scheduled);
             sentCount++;
         }
@@ -112,20 +107,6 @@ public class ScheduledBroadcastService {
         return sentCount;
     }
 
-    private List<User> resolveRecipients(BroadcastAudience audience, User actor) {
-        List<User> rawRecipients = switch (audience) {
-            case ALL -> userRepository.findAll();
-            case STUDENTS -> userRepository.findByRole(Role.STUDENT);
-            case STAFF -> Stream.concat(
-                    userRepository.findByRole(Role.ADMIN).stream(),
-                    userRepository.findByRole(Role.MAINTENANCE).stream()).toList();
-        };
-
-        return rawRecipients.stream()
-                .filter(user -> user.getId() != null && (actor == null || !user.getId().equals(actor.getId())))
-                .toList();
-    }
-
     private ScheduledBroadcastResponse toResponse(ScheduledBroadcast scheduled) {
         return new ScheduledBroadcastResponse(
                 scheduled.getId(),
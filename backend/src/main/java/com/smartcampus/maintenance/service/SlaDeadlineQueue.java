@@ -0,0 +1,101 @@
+package com.smartcampus.maintenance.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory min-heap of upcoming SLA deadlines so the escalation tick can tell whether anything
+ * is due without touching the database.
+ *
+ * <p>Only deadlines inside the look-ahead horizon are held; the periodic sweep reloads the next
+ * window from {@code tickets.sla_deadline_at}. Entries are hints: the escalation query re-reads
+ * the authoritative deadline, so stale or duplicate entries only cost one extra indexed query.</p>
+ */
+@Component
+public class SlaDeadlineQueue {
+
+    private final long horizonMinutes;
+    private final Object lock = new Object();
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>(
+            Comparator.comparing(Deadline::dueAt).thenComparing(Deadline::ticketId));
+
+    public SlaDeadlineQueue(
+            MeterRegistry meterRegistry,
+            @Value("${app.sla.deadline-queue.horizon-minutes:120}") long horizonMinutes) {
+        this.horizonMinutes = Math.max(1, horizonMinutes);
+        Gauge.builder("sla.deadline.queue.size", this, SlaDeadlineQueue::size)
+                .description("Upcoming SLA deadlines held in memory")
+                .register(meterRegistry);
+    }
+
+    public record Deadline(Long ticketId, LocalDateTime dueAt) {
+    }
+
+    /**
+     * Adds a deadline once the surrounding transaction commits, so a rolled-back write never
+     * schedules a phantom escalation.
+     */
+    public void schedule(Long ticketId, LocalDateTime dueAt) {
+        if (ticketId == null || dueAt == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(new Deadline(ticketId, dueAt));
+                }
+            });
+            return;
+        }
+        offer(new Deadline(ticketId, dueAt));
+    }
+
+    /**
+     * Removes every deadline at or before {@code now}. Returns whether any were due.
+     */
+    public boolean takeDue(LocalDateTime now) {
+        synchronized (lock) {
+            boolean due = false;
+            while (!deadlines.isEmpty() && !deadlines.peek().dueAt().isAfter(now)) {
+                deadlines.poll();
+                due = true;
+            }
+            return due;
+        }
+    }
+
+    public void reload(List<Deadline> upcoming) {
+        synchronized (lock) {
+            deadlines.clear();
+            deadlines.addAll(upcoming);
+        }
+    }
+
+    public LocalDateTime horizon(LocalDateTime now) {
+        return now.plusMinutes(horizonMinutes);
+    }
+
+    int size() {
+        synchronized (lock) {
+            return deadlines.size();
+        }
+    }
+
+    private void offer(Deadline deadline) {
+        if (deadline.dueAt().isAfter(horizon(LocalDateTime.now()))) {
+            return;
+        }
+        synchronized (lock) {
+            deadlines.add(deadline);
+        }
+    }
+}
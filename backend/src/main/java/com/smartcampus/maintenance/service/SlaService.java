@@ -30,10 +30,17 @@ public class SlaService {
     private static final EnumSet<TicketStatus> RESOLVED_STATUSES = EnumSet.of(TicketStatus.RESOLVED,
             TicketStatus.CLOSED);
 
+    // Statuses whose SLA clock is still running and can trigger escalation
+    static final EnumSet<TicketStatus> ACTIVE_STATUSES = EnumSet.of(
+            TicketStatus.SUBMITTED, TicketStatus.APPROVED,
+            TicketStatus.ASSIGNED, TicketStatus.ACCEPTED, TicketStatus.IN_PROGRESS);
+
     private final TicketRepository ticketRepository;
+    private final SlaDeadlineQueue slaDeadlineQueue;
 
-    public SlaService(TicketRepository ticketRepository) {
+    public SlaService(TicketRepository ticketRepository, SlaDeadlineQueue slaDeadlineQueue) {
         this.ticketRepository = ticketRepository;
+        this.slaDeadlineQueue = slaDeadlineQueue;
     }
 
     @Transactional(readOnly = true)
@@ -62,16 +69,52 @@ public class SlaService {
     }
 
     public boolean isSlaBreached(Ticket ticket) {
-        Long slaHours = SLA_HOURS.get(ticket.getUrgency());
-        if (slaHours == null)
+        LocalDateTime deadline = deadlineFor(ticket);
+        if (deadline == null)
             return false;
-        LocalDateTime deadline = ticket.getCreatedAt().plusHours(slaHours);
         if (ticket.getResolvedAt() != null) {
             return ticket.getResolvedAt().isAfter(deadline);
         }
         return LocalDateTime.now().isAfter(deadline);
     }
 
+    /**
+     * The SLA deadline for the ticket's current urgency, or null when the urgency has no SLA.
+     */
+    public LocalDateTime deadlineFor(Ticket ticket) {
+        Long slaHours = SLA_HOURS.get(ticket.getUrgency());
+        if (slaHours == null || ticket.getCreatedAt() == null)
+            return null;
+        return ticket.getCreatedAt().plusHours(slaHours);
+    }
+
+    /**
+     * Stores the ticket's SLA deadline and queues it for the escalation timer. Call after the
+     * ticket has been persisted (the deadline is anchored on {@code createdAt}).
+     */
+    public void trackDeadline(Ticket ticket) {
+        trackDeadline(ticket, deadlineFor(ticket));
+    }
+
+    public void trackDeadline(Ticket ticket, LocalDateTime deadline) {
+        ticket.setSlaDeadlineAt(deadline);
+        slaDeadlineQueue.schedule(ticket.getId(), deadline);
+    }
+
+    /**
+     * Fills {@code sla_deadline_at} for active tickets written without one (rows that predate
+     * the column, seeded data). Runs as bulk updates so {@code updated_at} is left untouched.
+     */
+    @Transactional
+    public int backfillDeadlines() {
+        List<String> activeStatuses = ACTIVE_STATUSES.stream().map(Enum::name).toList();
+        int updated = 0;
+        for (Map.Entry<UrgencyLevel, Long> entry : SLA_HOURS.entrySet()) {
+            updated += ticketRepository.backfillSlaDeadlines(entry.getKey().name(), entry.getValue(), activeStatuses);
+        }
+        return updated;
+    }
+
     private boolean isOnTime(Ticket ticket) {
         return !isSlaBreached(ticket);
     }
@@ -0,0 +1,132 @@
+package com.smartcampus.maintenance.service;
+
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.util.StringUtils;
+
+/**
+ * Keeps connected SMTP transports for reuse across messages so concurrent outbox workers do
+ * not pay a TCP + TLS + AUTH handshake per email. Transports idle for longer than the
+ * validation interval are checked with a NOOP before reuse; a transport that fails a send is
+ * discarded rather than returned.
+ */
+class SmtpTransportPool {
+
+    private static final Logger log = LoggerFactory.getLogger(SmtpTransportPool.class);
+
+    private final JavaMailSenderImpl mailSender;
+    private final int maxIdle;
+    private final long validateAfterIdleMs;
+    private final ConcurrentLinkedDeque<PooledTransport> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    SmtpTransportPool(JavaMailSenderImpl mailSender, int maxIdle, long validateAfterIdleMs) {
+        this.mailSender = mailSender;
+        this.maxIdle = Math.max(1, maxIdle);
+        this.validateAfterIdleMs = Math.max(0L, validateAfterIdleMs);
+    }
+
+    void send(MimeMessage message) {
+        PooledTransport pooled = borrow();
+        boolean sent = false;
+        try {
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+            pooled.transport.sendMessage(message, message.getAllRecipients());
+            sent = true;
+        } catch (MessagingException ex) {
+            throw new MailSendException("Failed to send email over pooled SMTP transport", ex);
+        } finally {
+            // Any failure, checked or not, may leave the session mid-command.
+            if (sent) {
+                release(pooled);
+            } else {
+                discard(pooled);
+            }
+        }
+    }
+
+    void close() {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            discard(pooled);
+        }
+    }
+
+    private PooledTransport borrow() {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            if (isUsable(pooled)) {
+                return pooled;
+            }
+            discard(pooled);
+        }
+        return connect();
+    }
+
+    private void release(PooledTransport pooled) {
+        if (idleCount.incrementAndGet() > maxIdle) {
+            idleCount.decrementAndGet();
+            discard(pooled);
+            return;
+        }
+        pooled.lastUsedAt = System.currentTimeMillis();
+        idle.offerFirst(pooled);
+    }
+
+    private boolean isUsable(PooledTransport pooled) {
+        if (System.currentTimeMillis() - pooled.lastUsedAt < validateAfterIdleMs) {
+            return true;
+        }
+        return pooled.transport.isConnected();
+    }
+
+    private PooledTransport connect() {
+        try {
+            // Blank credentials mean "no AUTH", mirroring JavaMailSenderImpl.connectTransport.
+            String username = StringUtils.hasLength(mailSender.getUsername()) ? mailSender.getUsername() : null;
+            String password = username != null && StringUtils.hasLength(mailSender.getPassword())
+                    ? mailSender.getPassword()
+                    : null;
+            Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+            transport.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+            return new PooledTransport(transport);
+        } catch (AuthenticationFailedException ex) {
+            throw new MailAuthenticationException(ex);
+        } catch (MessagingException ex) {
+            throw new MailSendException("Failed to connect to SMTP server", ex);
+        }
+    }
+
+    private void discard(PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (MessagingException ex) {
+            log.debug("Ignoring error while closing SMTP transport", ex);
+        }
+    }
+
+    private static final class PooledTransport {
+
+        private final Transport transport;
+        private long lastUsedAt = System.currentTimeMillis();
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
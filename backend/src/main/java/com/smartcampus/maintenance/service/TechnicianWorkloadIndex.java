@@ -0,0 +1,368 @@
+package com.smartcampus.maintenance.service;
+
+import com.smartcampus.maintenance.dto.ticket.WorkloadIndexConsistencyResponse;
+import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.entity.User;
+import com.smartcampus.maintenance.entity.enums.TicketStatus;
+import com.smartcampus.maintenance.repository.TicketRepository;
+import com.smartcampus.maintenance.repository.projection.CandidateMetricsRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-process view of each technician's workload, used to score assignment candidates without
+ * querying the tickets table.
+ *
+ * <p>The index is built on startup, kept current from ticket transitions (applied after the
+ * surrounding transaction commits) and periodically reconciled against the database. Until the
+ * first build completes {@link #candidateMetrics} returns empty and callers fall back to the
+ * aggregate query.</p>
+ */
+@Service
+public class TechnicianWorkloadIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TechnicianWorkloadIndex.class);
+    private static final EnumSet<TicketStatus> RESOLVED_OR_CLOSED = EnumSet.of(
+            TicketStatus.RESOLVED,
+            TicketStatus.CLOSED);
+    static final int RECENT_RESOLUTION_WINDOW_DAYS = 30;
+
+    private final TicketRepository ticketRepository;
+    private final Object lock = new Object();
+    private final AtomicInteger driftingTechnicians = new AtomicInteger();
+    private final Counter repairedReconciliations;
+    private final Counter consistentReconciliations;
+    private final Counter skippedReconciliations;
+
+    private Map<Long, TechnicianWorkload> workloads = Map.of();
+    private boolean ready;
+    private long generation;
+    private int pendingTransitions;
+    private LocalDateTime lastReconciledAt;
+
+    public TechnicianWorkloadIndex(TicketRepository ticketRepository, MeterRegistry meterRegistry) {
+        this.ticketRepository = ticketRepository;
+        Gauge.builder("assignment.workload.index.drift", driftingTechnicians, AtomicInteger::get)
+                .description("Technicians whose indexed workload disagreed with the database at the last check")
+                .register(meterRegistry);
+        Gauge.builder("assignment.workload.index.technicians", this, TechnicianWorkloadIndex::size)
+                .description("Technicians currently tracked by the workload index")
+                .register(meterRegistry);
+        this.repairedReconciliations = reconciliationCounter(meterRegistry, "repaired");
+        this.consistentReconciliations = reconciliationCounter(meterRegistry, "consistent");
+        this.skippedReconciliations = reconciliationCounter(meterRegistry, "skipped");
+    }
+
+    /**
+     * What a single ticket contributes to its assignee's workload. Tickets without an assignee
+     * contribute nothing.
+     */
+    public record Contribution(
+            Long assigneeId,
+            boolean resolved,
+            String serviceDomainKey,
+            Long buildingId,
+            LocalDateTime resolvedAt) {
+
+        public static Contribution of(Ticket ticket) {
+            return new Contribution(
+                    ticket.getAssignedTo() == null ? null : ticket.getAssignedTo().getId(),
+                    RESOLVED_OR_CLOSED.contains(ticket.getStatus()),
+                    ticket.getRequestType() == null || ticket.getRequestType().getServiceDomain() == null
+                            ? null
+                            : ticket.getRequestType().getServiceDomain().getKey(),
+                    ticket.getBuildingRecord() == null ? null : ticket.getBuildingRecord().getId(),
+                    ticket.getResolvedAt());
+        }
+    }
+
+    public void recordCreated(Ticket ticket) {
+        afterCommit(null, Contribution.of(ticket));
+    }
+
+    public void recordChange(Contribution before, Ticket ticket) {
+        afterCommit(before, Contribution.of(ticket));
+    }
+
+    /**
+     * Returns indexed metrics for the given technicians, or empty when the index has not been
+     * built yet.
+     */
+    public Optional<Map<Long, CandidateMetricsRow>> candidateMetrics(
+            List<User> users,
+            String serviceDomainKey,
+            Long buildingId,
+            LocalDateTime resolvedAfter) {
+        synchronized (lock) {
+            if (!ready) {
+                return Optional.empty();
+            }
+            Map<Long, CandidateMetricsRow> metrics = new HashMap<>();
+            for (User user : users) {
+                TechnicianWorkload workload = workloads.get(user.getId());
+                metrics.put(user.getId(), new CandidateMetricsRow(
+                        user.getId(),
+                        user.getUsername(),
+                        user.getFullName(),
+                        workload == null ? 0 : workload.activeOpenTickets,
+                        workload == null || serviceDomainKey == null
+                                ? 0
+                                : workload.resolvedByDomain.getOrDefault(serviceDomainKey, 0),
+                        workload == null || buildingId == null
+                                ? 0
+                                : workload.resolvedByBuilding.getOrDefault(buildingId, 0),
+                        workload == null ? 0 : workload.resolvedSince(resolvedAfter)));
+            }
+            return Optional.of(metrics);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildOnStartup() {
+        Map<Long, TechnicianWorkload> loaded = loadFromDatabase();
+        synchronized (lock) {
+            workloads = loaded;
+            ready = true;
+            generation++;
+            lastReconciledAt = LocalDateTime.now();
+        }
+        log.info("Built technician workload index for {} technicians", loaded.size());
+    }
+
+    /**
+     * Rebuilds the index from the database and swaps it in when it drifted. The swap is skipped
+     * when ticket transitions were applied while the database was being read, since the freshly
+     * loaded view could then be older than the live one, and while any transition is between its
+     * commit and its delta being applied, since the loaded view may already include a row whose
+     * delta is still to come and would then be counted twice. The next run picks it up.
+     */
+    @Scheduled(
+            fixedDelayString = "${app.assignment.workload-index.reconcile-fixed-delay-ms:300000}",
+            initialDelayString = "${app.assignment.workload-index.reconcile-fixed-delay-ms:300000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        long startedAt;
+        synchronized (lock) {
+            if (!ready) {
+                return;
+            }
+            startedAt = generation;
+        }
+
+        Map<Long, TechnicianWorkload> loaded = loadFromDatabase();
+        Set<Long> drifting;
+        synchronized (lock) {
+            if (generation != startedAt || pendingTransitions > 0) {
+                skippedReconciliations.increment();
+                return;
+            }
+            drifting = driftingTechnicianIds(workloads, loaded);
+            driftingTechnicians.set(drifting.size());
+            lastReconciledAt = LocalDateTime.now();
+            if (drifting.isEmpty()) {
+                consistentReconciliations.increment();
+                return;
+            }
+            workloads = loaded;
+            generation++;
+            repairedReconciliations.increment();
+        }
+        log.warn("Technician workload index drifted for technicians {}; replaced with database view", drifting);
+    }
+
+    /**
+     * Compares the index with the database without modifying it.
+     */
+    @Transactional(readOnly = true)
+    public WorkloadIndexConsistencyResponse checkConsistency() {
+        Map<Long, TechnicianWorkload> loaded = loadFromDatabase();
+        synchronized (lock) {
+            if (!ready) {
+                return new WorkloadIndexConsistencyResponse(false, false, 0, List.of(), lastReconciledAt);
+            }
+            Set<Long> drifting = driftingTechnicianIds(workloads, loaded);
+            driftingTechnicians.set(drifting.size());
+            return new WorkloadIndexConsistencyResponse(
+                    true,
+                    drifting.isEmpty(),
+                    workloads.size(),
+                    List.copyOf(drifting),
+                    lastReconciledAt);
+        }
+    }
+
+    private int size() {
+        synchronized (lock) {
+            return workloads.size();
+        }
+    }
+
+    /**
+     * Defers the delta until the surrounding transaction commits. From just before the commit
+     * until the transaction completes, the transition counts as pending so a concurrent
+     * {@link #reconcile} cannot swap in a database view that already contains it.
+     */
+    private void afterCommit(Contribution before, Contribution after) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean pending;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    synchronized (lock) {
+                        pendingTransitions++;
+                        generation++;
+                    }
+                    pending = true;
+                }
+
+                @Override
+                public void afterCommit() {
+                    apply(before, after);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (!pending) {
+                        return;
+                    }
+                    synchronized (lock) {
+                        pendingTransitions--;
+                    }
+                }
+            });
+            return;
+        }
+        apply(before, after);
+    }
+
+    private void apply(Contribution before, Contribution after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        synchronized (lock) {
+            if (!ready) {
+                return;
+            }
+            Map<Long, TechnicianWorkload> updated = workloads;
+            if (before != null) {
+                accumulate(updated, before, -1);
+            }
+            if (after != null) {
+                accumulate(updated, after, 1);
+            }
+            generation++;
+        }
+    }
+
+    private Map<Long, TechnicianWorkload> loadFromDatabase() {
+        Map<Long, TechnicianWorkload> loaded = new HashMap<>();
+        try (Stream<Object[]> rows = ticketRepository.streamWorkloadSources()) {
+            rows.forEach(row -> accumulate(loaded, new Contribution(
+                    (Long) row[0],
+                    RESOLVED_OR_CLOSED.contains((TicketStatus) row[1]),
+                    (String) row[2],
+                    (Long) row[3],
+                    (LocalDateTime) row[4]), 1));
+        }
+        return loaded;
+    }
+
+    private static void accumulate(Map<Long, TechnicianWorkload> target, Contribution contribution, int sign) {
+        if (contribution.assigneeId() == null) {
+            return;
+        }
+        TechnicianWorkload workload = target.computeIfAbsent(contribution.assigneeId(), ignored -> new TechnicianWorkload());
+        if (!contribution.resolved()) {
+            workload.activeOpenTickets += sign;
+            return;
+        }
+        if (contribution.serviceDomainKey() != null) {
+            adjust(workload.resolvedByDomain, contribution.serviceDomainKey(), sign);
+        }
+        if (contribution.buildingId() != null) {
+            adjust(workload.resolvedByBuilding, contribution.buildingId(), sign);
+        }
+        if (contribution.resolvedAt() != null) {
+            adjust(workload.resolutions, contribution.resolvedAt(), sign);
+            workload.resolutions.headMap(windowStart(), true).clear();
+        }
+    }
+
+    private static <K> void adjust(Map<K, Integer> counts, K key, int sign) {
+        counts.merge(key, sign, (current, delta) -> current + delta == 0 ? null : current + delta);
+    }
+
+    private static LocalDateTime windowStart() {
+        return LocalDateTime.now().minusDays(RECENT_RESOLUTION_WINDOW_DAYS);
+    }
+
+    private static Set<Long> driftingTechnicianIds(
+            Map<Long, TechnicianWorkload> indexed,
+            Map<Long, TechnicianWorkload> loaded) {
+        LocalDateTime windowStart = windowStart();
+        Set<Long> technicianIds = new HashSet<>(indexed.keySet());
+        technicianIds.addAll(loaded.keySet());
+        Set<Long> drifting = new TreeSet<>();
+        for (Long technicianId : technicianIds) {
+            TechnicianWorkload left = indexed.getOrDefault(technicianId, new TechnicianWorkload());
+            TechnicianWorkload right = loaded.getOrDefault(technicianId, new TechnicianWorkload());
+            if (!left.sameAs(right, windowStart)) {
+                drifting.add(technicianId);
+            }
+        }
+        return drifting;
+    }
+
+    private static Counter reconciliationCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("assignment.workload.index.reconciliations")
+                .description("Workload index reconciliation runs by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class TechnicianWorkload {
+
+        private int activeOpenTickets;
+        private final Map<String, Integer> resolvedByDomain = new HashMap<>();
+        private final Map<Long, Integer> resolvedByBuilding = new HashMap<>();
+        private final TreeMap<LocalDateTime, Integer> resolutions = new TreeMap<>();
+
+        private int resolvedSince(LocalDateTime resolvedAfter) {
+            return resolutions.tailMap(resolvedAfter, false).values().stream()
+                    .mapToInt(Integer::intValue)
+                    .sum();
+        }
+
+        private boolean sameAs(TechnicianWorkload other, LocalDateTime windowStart) {
+            return activeOpenTickets == other.activeOpenTickets
+                    && resolvedByDomain.equals(other.resolvedByDomain)
+                    && resolvedByBuilding.equals(other.resolvedByBuilding)
+                    && resolutions.tailMap(windowStart, false).equals(other.resolutions.tailMap(windowStart, false));
+        }
+    }
+}
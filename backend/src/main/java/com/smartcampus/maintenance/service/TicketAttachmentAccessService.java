@@ -3,12 +3,10 @@ package com.smartcampus.maintenance.service;
 import com.smartcampus.maintenance.entity.Ticket;
 import com.smartcampus.maintenance.exception.ForbiddenException;
 import com.smartcampus.maintenance.util.FileStorageService;
+import com.smartcampus.maintenance.util.FileStorageService.ImageVariant;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.Instant;
-import java.util.Base64;
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -21,9 +19,11 @@ public class TicketAttachmentAccessService {
         AFTER("after");
 
         private final String pathSegment;
+        private final byte[] signingBytes;
 
         AttachmentType(String pathSegment) {
             this.pathSegment = pathSegment;
+            this.signingBytes = pathSegment.getBytes(StandardCharsets.UTF_8);
         }
 
         public String pathSegment() {
@@ -40,31 +40,51 @@ public class TicketAttachmentAccessService {
         }
     }
 
+    private static final String URL_PREFIX = "/api/tickets/";
+
     private final FileStorageService fileStorageService;
-    private final byte[] signingKey;
+    private final AttachmentUrlSigner signer;
     private final long ttlSeconds;
 
     public TicketAttachmentAccessService(
             FileStorageService fileStorageService,
             @Value("${app.upload.signing-secret:${jwt.secret}}") String signingSecret,
-            @Value("${app.upload.signed-url-ttl-seconds:300}") long ttlSeconds) {
+            @Value("${app.upload.signed-url-ttl-seconds:300}") long ttlSeconds,
+            @Value("${app.upload.signer-pool-max-idle:64}") int signerPoolMaxIdle) {
         this.fileStorageService = fileStorageService;
-        this.signingKey = signingSecret.getBytes(StandardCharsets.UTF_8);
+        this.signer = new AttachmentUrlSigner(signingSecret.getBytes(StandardCharsets.UTF_8), signerPoolMaxIdle);
         this.ttlSeconds = Math.max(30, ttlSeconds);
     }
 
     public String buildSignedUrl(Ticket ticket, AttachmentType type, String storedPath) {
+        return buildSignedUrl(ticket, type, storedPath, ImageVariant.ORIGINAL);
+    }
+
+    /**
+     * Signed URL for one rendition of an attachment. The signature covers the photo, not the
+     * {@code size} parameter: every variant is derived from the signed upload, so a client may
+     * swap the size on any signed URL to fetch the rendition that fits its layout.
+     */
+    public String buildSignedUrl(Ticket ticket, AttachmentType type, String storedPath, ImageVariant variant) {
         String canonicalReference = fileStorageService.canonicalStoredReference(storedPath);
         if (!StringUtils.hasText(canonicalReference) || ticket == null || ticket.getId() == null) {
             return null;
         }
-        long expiresAt = Instant.now().plusSeconds(ttlSeconds).getEpochSecond();
+        long expiresAt = Instant.now().getEpochSecond() + ttlSeconds;
         String signature = sign(ticket.getId(), type, canonicalReference, expiresAt);
-        return "/api/tickets/%d/attachments/%s?expires=%d&signature=%s".formatted(
-                ticket.getId(),
-                type.pathSegment(),
-                expiresAt,
-                signature);
+        StringBuilder url = new StringBuilder(URL_PREFIX.length() + signature.length() + 80)
+                .append(URL_PREFIX)
+                .append(ticket.getId().longValue())
+                .append("/attachments/")
+                .append(type.pathSegment())
+                .append("?expires=")
+                .append(expiresAt)
+                .append("&signature=")
+                .append(signature);
+        if (variant != null && variant != ImageVariant.ORIGINAL) {
+            url.append("&size=").append(variant.key());
+        }
+        return url.toString();
     }
 
     public void validate(Ticket ticket, AttachmentType type, String storedPath, Long expiresAt, String signature) {
@@ -88,15 +108,6 @@ public class TicketAttachmentAccessService {
     }
 
     private String sign(Long ticketId, AttachmentType type, String canonicalReference, long expiresAt) {
-        try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(signingKey, "HmacSHA256"));
-            byte[] digest = mac.doFinal(
-                    ("%d:%s:%s:%d".formatted(ticketId, type.pathSegment(), canonicalReference, expiresAt))
-                            .getBytes(StandardCharsets.UTF_8));
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
-        } catch (Exception ex) {
-            throw new IllegalStateException("Failed to sign ticket attachment URL", ex);
-        }
+        return signer.sign(ticketId, type.signingBytes, canonicalReference, expiresAt);
     }
 }
@@ -0,0 +1,258 @@
+package com.smartcampus.maintenance.service;
+
+import com.smartcampus.maintenance.entity.User;
+import com.smartcampus.maintenance.entity.enums.NotificationType;
+import com.smartcampus.maintenance.entity.enums.Role;
+import com.smartcampus.maintenance.entity.enums.TicketAssignmentReviewReason;
+import com.smartcampus.maintenance.event.TicketAssignedEvent;
+import com.smartcampus.maintenance.event.TicketCommentAddedEvent;
+import com.smartcampus.maintenance.event.TicketCreatedEvent;
+import com.smartcampus.maintenance.event.TicketStatusChangedEvent;
+import com.smartcampus.maintenance.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Turns ticket domain events into in-app notifications once the publishing transaction has
+ * committed, on virtual threads, so request latency and lock hold time no longer grow with the
+ * number of admins.
+ *
+ * <p>Only the notification fan-out runs here. The matching emails are enqueued by
+ * {@link TicketService} inside the publishing transaction, so their outbox rows commit atomically
+ * with the ticket change.</p>
+ *
+ * <p>At most {@code max-concurrency} events are handled at once and up to {@code queue-capacity}
+ * more wait their turn, so handing an event over never blocks the committing thread. When the
+ * queue is full the event's notifications are dropped and counted as {@code outcome="rejected"}.
+ * Queued notifications are also lost if the instance stops between commit and delivery.</p>
+ */
+@Component
+public class TicketEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketEventListener.class);
+
+    private final UserRepository userRepository;
+    private final NotificationDispatchService notificationDispatchService;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final long shutdownTimeoutMs;
+    private final Timer createdNotificationsTimer;
+    private final Map<String, Counter> outcomes = new ConcurrentHashMap<>();
+
+    public TicketEventListener(
+            UserRepository userRepository,
+            NotificationDispatchService notificationDispatchService,
+            MeterRegistry meterRegistry,
+            @Value("${app.tickets.events.max-concurrency:16}") int maxConcurrency,
+            @Value("${app.tickets.events.queue-capacity:1000}") int queueCapacity,
+            @Value("${app.tickets.events.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.userRepository = userRepository;
+        this.notificationDispatchService = notificationDispatchService;
+        this.meterRegistry = meterRegistry;
+        int threads = Math.max(1, maxConcurrency);
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofVirtual().name("ticket-events-", 1).factory());
+        this.shutdownTimeoutMs = Math.max(0L, shutdownTimeoutMs);
+        Gauge.builder("tickets.events.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Committed ticket events waiting for their notifications to be delivered")
+                .register(meterRegistry);
+        // Same meter as the in-request phases in TicketService; this one runs after commit.
+        this.createdNotificationsTimer = Timer.builder("tickets.create.phase")
+                .description("Time spent in each phase of ticket creation")
+                .tag("phase", "notifications")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketCreated(TicketCreatedEvent event) {
+        handle("created", event.ticketId(), () -> {
+            Map<Long, User> users = usersById(event.createdById(), event.autoAssigneeId());
+            User creator = users.get(event.createdById());
+            createdNotificationsTimer.record(() -> notifyTicketCreated(event, users, creator));
+        });
+    }
+
+    private void notifyTicketCreated(TicketCreatedEvent event, Map<Long, User> users, User creator) {
+        String link = ticketLink(event.ticketId());
+        if (event.autoAssigneeId() != null) {
+            notificationDispatchService.notifyUser(
+                    users.get(event.autoAssigneeId()),
+                    "Ticket #" + event.ticketId() + " assigned",
+                    "New ticket \"" + event.title() + "\" was auto-assigned. Accept or decline from your queue.",
+                    NotificationType.ASSIGNMENT,
+                    link);
+            notificationDispatchService.notifyUser(
+                    creator,
+                    "Ticket #" + event.ticketId() + " assigned",
+                    "Your ticket \"" + event.title() + "\" was assigned to maintenance automatically.",
+                    NotificationType.TICKET_UPDATE,
+                    link);
+        }
+
+        List<User> admins = userRepository.findByRole(Role.ADMIN);
+        if (event.reviewReason() != null) {
+            notificationDispatchService.notifyUsers(
+                    admins,
+                    "Ticket #" + event.ticketId() + " requires assignment review",
+                    reviewMessage(event.reviewReason(), event.title()),
+                    NotificationType.ASSIGNMENT,
+                    link);
+        }
+        notificationDispatchService.notifyUsers(
+                admins,
+                "New ticket #" + event.ticketId(),
+                (creator == null ? "A user" : creator.getFullName()) + " submitted \"" + event.title() + "\".",
+                NotificationType.TICKET_UPDATE,
+                link);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketAssigned(TicketAssignedEvent event) {
+        handle("assigned", event.ticketId(), () -> {
+            Map<Long, User> users = usersById(event.assigneeId(), event.createdById());
+            User assignee = users.get(event.assigneeId());
+            String link = ticketLink(event.ticketId());
+            notificationDispatchService.notifyUser(
+                    assignee,
+                    "Ticket #" + event.ticketId() + " assigned",
+                    "You were assigned \"" + event.title() + "\".",
+                    NotificationType.ASSIGNMENT,
+                    link);
+            notificationDispatchService.notifyUser(
+                    users.get(event.createdById()),
+                    "Ticket #" + event.ticketId() + " assigned",
+                    "Your ticket \"" + event.title() + "\" is now assigned to maintenance.",
+                    NotificationType.TICKET_UPDATE,
+                    link);
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketStatusChanged(TicketStatusChangedEvent event) {
+        handle("status-changed", event.ticketId(), () -> {
+            String statusLabel = event.newStatus().name().replace('_', ' ').toLowerCase();
+            notifyStakeholders(
+                    event.ticketId(),
+                    event.createdById(),
+                    event.assigneeId(),
+                    event.actorId(),
+                    "Ticket #" + event.ticketId() + " status updated",
+                    "Ticket \"" + event.title() + "\" moved to " + statusLabel + ".",
+                    NotificationType.TICKET_UPDATE);
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketCommentAdded(TicketCommentAddedEvent event) {
+        handle("comment-added", event.ticketId(), () -> notifyStakeholders(
+                event.ticketId(),
+                event.createdById(),
+                event.assigneeId(),
+                event.actorId(),
+                "New comment on ticket #" + event.ticketId(),
+                event.actorFullName() + " added a comment on \"" + event.title() + "\".",
+                NotificationType.COMMENT));
+    }
+
+    /**
+     * Creator, assignee and every admin except the actor, written with one multi-row insert.
+     */
+    private void notifyStakeholders(
+            Long ticketId,
+            Long createdById,
+            Long assigneeId,
+            Long actorId,
+            String title,
+            String message,
+            NotificationType type) {
+        List<User> recipients = new ArrayList<>(usersById(createdById, assigneeId).values());
+        recipients.addAll(userRepository.findByRole(Role.ADMIN));
+        recipients.removeIf(user -> actorId != null && Objects.equals(user.getId(), actorId));
+        notificationDispatchService.notifyUsers(recipients, title, message, type, ticketLink(ticketId));
+    }
+
+    private void handle(String eventType, Long ticketId, Runnable sideEffects) {
+        try {
+            executor.execute(() -> {
+                try {
+                    sideEffects.run();
+                    outcome(eventType, "delivered").increment();
+                } catch (RuntimeException ex) {
+                    outcome(eventType, "failed").increment();
+                    log.error("Unable to deliver {} side effects for ticket #{}", eventType, ticketId, ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            outcome(eventType, "rejected").increment();
+            log.warn("Ticket event queue is full; dropping {} notifications for ticket #{}", eventType, ticketId);
+        }
+    }
+
+    private Map<Long, User> usersById(Long... ids) {
+        List<Long> present = Arrays.stream(ids).filter(Objects::nonNull).distinct().toList();
+        if (present.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllById(present).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private Counter outcome(String eventType, String outcome) {
+        return outcomes.computeIfAbsent(eventType + ":" + outcome, ignored -> Counter.builder("tickets.events.handled")
+                .description("Ticket domain events handled after commit, by event and outcome")
+                .tag("event", eventType)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private static String reviewMessage(TicketAssignmentReviewReason reason, String title) {
+        if (reason == TicketAssignmentReviewReason.NO_SPECIALIST_MATCH) {
+            return "No technician specialization matched \"" + title + "\". Review and assign manually.";
+        }
+        return "Matching specialists are at capacity for \"" + title + "\". Review and assign manually.";
+    }
+
+    private static String ticketLink(Long ticketId) {
+        return "/tickets/" + ticketId;
+    }
+}
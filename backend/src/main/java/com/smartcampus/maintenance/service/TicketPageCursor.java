@@ -0,0 +1,45 @@
+package com.smartcampus.maintenance.service;
+
+import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import org.springframework.util.StringUtils;
+
+/**
+ * Opaque seek position for the admin ticket listing, ordered by {@code createdAt DESC, id DESC}.
+ * Clients receive it as {@code nextCursor} and pass it back verbatim.
+ */
+record TicketPageCursor(LocalDateTime createdAt, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    static TicketPageCursor after(Ticket ticket) {
+        return new TicketPageCursor(ticket.getCreatedAt(), ticket.getId());
+    }
+
+    static TicketPageCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new BadRequestException("Invalid ticket page cursor");
+            }
+            return new TicketPageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid ticket page cursor");
+        }
+    }
+
+    String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
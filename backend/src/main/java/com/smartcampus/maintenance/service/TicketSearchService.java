@@ -0,0 +1,87 @@
+package com.smartcampus.maintenance.service;
+
+import com.smartcampus.maintenance.dto.ticket.TicketResponse;
+import com.smartcampus.maintenance.dto.ticket.TicketSearchResponse;
+import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.entity.User;
+import com.smartcampus.maintenance.entity.enums.Role;
+import com.smartcampus.maintenance.exception.ForbiddenException;
+import com.smartcampus.maintenance.mapper.TicketMapper;
+import com.smartcampus.maintenance.repository.TicketRepository;
+import com.smartcampus.maintenance.util.TicketSearchText;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Relevance-ranked ticket search over {@code tickets.search_text}. The ranked id page is read
+ * first so the full-text predicate drives the query, then the tickets are loaded in one batch.
+ */
+@Service
+public class TicketSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketSearchService.class);
+
+    private final TicketRepository ticketRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public TicketSearchService(
+            TicketRepository ticketRepository,
+            @Value("${app.tickets.page.default-size:50}") int defaultPageSize,
+            @Value("${app.tickets.page.max-size:200}") int maxPageSize) {
+        this.ticketRepository = ticketRepository;
+        this.maxPageSize = Math.max(1, maxPageSize);
+        this.defaultPageSize = Math.min(Math.max(1, defaultPageSize), this.maxPageSize);
+    }
+
+    /**
+     * Fills the search document for tickets created before the column existed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillSearchText() {
+        int backfilled = ticketRepository.backfillSearchText();
+        if (backfilled > 0) {
+            log.info("Backfilled search text for {} ticket(s)", backfilled);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public TicketSearchResponse search(User actor, String q, Integer page, Integer size) {
+        if (actor.getRole() != Role.ADMIN) {
+            throw new ForbiddenException("Role " + Role.ADMIN + " is required");
+        }
+        int pageSize = size == null ? defaultPageSize : Math.min(Math.max(1, size), maxPageSize);
+        int pageNumber = page == null ? 0 : Math.max(0, page);
+        TicketSearchText.Query query = TicketSearchText.parse(q).orElse(null);
+        if (query == null) {
+            return new TicketSearchResponse(List.of(), pageNumber, pageSize, false);
+        }
+
+        // A Slice reads one extra id to learn whether another page exists, without a count query.
+        Slice<Long> ids = ticketRepository.findIdsByTextRelevance(
+                query.booleanMode(),
+                query.pattern(),
+                PageRequest.of(pageNumber, pageSize));
+        List<Long> pageIds = ids.getContent();
+        Map<Long, Ticket> tickets = ticketRepository.findForResponseByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Ticket::getId, Function.identity()));
+        List<TicketResponse> items = pageIds.stream()
+                .map(tickets::get)
+                .filter(ticket -> ticket != null)
+                .map(ticket -> TicketMapper.toResponse(ticket, null, null))
+                .toList();
+        return new TicketSearchResponse(items, pageNumber, pageSize, ids.hasNext());
+    }
+}
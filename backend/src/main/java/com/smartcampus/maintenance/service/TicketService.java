@@ -1,5 +1,6 @@
 package com.smartcampus.maintenance.service;
 
+import com.smartcampus.maintenance.config.SqlStatementCounter;
 import com.smartcampus.maintenance.dto.ticket.CommentCreateRequest;
 import com.smartcampus.maintenance.dto.ticket.CommentResponse;
 import com.smartcampus.maintenance.dto.ticket.DuplicateCheckResponse;
@@ -7,13 +8,17 @@ import com.smartcampus.maintenance.dto.ticket.DuplicateCheckResponse.SimilarTick
 import com.smartcampus.maintenance.dto.ticket.TicketAssignRequest;
 import com.smartcampus.maintenance.dto.ticket.TicketAssignmentResponseRequest;
 import com.smartcampus.maintenance.dto.ticket.TicketAssignmentRecommendationResponse;
+import com.smartcampus.maintenance.dto.ticket.TicketAttachmentUrlsRequest;
+import com.smartcampus.maintenance.dto.ticket.TicketAttachmentUrlsResponse;
 import com.smartcampus.maintenance.dto.ticket.TicketCreateRequest;
 import com.smartcampus.maintenance.dto.ticket.TicketDetailResponse;
 import com.smartcampus.maintenance.dto.ticket.TicketLogResponse;
+import com.smartcampus.maintenance.dto.ticket.TicketPageResponse;
 import com.smartcampus.maintenance.dto.ticket.TicketRateRequest;
 import com.smartcampus.maintenance.dto.ticket.TicketRatingResponse;
 import com.smartcampus.maintenance.dto.ticket.TicketResponse;
 import com.smartcampus.maintenance.dto.ticket.TicketStatusUpdateRequest;
+import com.smartcampus.maintenance.dto.ticket.WorkloadIndexConsistencyResponse;
 import com.smartcampus.maintenance.entity.Building;
 import com.smartcampus.maintenance.entity.RequestType;
 import com.smartcampus.maintenance.entity.Ticket;
@@ -27,6 +32,10 @@ import com.smartcampus.maintenance.entity.enums.TicketAssignmentReviewReason;
 import com.smartcampus.maintenance.entity.enums.TicketCategory;
 import com.smartcampus.maintenance.entity.enums.TicketStatus;
 import com.smartcampus.maintenance.entity.enums.UrgencyLevel;
+import com.smartcampus.maintenance.event.TicketAssignedEvent;
+import com.smartcampus.maintenance.event.TicketCommentAddedEvent;
+import com.smartcampus.maintenance.event.TicketCreatedEvent;
+import com.smartcampus.maintenance.event.TicketStatusChangedEvent;
 import com.smartcampus.maintenance.exception.ConflictException;
 import com.smartcampus.maintenance.exception.ForbiddenException;
 import com.smartcampus.maintenance.exception.NotFoundException;
@@ -41,14 +50,26 @@ import com.smartcampus.maintenance.repository.UserRepository;
 import com.smartcampus.maintenance.service.TicketAttachmentAccessService.AttachmentType;
 import com.smartcampus.maintenance.util.ServiceDomainCatalog;
 import com.smartcampus.maintenance.util.FileStorageService;
+import com.smartcampus.maintenance.util.FileStorageService.ImageVariant;
 import com.smartcampus.maintenance.util.FileStorageService.StoredFile;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.CacheControl;
@@ -67,6 +88,10 @@ public class TicketService {
     private static final EnumSet<TicketStatus> RESOLVED_OR_CLOSED = EnumSet.of(TicketStatus.RESOLVED,
             TicketStatus.CLOSED);
     private static final int MAX_AUTO_ASSIGN_ACTIVE_TICKETS = 4;
+    private static final int MAX_SIMILAR_TICKETS = 5;
+    private static final Sort TICKET_PAGE_SORT = Sort.by(
+            Sort.Order.desc("createdAt"),
+            Sort.Order.desc("id"));
 
     private final TicketRepository ticketRepository;
     private final TicketLogRepository ticketLogRepository;
@@ -80,6 +105,20 @@ public class TicketService {
     private final TicketAttachmentAccessService ticketAttachmentAccessService;
     private final NotificationDispatchService notificationDispatchService;
     private final EmailService emailService;
+    private final TicketStatsRollupService ticketStatsRollupService;
+    private final TechnicianWorkloadIndex technicianWorkloadIndex;
+    private final DuplicateTicketIndex duplicateTicketIndex;
+    private final SlaService slaService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SqlStatementCounter sqlStatementCounter;
+    private final MeterRegistry meterRegistry;
+    private final Timer storageTimer;
+    private final Timer persistTimer;
+    private final Timer autoAssignTimer;
+    private final Timer emailEnqueueTimer;
+    private final Map<String, DistributionSummary> assignmentQueries = new ConcurrentHashMap<>();
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
     public TicketService(
             TicketRepository ticketRepository,
@@ -93,7 +132,16 @@ public class TicketService {
             FileStorageService fileStorageService,
             TicketAttachmentAccessService ticketAttachmentAccessService,
             NotificationDispatchService notificationDispatchService,
-            EmailService emailService) {
+            EmailService emailService,
+            TicketStatsRollupService ticketStatsRollupService,
+            TechnicianWorkloadIndex technicianWorkloadIndex,
+            DuplicateTicketIndex duplicateTicketIndex,
+            SlaService slaService,
+            ApplicationEventPublisher eventPublisher,
+            SqlStatementCounter sqlStatementCounter,
+            MeterRegistry meterRegistry,
+            @Value("${app.tickets.page.default-size:50}") int defaultPageSize,
+            @Value("${app.tickets.page.max-size:200}") int maxPageSize) {
         this.ticketRepository = ticketRepository;
         this.ticketLogRepository = ticketLogRepository;
         this.ticketRatingRepository = ticketRatingRepository;
@@ -106,6 +154,19 @@ public class TicketService {
         this.ticketAttachmentAccessService = ticketAttachmentAccessService;
         this.notificationDispatchService = notificationDispatchService;
         this.emailService = emailService;
+        this.ticketStatsRollupService = ticketStatsRollupService;
+        this.technicianWorkloadIndex = technicianWorkloadIndex;
+        this.duplicateTicketIndex = duplicateTicketIndex;
+        this.slaService = slaService;
+        this.eventPublisher = eventPublisher;
+        this.sqlStatementCounter = sqlStatementCounter;
+        this.meterRegistry = meterRegistry;
+        this.storageTimer = createPhaseTimer(meterRegistry, "storage");
+        this.persistTimer = createPhaseTimer(meterRegistry, "persist");
+        this.autoAssignTimer = createPhaseTimer(meterRegistry, "auto-assign");
+        this.emailEnqueueTimer = createPhaseTimer(meterRegistry, "email-enqueue");
+        this.maxPageSize = Math.max(1, maxPageSize);
+        this.defaultPageSize = Math.min(Math.max(1, defaultPageSize), this.maxPageSize);
     }
 
     @Transactional
@@ -126,12 +187,17 @@ public class TicketService {
         ticket.setUrgency(request.urgency());
         ticket.setStatus(TicketStatus.SUBMITTED);
         ticket.setCreatedBy(actor);
-        ticket.setImagePath(fileStorageService.store(imageFile));
+        ticket.setImagePath(storageTimer.record(() -> fileStorageService.store(imageFile)));
 
-        Ticket saved = ticketRepository.save(ticket);
-        addLog(saved, null, TicketStatus.SUBMITTED, actor, "Ticket submitted");
+        Ticket persisted = persistTimer.record(() -> {
+            Ticket inserted = ticketRepository.save(ticket);
+            slaService.trackDeadline(inserted);
+            addLog(inserted, null, TicketStatus.SUBMITTED, actor, "Ticket submitted");
+            return inserted;
+        });
 
-        AutoAssignDecision autoAssignDecision = tryAutoAssign(saved, actor);
+        AutoAssignDecision autoAssignDecision = autoAssignTimer.record(() -> tryAutoAssign(persisted, actor));
+        Ticket saved = persisted;
         if (!autoAssignDecision.assigned()) {
             TicketStatus previous = saved.getStatus();
             markForAssignmentReview(saved, autoAssignDecision.reviewReason());
@@ -139,19 +205,20 @@ public class TicketService {
             saved = ticketRepository.save(saved);
             addLog(saved, previous, TicketStatus.APPROVED, actor,
                     autoAssignDecision.adminLogNote());
-            notifyAdmins(
-                    "Ticket #" + saved.getId() + " requires assignment review",
-                    autoAssignDecision.adminNotificationMessage(saved),
-                    NotificationType.ASSIGNMENT,
-                    ticketLink(saved));
         }
 
-        notifyAdmins(
-                "New ticket #" + saved.getId(),
-                actor.getFullName() + " submitted \"" + saved.getTitle() + "\".",
-                NotificationType.TICKET_UPDATE,
-                ticketLink(saved));
-        emailService.sendTicketCreatedEmail(actor.getEmail(), saved.getTitle(), saved.getId());
+        eventPublisher.publishEvent(new TicketCreatedEvent(
+                saved.getId(),
+                saved.getTitle(),
+                actor.getId(),
+                autoAssignDecision.assigned() ? saved.getAssignedTo().getId() : null,
+                autoAssignDecision.reviewReason()));
+        Ticket created = saved;
+        emailEnqueueTimer.record(() ->
+                emailService.sendTicketCreatedEmail(actor.getEmail(), created.getTitle(), created.getId()));
+        ticketStatsRollupService.recordCreated(saved);
+        technicianWorkloadIndex.recordCreated(saved);
+        duplicateTicketIndex.record(saved);
         return toResponse(saved);
     }
 
@@ -165,6 +232,8 @@ public class TicketService {
         if (ticket.getStatus() != TicketStatus.ASSIGNED) {
             throw new ConflictException("Only ASSIGNED tickets can be accepted or declined");
         }
+        TicketStatsRollupService.Snapshot before = TicketStatsRollupService.Snapshot.of(ticket);
+        TechnicianWorkloadIndex.Contribution workloadBefore = TechnicianWorkloadIndex.Contribution.of(ticket);
 
         if (Boolean.TRUE.equals(request.accepted())) {
             ticket.setStatus(TicketStatus.ACCEPTED);
@@ -176,6 +245,8 @@ public class TicketService {
                     actor,
                     "Ticket #" + saved.getId() + " accepted",
                     "Maintenance accepted \"" + saved.getTitle() + "\" and will begin work shortly.");
+            ticketStatsRollupService.recordChange(before, saved);
+            technicianWorkloadIndex.recordChange(workloadBefore, saved);
             return toResponse(saved);
         }
 
@@ -198,6 +269,8 @@ public class TicketService {
                 actor,
                 "Ticket #" + saved.getId() + " reassignment in progress",
                 "Maintenance requested reassignment for \"" + saved.getTitle() + "\". Admin review is in progress.");
+        ticketStatsRollupService.recordChange(before, saved);
+        technicianWorkloadIndex.recordChange(workloadBefore, saved);
         return toResponse(saved);
     }
 
@@ -211,41 +284,111 @@ public class TicketService {
             UrgencyLevel urgency,
             Long assigneeId,
             Boolean reviewRequired,
-            String search) {
+            String search,
+            boolean includeAttachmentUrls) {
         requireRole(actor, Role.ADMIN);
-        Specification<Ticket> specification = Specification.allOf(
-                TicketSpecifications.statusEquals(status),
-                TicketSpecifications.serviceDomainKeyEquals(serviceDomainKey),
-                TicketSpecifications.requestTypeEquals(requestTypeId),
-                TicketSpecifications.buildingEquals(buildingId),
-                TicketSpecifications.urgencyEquals(urgency),
-                TicketSpecifications.assigneeEquals(assigneeId),
-                TicketSpecifications.assignmentReviewRequiredEquals(reviewRequired),
-                TicketSpecifications.searchLike(search));
-        return ticketRepository.findAll(specification, Sort.by(Sort.Direction.DESC, "createdAt")).stream()
-                .map(this::toResponse)
+        Specification<Ticket> specification = adminListingSpecification(
+                status, serviceDomainKey, requestTypeId, buildingId, urgency, assigneeId, reviewRequired, search);
+        return ticketRepository.findBy(specification, query -> query
+                        .sortBy(Sort.by(Sort.Direction.DESC, "createdAt"))
+                        .project(TicketRepository.RESPONSE_FETCH_PATHS)
+                        .all())
+                .stream()
+                .map(ticket -> toListResponse(ticket, includeAttachmentUrls))
                 .toList();
     }
 
     @Transactional(readOnly = true)
-    public List<TicketResponse> getMyTickets(User actor) {
+    public TicketPageResponse getTicketPage(
+            User actor,
+            TicketStatus status,
+            String serviceDomainKey,
+            Long requestTypeId,
+            Long buildingId,
+            UrgencyLevel urgency,
+            Long assigneeId,
+            Boolean reviewRequired,
+            String search,
+            String cursor,
+            Integer limit,
+            boolean includeAttachmentUrls) {
+        requireRole(actor, Role.ADMIN);
+        int pageSize = limit == null ? defaultPageSize : Math.min(Math.max(1, limit), maxPageSize);
+        TicketPageCursor position = TicketPageCursor.decode(cursor);
+        Specification<Ticket> specification = adminListingSpecification(
+                status, serviceDomainKey, requestTypeId, buildingId, urgency, assigneeId, reviewRequired, search)
+                .and(position == null
+                        ? null
+                        : TicketSpecifications.createdBefore(position.createdAt(), position.id()));
+
+        // Fetch one extra row to learn whether another page exists without issuing a count query.
+        List<Ticket> rows = ticketRepository.findBy(specification, query -> query
+                .sortBy(TICKET_PAGE_SORT)
+                .project(TicketRepository.RESPONSE_FETCH_PATHS)
+                .limit(pageSize + 1)
+                .all());
+        boolean hasMore = rows.size() > pageSize;
+        List<Ticket> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? TicketPageCursor.after(page.getLast()).encode() : null;
+        return new TicketPageResponse(
+                page.stream().map(ticket -> toListResponse(ticket, includeAttachmentUrls)).toList(),
+                nextCursor,
+                hasMore,
+                pageSize);
+    }
+
+    private Specification<Ticket> adminListingSpecification(
+            TicketStatus status,
+            String serviceDomainKey,
+            Long requestTypeId,
+            Long buildingId,
+            UrgencyLevel urgency,
+            Long assigneeId,
+            Boolean reviewRequired,
+            String search) {
+        return TicketSpecifications.adminListing(
+                status, serviceDomainKey, requestTypeId, buildingId, urgency, assigneeId, reviewRequired, search);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TicketResponse> getMyTickets(User actor, boolean includeAttachmentUrls) {
         requireRole(actor, Role.STUDENT);
         return ticketRepository.findByCreatedByIdOrderByCreatedAtDesc(actor.getId()).stream()
-                .map(this::toResponse)
+                .map(ticket -> toListResponse(ticket, includeAttachmentUrls))
                 .toList();
     }
 
     @Transactional(readOnly = true)
-    public List<TicketResponse> getAssignedTickets(User actor) {
+    public List<TicketResponse> getAssignedTickets(User actor, boolean includeAttachmentUrls) {
         requireRole(actor, Role.MAINTENANCE);
         return ticketRepository.findByAssignedToIdOrderByCreatedAtDesc(actor.getId()).stream()
-                .map(this::toResponse)
+                .map(ticket -> toListResponse(ticket, includeAttachmentUrls))
+                .toList();
+    }
+
+    /**
+     * Signs attachment URLs on demand for tickets listed without them. Ids the actor cannot see
+     * are rejected; unknown ids and tickets without attachments are left out.
+     */
+    @Transactional(readOnly = true)
+    public List<TicketAttachmentUrlsResponse> signAttachmentUrls(TicketAttachmentUrlsRequest request, User actor) {
+        List<Ticket> tickets = ticketRepository.findAllById(new LinkedHashSet<>(request.ticketIds()));
+        tickets.forEach(ticket -> ensureAccess(ticket, actor));
+        return tickets.stream()
+                .filter(ticket -> StringUtils.hasText(ticket.getImagePath())
+                        || StringUtils.hasText(ticket.getAfterImagePath()))
+                .sorted(Comparator.comparing(Ticket::getId))
+                .map(ticket -> new TicketAttachmentUrlsResponse(
+                        ticket.getId(),
+                        ticketAttachmentAccessService.buildSignedUrl(ticket, AttachmentType.BEFORE, ticket.getImagePath()),
+                        ticketAttachmentAccessService.buildSignedUrl(ticket, AttachmentType.AFTER, ticket.getAfterImagePath())))
                 .toList();
     }
 
     @Transactional(readOnly = true)
     public TicketDetailResponse getTicketDetail(Long ticketId, User actor) {
-        Ticket ticket = requireTicket(ticketId);
+        Ticket ticket = ticketRepository.findForResponseById(ticketId)
+                .orElseThrow(() -> new NotFoundException("Ticket not found"));
         ensureAccess(ticket, actor);
 
         List<TicketLogResponse> logs = ticketLogRepository.findByTicketIdOrderByTimestampAsc(ticketId).stream()
@@ -267,6 +410,11 @@ public class TicketService {
         return autoAssignmentService.recommendAssignees(ticket, 3);
     }
 
+    public WorkloadIndexConsistencyResponse checkWorkloadIndexConsistency(User actor) {
+        requireRole(actor, Role.ADMIN);
+        return technicianWorkloadIndex.checkConsistency();
+    }
+
     @Transactional(readOnly = true)
     public List<TicketLogResponse> getLogs(Long ticketId, User actor) {
         Ticket ticket = requireTicket(ticketId);
@@ -290,6 +438,8 @@ public class TicketService {
             throw new UnprocessableEntityException("Assignee must have MAINTENANCE role");
         }
 
+        TicketStatsRollupService.Snapshot before = TicketStatsRollupService.Snapshot.of(ticket);
+        TechnicianWorkloadIndex.Contribution workloadBefore = TechnicianWorkloadIndex.Contribution.of(ticket);
         TicketStatus oldStatus = ticket.getStatus();
         ticket.setAssignedTo(assignee);
         ticket.setStatus(TicketStatus.ASSIGNED);
@@ -297,19 +447,11 @@ public class TicketService {
         ticket.setAssignmentReviewReason(null);
         Ticket saved = ticketRepository.save(ticket);
         addLog(saved, oldStatus, TicketStatus.ASSIGNED, actor, safeNote(request.note(), "Ticket assigned"));
-        notificationDispatchService.notifyUser(
-                assignee,
-                "Ticket #" + saved.getId() + " assigned",
-                "You were assigned \"" + saved.getTitle() + "\".",
-                NotificationType.ASSIGNMENT,
-                ticketLink(saved));
-        notificationDispatchService.notifyUser(
-                saved.getCreatedBy(),
-                "Ticket #" + saved.getId() + " assigned",
-                "Your ticket \"" + saved.getTitle() + "\" is now assigned to maintenance.",
-                NotificationType.TICKET_UPDATE,
-                ticketLink(saved));
+        eventPublisher.publishEvent(new TicketAssignedEvent(
+                saved.getId(), saved.getTitle(), assignee.getId(), saved.getCreatedBy().getId()));
         emailService.sendTicketAssignedEmail(assignee.getEmail(), saved.getTitle(), saved.getId());
+        ticketStatsRollupService.recordChange(before, saved);
+        technicianWorkloadIndex.recordChange(workloadBefore, saved);
         return toResponse(saved);
     }
 
@@ -323,6 +465,8 @@ public class TicketService {
         if (oldStatus == targetStatus) {
             throw new ConflictException("Ticket is already in status " + targetStatus.name());
         }
+        TicketStatsRollupService.Snapshot before = TicketStatsRollupService.Snapshot.of(ticket);
+        TechnicianWorkloadIndex.Contribution workloadBefore = TechnicianWorkloadIndex.Contribution.of(ticket);
 
         ticket.setStatus(targetStatus);
         if (oldStatus == TicketStatus.ASSIGNED && targetStatus == TicketStatus.APPROVED
@@ -334,17 +478,27 @@ public class TicketService {
         } else if (oldStatus == TicketStatus.RESOLVED && targetStatus != TicketStatus.CLOSED) {
             ticket.setResolvedAt(null);
         }
+        if (ticket.getSlaDeadlineAt() == null && SlaService.ACTIVE_STATUSES.contains(targetStatus)) {
+            // Reopened: escalation cleared the deadline once the ticket left the active set.
+            slaService.trackDeadline(ticket);
+        }
 
         Ticket saved = ticketRepository.save(ticket);
         addLog(saved, oldStatus, targetStatus, actor, request.note());
-
-        String statusLabel = targetStatus.name().replace('_', ' ').toLowerCase();
-        String message = "Ticket \"" + saved.getTitle() + "\" moved to " + statusLabel + ".";
-        notifyTicketStakeholders(saved, actor, "Ticket #" + saved.getId() + " status updated", message);
-
+        eventPublisher.publishEvent(new TicketStatusChangedEvent(
+                saved.getId(),
+                saved.getTitle(),
+                oldStatus,
+                targetStatus,
+                actor.getId(),
+                saved.getCreatedBy().getId(),
+                saved.getAssignedTo() == null ? null : saved.getAssignedTo().getId()));
         if (targetStatus == TicketStatus.RESOLVED) {
             emailService.sendTicketResolvedEmail(saved.getCreatedBy().getEmail(), saved.getTitle(), saved.getId());
         }
+        ticketStatsRollupService.recordChange(before, saved);
+        technicianWorkloadIndex.recordChange(workloadBefore, saved);
+        duplicateTicketIndex.record(saved);
         return toResponse(saved);
     }
 
@@ -376,7 +530,8 @@ public class TicketService {
             Long ticketId,
             String attachmentType,
             Long expiresAt,
-            String signature) {
+            String signature,
+            String size) {
         Ticket ticket = requireTicket(ticketId);
         AttachmentType type = AttachmentType.fromPathSegment(attachmentType);
         String storedPath = type == AttachmentType.BEFORE ? ticket.getImagePath() : ticket.getAfterImagePath();
@@ -388,7 +543,7 @@ public class TicketService {
         }
         ticketAttachmentAccessService.validate(ticket, type, storedPath, expiresAt, signature);
 
-        StoredFile storedFile = fileStorageService.load(storedPath);
+        StoredFile storedFile = fileStorageService.loadVariant(storedPath, ImageVariant.fromKey(size));
         MediaType mediaType = MediaType.parseMediaType(storedFile.contentType());
         Resource resource = new FileSystemResource(storedFile.path());
         return ResponseEntity.ok()
@@ -498,12 +653,14 @@ public class TicketService {
         comment.setAuthor(actor);
         comment.setContent(request.content().trim());
         comment = ticketCommentRepository.save(comment);
-        notifyTicketStakeholders(
-                ticket,
-                actor,
-                "New comment on ticket #" + ticket.getId(),
-                actor.getFullName() + " added a comment on \"" + ticket.getTitle() + "\".",
-                NotificationType.COMMENT);
+        eventPublisher.publishEvent(new TicketCommentAddedEvent(
+                ticket.getId(),
+                ticket.getTitle(),
+                comment.getId(),
+                actor.getId(),
+                actor.getFullName(),
+                ticket.getCreatedBy().getId(),
+                ticket.getAssignedTo() == null ? null : ticket.getAssignedTo().getId()));
         return toCommentResponse(comment);
     }
 
@@ -531,16 +688,13 @@ public class TicketService {
 
     @Transactional(readOnly = true)
     public DuplicateCheckResponse checkDuplicates(TicketCreateRequest request) {
-        EnumSet<TicketStatus> closedStatuses = EnumSet.of(TicketStatus.CLOSED, TicketStatus.REJECTED);
         RequestType requestType = catalogService.requireActiveRequestType(request.requestTypeId());
         Building building = buildingService.requireActiveBuilding(request.buildingId());
-        List<Ticket> candidates = ticketRepository.findByRequestTypeIdAndBuildingRecordIdAndStatusNotIn(
-                requestType.getId(), building.getId(), closedStatuses);
-
-        String inputTitle = request.title().trim().toLowerCase();
-        List<SimilarTicketSummary> similar = candidates.stream()
-                .filter(t -> similarity(inputTitle, t.getTitle().toLowerCase()) > 0.5)
-                .limit(5)
+        List<Ticket> similarTickets = duplicateTicketIndex
+                .findSimilar(building.getId(), requestType.getId(), request.title(), MAX_SIMILAR_TICKETS)
+                .map(this::loadSimilarTickets)
+                .orElseGet(() -> scanSimilarTickets(requestType, building, request.title()));
+        List<SimilarTicketSummary> similar = similarTickets.stream()
                 .map(t -> new SimilarTicketSummary(
                         t.getId(), t.getTitle(), t.getStatus().name(),
                         resolveBuildingName(t), TicketMapper.resolveServiceDomainKey(t)))
@@ -553,33 +707,35 @@ public class TicketService {
                 "Found " + similar.size() + " similar report(s) in " + building.getName() + ". You may still submit.");
     }
 
-    private double similarity(String a, String b) {
-        if (a.equals(b))
-            return 1.0;
-        if (a.isEmpty() || b.isEmpty())
-            return 0.0;
-        // containment check
-        if (a.contains(b) || b.contains(a))
-            return 0.8;
-        // Levenshtein distance
-        int maxLen = Math.max(a.length(), b.length());
-        int distance = levenshtein(a, b);
-        return 1.0 - ((double) distance / maxLen);
-    }
-
-    private int levenshtein(String a, String b) {
-        int[][] dp = new int[a.length() + 1][b.length() + 1];
-        for (int i = 0; i <= a.length(); i++)
-            dp[i][0] = i;
-        for (int j = 0; j <= b.length(); j++)
-            dp[0][j] = j;
-        for (int i = 1; i <= a.length(); i++) {
-            for (int j = 1; j <= b.length(); j++) {
-                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
-                dp[i][j] = Math.min(Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1), dp[i - 1][j - 1] + cost);
-            }
-        }
-        return dp[a.length()][b.length()];
+    /**
+     * Loads the indexed matches in rank order, dropping any closed since the index last saw them.
+     */
+    private List<Ticket> loadSimilarTickets(List<DuplicateTicketIndex.Match> matches) {
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Ticket> tickets = ticketRepository
+                .findForResponseByIdIn(matches.stream().map(DuplicateTicketIndex.Match::ticketId).toList())
+                .stream()
+                .collect(Collectors.toMap(Ticket::getId, Function.identity()));
+        return matches.stream()
+                .map(match -> tickets.get(match.ticketId()))
+                .filter(ticket -> ticket != null && !DuplicateTicketIndex.CLOSED_STATUSES.contains(ticket.getStatus()))
+                .toList();
+    }
+
+    /**
+     * Used only until the duplicate index has been built after startup.
+     */
+    private List<Ticket> scanSimilarTickets(RequestType requestType, Building building, String title) {
+        String inputTitle = TitleSimilarity.normalize(title);
+        return ticketRepository.findByRequestTypeIdAndBuildingRecordIdAndStatusNotIn(
+                        requestType.getId(), building.getId(), DuplicateTicketIndex.CLOSED_STATUSES)
+                .stream()
+                .filter(t -> TitleSimilarity.similarity(inputTitle, TitleSimilarity.normalize(t.getTitle()))
+                        > TitleSimilarity.THRESHOLD)
+                .limit(MAX_SIMILAR_TICKETS)
+                .toList();
     }
 
     // ---- After-Photo ----
@@ -610,7 +766,25 @@ public class TicketService {
         notificationDispatchService.notifyUsers(userRepository.findByRole(Role.ADMIN), title, message, type, linkUrl);
     }
 
+    /**
+     * Records how many SQL statements each decision cost, by outcome, so a regression in the
+     * workload index (falling back to the grouped query) shows up without a profiler.
+     */
     private AutoAssignDecision tryAutoAssign(Ticket ticket, User actor) {
+        SqlStatementCounter.Counted<AutoAssignDecision> decision =
+                sqlStatementCounter.count(() -> decideAutoAssign(ticket, actor));
+        String outcome = decision.result().assigned()
+                ? "assigned"
+                : decision.result().reviewReason().name().toLowerCase().replace('_', '-');
+        assignmentQueries.computeIfAbsent(outcome, ignored -> DistributionSummary.builder("assignment.decision.queries")
+                        .description("SQL statements issued by one auto-assignment decision, by outcome")
+                        .tag("outcome", outcome)
+                        .register(meterRegistry))
+                .record(decision.statements());
+        return decision.result();
+    }
+
+    private AutoAssignDecision decideAutoAssign(Ticket ticket, User actor) {
         List<TicketAssignmentRecommendationResponse> recommendations = autoAssignmentService.recommendAssignees(ticket, 1);
         if (recommendations.isEmpty()) {
             return new AutoAssignDecision(false, TicketAssignmentReviewReason.NO_SPECIALIST_MATCH);
@@ -630,18 +804,6 @@ public class TicketService {
                     ticket.setAssignmentReviewReason(null);
                     Ticket saved = ticketRepository.save(ticket);
                     addLog(saved, oldStatus, TicketStatus.ASSIGNED, actor, "Auto-assigned by system");
-                    notificationDispatchService.notifyUser(
-                            assignee,
-                            "Ticket #" + saved.getId() + " assigned",
-                            "New ticket \"" + saved.getTitle() + "\" was auto-assigned. Accept or decline from your queue.",
-                            NotificationType.ASSIGNMENT,
-                            ticketLink(saved));
-                    notificationDispatchService.notifyUser(
-                            saved.getCreatedBy(),
-                            "Ticket #" + saved.getId() + " assigned",
-                            "Your ticket \"" + saved.getTitle() + "\" was assigned to maintenance automatically.",
-                            NotificationType.TICKET_UPDATE,
-                            ticketLink(saved));
                     return new AutoAssignDecision(true, null);
                 })
                 .orElseGet(() -> new AutoAssignDecision(false, TicketAssignmentReviewReason.CAPACITY_REACHED));
@@ -653,6 +815,14 @@ public class TicketService {
         ticket.setAssignmentReviewReason(reason);
     }
 
+    private static Timer createPhaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("tickets.create.phase")
+                .description("Time spent in each phase of ticket creation")
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     private record AutoAssignDecision(boolean assigned, TicketAssignmentReviewReason reviewReason) {
         private String adminLogNote() {
             if (reviewReason == TicketAssignmentReviewReason.NO_SPECIALIST_MATCH) {
@@ -660,13 +830,6 @@ public class TicketService {
             }
             return "Auto-assignment unavailable because all matching specialists are at capacity. Admin review is required.";
         }
-
-        private String adminNotificationMessage(Ticket ticket) {
-            if (reviewReason == TicketAssignmentReviewReason.NO_SPECIALIST_MATCH) {
-                return "No technician specialization matched \"" + ticket.getTitle() + "\". Review and assign manually.";
-            }
-            return "Matching specialists are at capacity for \"" + ticket.getTitle() + "\". Review and assign manually.";
-        }
     }
 
     private void notifyTicketStakeholders(Ticket ticket, User actor, String title, String message) {
@@ -697,6 +860,14 @@ public class TicketService {
         return "/tickets/" + ticket.getId();
     }
 
+    /**
+     * List rows carry only the {@code hasImage}/{@code hasAfterImage} flags unless signed URLs are
+     * asked for; clients fetch URLs for the rows they render via {@link #signAttachmentUrls}.
+     */
+    private TicketResponse toListResponse(Ticket ticket, boolean includeAttachmentUrls) {
+        return includeAttachmentUrls ? toResponse(ticket) : TicketMapper.toResponse(ticket, null, null);
+    }
+
     private TicketResponse toResponse(Ticket ticket) {
         return TicketMapper.toResponse(
                 ticket,
@@ -0,0 +1,210 @@
+package com.smartcampus.maintenance.service;
+
+import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.entity.TicketStatRollup;
+import com.smartcampus.maintenance.entity.enums.TicketCategory;
+import com.smartcampus.maintenance.entity.enums.TicketRollupDimension;
+import com.smartcampus.maintenance.entity.enums.TicketStatus;
+import com.smartcampus.maintenance.entity.enums.UrgencyLevel;
+import com.smartcampus.maintenance.mapper.TicketMapper;
+import com.smartcampus.maintenance.repository.TicketRepository;
+import com.smartcampus.maintenance.repository.TicketStatRollupRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the {@code ticket_stat_rollups} counters that back the admin analytics endpoints.
+ *
+ * <p>Callers capture a {@link Snapshot} before mutating a ticket and call {@link #recordChange}
+ * after saving it; the difference is applied as upserts inside the caller's transaction.
+ * Upserts are issued in a fixed (dimension, key) order so concurrent writers lock rows
+ * in the same sequence.</p>
+ */
+@Service
+public class TicketStatsRollupService {
+
+    public static final String TOTAL_KEY = "ALL";
+    public static final String LEGACY_BUILDING_PREFIX = "legacy:";
+
+    private static final Logger log = LoggerFactory.getLogger(TicketStatsRollupService.class);
+    private static final EnumSet<TicketStatus> RESOLVED_STATUSES = EnumSet.of(TicketStatus.RESOLVED, TicketStatus.CLOSED);
+
+    private final TicketStatRollupRepository rollupRepository;
+    private final TicketRepository ticketRepository;
+
+    public TicketStatsRollupService(TicketStatRollupRepository rollupRepository, TicketRepository ticketRepository) {
+        this.rollupRepository = rollupRepository;
+        this.ticketRepository = ticketRepository;
+    }
+
+    /**
+     * The part of a ticket that contributes to the rollups. A {@code null} resolution time means
+     * the ticket does not count towards resolution averages.
+     */
+    public record Snapshot(
+            TicketStatus status,
+            UrgencyLevel urgency,
+            String serviceDomainKey,
+            String buildingKey,
+            Long resolutionMinutes) {
+
+        public static Snapshot of(Ticket ticket) {
+            Long buildingId = ticket.getBuildingRecord() == null ? null : ticket.getBuildingRecord().getId();
+            return new Snapshot(
+                    ticket.getStatus(),
+                    ticket.getUrgency(),
+                    TicketMapper.resolveServiceDomainKey(ticket),
+                    buildingKeyFor(buildingId, ticket.getBuilding()),
+                    resolutionMinutesFor(ticket.getStatus(), ticket.getCreatedAt(), ticket.getResolvedAt()));
+        }
+
+        private Map<TicketRollupDimension, String> keys() {
+            Map<TicketRollupDimension, String> keys = new TreeMap<>();
+            keys.put(TicketRollupDimension.TOTAL, TOTAL_KEY);
+            keys.put(TicketRollupDimension.STATUS, status.name());
+            keys.put(TicketRollupDimension.SERVICE_DOMAIN, serviceDomainKey);
+            keys.put(TicketRollupDimension.URGENCY, urgency.name());
+            keys.put(TicketRollupDimension.BUILDING, buildingKey);
+            return keys;
+        }
+    }
+
+    @Transactional
+    public void recordCreated(Ticket ticket) {
+        apply(null, Snapshot.of(ticket));
+    }
+
+    @Transactional
+    public void recordChange(Snapshot before, Ticket ticket) {
+        apply(before, Snapshot.of(ticket));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TicketStatRollup> findByDimension(TicketRollupDimension dimension) {
+        return rollupRepository.findByDimension(dimension);
+    }
+
+    @Transactional(readOnly = true)
+    public TicketStatRollup totals() {
+        return rollupRepository.findByDimensionAndGroupKey(TicketRollupDimension.TOTAL, TOTAL_KEY)
+                .orElseGet(() -> {
+                    TicketStatRollup empty = new TicketStatRollup();
+                    empty.setDimension(TicketRollupDimension.TOTAL);
+                    empty.setGroupKey(TOTAL_KEY);
+                    return empty;
+                });
+    }
+
+    /**
+     * Recomputes every rollup row from the tickets table. Used on startup when the stored
+     * totals disagree with the ticket count (fresh upgrade, seeded data, manual SQL edits).
+     */
+    @Transactional
+    public void rebuild() {
+        Map<RollupKey, long[]> totals = new TreeMap<>();
+        try (Stream<Object[]> rows = ticketRepository.streamRollupSources()) {
+            rows.forEach(row -> {
+                TicketStatus status = (TicketStatus) row[0];
+                String domainKey = row[2] != null
+                        ? (String) row[2]
+                        : row[3] != null ? ((TicketCategory) row[3]).name() : "OTHER";
+                Snapshot snapshot = new Snapshot(
+                        status,
+                        (UrgencyLevel) row[1],
+                        domainKey,
+                        buildingKeyFor((Long) row[4], (String) row[5]),
+                        resolutionMinutesFor(status, (LocalDateTime) row[6], (LocalDateTime) row[7]));
+                accumulate(totals, snapshot, 1);
+            });
+        }
+
+        rollupRepository.deleteAllInBatch();
+        List<TicketStatRollup> rollups = new ArrayList<>(totals.size());
+        totals.forEach((key, values) -> {
+            TicketStatRollup rollup = new TicketStatRollup();
+            rollup.setDimension(key.dimension());
+            rollup.setGroupKey(key.groupKey());
+            rollup.setTicketCount(values[0]);
+            rollup.setResolvedCount(values[1]);
+            rollup.setResolutionMinutes(values[2]);
+            rollups.add(rollup);
+        });
+        rollupRepository.saveAll(rollups);
+        log.info("Rebuilt {} ticket analytics rollup rows", rollups.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileOnStartup() {
+        long ticketCount = ticketRepository.count();
+        if (totals().getTicketCount() != ticketCount) {
+            rebuild();
+        }
+    }
+
+    private void apply(Snapshot before, Snapshot after) {
+        Map<RollupKey, long[]> deltas = new TreeMap<>();
+        if (before != null) {
+            accumulate(deltas, before, -1);
+        }
+        if (after != null) {
+            accumulate(deltas, after, 1);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        deltas.forEach((key, values) -> {
+            if (values[0] == 0 && values[1] == 0 && values[2] == 0) {
+                return;
+            }
+            rollupRepository.applyDelta(
+                    key.dimension().name(), key.groupKey(), values[0], values[1], values[2], now);
+        });
+    }
+
+    private static void accumulate(Map<RollupKey, long[]> target, Snapshot snapshot, int sign) {
+        boolean resolved = snapshot.resolutionMinutes() != null;
+        long minutes = resolved ? snapshot.resolutionMinutes() : 0L;
+        snapshot.keys().forEach((dimension, groupKey) -> {
+            long[] values = target.computeIfAbsent(new RollupKey(dimension, groupKey), ignored -> new long[3]);
+            values[0] += sign;
+            values[1] += resolved ? sign : 0;
+            values[2] += sign * minutes;
+        });
+    }
+
+    private static String buildingKeyFor(Long buildingId, String legacyBuildingName) {
+        if (buildingId != null) {
+            return String.valueOf(buildingId);
+        }
+        return LEGACY_BUILDING_PREFIX + Objects.requireNonNullElse(legacyBuildingName, "");
+    }
+
+    private static Long resolutionMinutesFor(TicketStatus status, LocalDateTime createdAt, LocalDateTime resolvedAt) {
+        if (!RESOLVED_STATUSES.contains(status) || createdAt == null || resolvedAt == null) {
+            return null;
+        }
+        return Duration.between(createdAt, resolvedAt).toMinutes();
+    }
+
+    private record RollupKey(TicketRollupDimension dimension, String groupKey) implements Comparable<RollupKey> {
+
+        @Override
+        public int compareTo(RollupKey other) {
+            int byDimension = dimension.compareTo(other.dimension);
+            return byDimension != 0 ? byDimension : groupKey.compareTo(other.groupKey);
+        }
+    }
+}
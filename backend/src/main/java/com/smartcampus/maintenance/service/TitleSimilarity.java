@@ -0,0 +1,101 @@
+package com.smartcampus.maintenance.service;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Title comparison used by duplicate detection: trigram fingerprints to shortlist candidates and
+ * a banded Levenshtein distance to confirm them.
+ */
+final class TitleSimilarity {
+
+    /** Titles scoring above this are reported as similar. */
+    static final double THRESHOLD = 0.5;
+
+    private TitleSimilarity() {
+    }
+
+    static String normalize(String title) {
+        return title == null ? "" : title.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Distinct, sorted trigrams of {@code normalized}, padded so that short titles and word
+     * boundaries still produce grams. Each gram packs its three chars into one {@code long}.
+     */
+    static long[] trigrams(String normalized) {
+        if (normalized.isEmpty()) {
+            return new long[0];
+        }
+        String padded = "  " + normalized + " ";
+        long[] grams = new long[padded.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+        }
+        return Arrays.stream(grams).sorted().distinct().toArray();
+    }
+
+    /**
+     * Scores two normalized titles: 1.0 when equal, 0.8 when one contains the other, otherwise
+     * one minus the edit distance over the longer length. Pairs that cannot clear
+     * {@link #THRESHOLD} stop early and score 0.
+     */
+    static double similarity(String a, String b) {
+        if (a.equals(b)) {
+            return 1.0;
+        }
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        if (a.contains(b) || b.contains(a)) {
+            return 0.8;
+        }
+        int maxLength = Math.max(a.length(), b.length());
+        // Largest distance that still scores above THRESHOLD (0.5): distance < maxLength / 2.
+        int maxDistance = (maxLength - 1) / 2;
+        int distance = boundedLevenshtein(a, b, maxDistance);
+        return distance > maxDistance ? 0.0 : 1.0 - ((double) distance / maxLength);
+    }
+
+    /**
+     * Levenshtein distance when it is at most {@code maxDistance}, otherwise
+     * {@code maxDistance + 1}. Only the diagonal band of width {@code 2 * maxDistance + 1} is
+     * filled, two rows at a time, and the scan stops as soon as a whole row exceeds the bound.
+     */
+    static int boundedLevenshtein(CharSequence a, CharSequence b, int maxDistance) {
+        int n = a.length();
+        int m = b.length();
+        int limit = maxDistance + 1;
+        if (Math.abs(n - m) > maxDistance) {
+            return limit;
+        }
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = Math.min(j, limit);
+        }
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(m, i + maxDistance);
+            current[from - 1] = from == 1 ? Math.min(i, limit) : limit;
+            int rowMin = current[from - 1];
+            char ca = a.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                current[j] = Math.min(value, limit);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < m) {
+                current[to + 1] = limit;
+            }
+            if (rowMin > maxDistance) {
+                return limit;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[m];
+    }
+}
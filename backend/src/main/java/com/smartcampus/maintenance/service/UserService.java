@@ -16,6 +16,7 @@ import com.smartcampus.maintenance.entity.enums.Role;
 import com.smartcampus.maintenance.entity.enums.TechnicianSpecialty;
 import com.smartcampus.maintenance.exception.ConflictException;
 import com.smartcampus.maintenance.exception.ForbiddenException;
+import com.smartcampus.maintenance.exception.NotFoundException;
 import com.smartcampus.maintenance.mapper.UserMapper;
 import com.smartcampus.maintenance.repository.PendingRegistrationRepository;
 import com.smartcampus.maintenance.repository.StaffInviteRepository;
@@ -26,7 +27,6 @@ import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -92,9 +92,12 @@ public class UserService {
 
     @Transactional
     public UserProfileResponse updateMyProfile(User actor, UserProfileUpdateRequest request) {
-        actor.setFullName(request.fullName().trim());
-        User saved = userRepository.save(actor);
-        return toProfile(saved);
+        // Edit the managed row, not the detached principal copy, so stale cached credentials are
+        // never merged back.
+        User user = userRepository.findById(actor.getId())
+                .orElseThrow(() -> new NotFoundException("User not found"));
+        user.setFullName(request.fullName().trim());
+        return toProfile(user);
     }
 
     private long resolveTicketCount(User user) {
@@ -149,21 +152,9 @@ public class UserService {
         String message = request.message().trim();
         BroadcastAudience audience = request.audience() == null ? BroadcastAudience.ALL : request.audience();
 
-        List<User> rawRecipients = switch (audience) {
-            case ALL -> userRepository.findAll();
-            case STUDENTS -> userRepository.findByRole(Role.STUDENT);
-            case STAFF -> Stream.concat(
-                    userRepository.findByRole(Role.ADMIN).stream(),
-                    userRepository.findByRole(Role.MAINTENANCE).stream())
-                    .toList();
-        };
-
-        List<User> recipients = rawRecipients.stream()
-                .filter(user -> user.getId() != null && !user.getId().equals(actor.getId()))
-                .toList();
-
-        notificationDispatchService.notifyUsers(
-                recipients,
+        int recipientCount = notificationDispatchService.notifyAudience(
+                audience,
+                actor.getId(),
                 "Broadcast: " + title,
                 message,
                 NotificationType.ANNOUNCEMENT,
@@ -172,7 +163,7 @@ public class UserService {
         return new BroadcastMessageResponse(
                 title,
                 audience.name(),
-                recipients.size(),
+                recipientCount,
                 LocalDateTime.now());
     }
 
@@ -2,33 +2,107 @@ package com.smartcampus.maintenance.util;
 
 import com.smartcampus.maintenance.exception.BadRequestException;
 import com.smartcampus.maintenance.exception.NotFoundException;
+import com.smartcampus.maintenance.optimization.ImageOptimizationWorker;
 import com.smartcampus.maintenance.optimization.JavaImageOptimizer;
 import com.smartcampus.maintenance.optimization.JavaImageOptimizer.OptimizedImageResult;
+import com.smartcampus.maintenance.optimization.JavaImageOptimizer.ResizedImage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+/**
+ * Stores validated image uploads under the upload directory.
+ *
+ * <p>The original bytes are streamed to disk inside the request. Re-encoding JPEG and PNG uploads
+ * runs later on the {@link ImageOptimizationWorker}, after the surrounding transaction commits, so
+ * a large image no longer holds a database connection while it is decoded. The worker writes the
+ * optimized copy next to the original and swaps it in with an atomic move. Readers always see
+ * either the complete original or the complete optimized file.</p>
+ *
+ * <p>The same background task renders the fixed-size {@link ImageVariant}s next to the original,
+ * scaled from the uploaded bytes before re-encoding. {@link #loadVariant} falls back to the
+ * original while a variant is still pending, when the image already fits the size, and for
+ * formats that are never re-encoded.</p>
+ */
 @Service
 public class FileStorageService {
 
     public record StoredFile(Path path, String filename, String contentType) {
     }
 
+    public enum ImageVariant {
+        THUMBNAIL("thumbnail", 200),
+        MEDIUM("medium", 800),
+        ORIGINAL("original", 0);
+
+        private final String key;
+        private final int maxEdge;
+
+        ImageVariant(String key, int maxEdge) {
+            this.key = key;
+            this.maxEdge = maxEdge;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        /**
+         * Longest edge in pixels, or 0 for the uploaded size.
+         */
+        public int maxEdge() {
+            return maxEdge;
+        }
+
+        /**
+         * Parses a {@code size} query value; a missing value selects the original.
+         */
+        public static ImageVariant fromKey(String value) {
+            if (!StringUtils.hasText(value)) {
+                return ORIGINAL;
+            }
+            for (ImageVariant variant : values()) {
+                if (variant.key.equalsIgnoreCase(value.trim())) {
+                    return variant;
+                }
+            }
+            throw new BadRequestException("Unknown attachment size. Use thumbnail, medium, or original.");
+        }
+    }
+
+    private static final List<ImageVariant> RESIZED_VARIANTS = Arrays.stream(ImageVariant.values())
+            .filter(variant -> variant.maxEdge() > 0)
+            .toList();
+
     private final Path uploadPath;
     private final List<String> allowedContentTypes;
     private final long maxFileSizeBytes;
     private final int minSavingsPercent;
     private final int jpegQuality;
     private final int pngCompressionQuality;
+    private final long maxPixels;
+    private final MeterRegistry meterRegistry;
+    private final ImageOptimizationWorker imageOptimizationWorker;
 
     public FileStorageService(
             String uploadDir,
@@ -37,14 +111,29 @@ public class FileStorageService {
         this(uploadDir, allowedContentTypes, maxFileSizeBytes, 5, 85, 85);
     }
 
+    public FileStorageService(
+            String uploadDir,
+            List<String> allowedContentTypes,
+            long maxFileSizeBytes,
+            int minSavingsPercent,
+            int jpegQuality,
+            int pngCompressionQuality) {
+        this(new SimpleMeterRegistry(), new ImageOptimizationWorker(new SimpleMeterRegistry(), 1, 16), uploadDir,
+                allowedContentTypes, maxFileSizeBytes, minSavingsPercent, jpegQuality, pngCompressionQuality,
+                25_000_000L);
+    }
+
     @Autowired
     public FileStorageService(
+            MeterRegistry meterRegistry,
+            ImageOptimizationWorker imageOptimizationWorker,
             @Value("${app.upload.dir:uploads}") String uploadDir,
             @Value("${app.upload.allowed-content-types:image/jpeg,image/png,image/webp}") List<String> allowedContentTypes,
             @Value("${app.upload.max-file-size-bytes:5242880}") long maxFileSizeBytes,
             @Value("${app.image.optimization.min-savings-percent:5}") int minSavingsPercent,
             @Value("${app.image.optimization.jpeg-quality:85}") int jpegQuality,
-            @Value("${app.image.optimization.png-compression-quality:85}") int pngCompressionQuality) {
+            @Value("${app.image.optimization.png-compression-quality:85}") int pngCompressionQuality,
+            @Value("${app.image.optimization.max-pixels:25000000}") long maxPixels) {
         this.uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
         this.allowedContentTypes = allowedContentTypes == null ? List.of() : allowedContentTypes.stream()
                 .map(value -> value == null ? "" : value.trim().toLowerCase())
@@ -55,6 +144,9 @@ public class FileStorageService {
         this.minSavingsPercent = Math.max(1, minSavingsPercent);
         this.jpegQuality = clampQuality(jpegQuality);
         this.pngCompressionQuality = clampQuality(pngCompressionQuality);
+        this.maxPixels = Math.max(1, maxPixels);
+        this.meterRegistry = meterRegistry;
+        this.imageOptimizationWorker = imageOptimizationWorker;
         try {
             Files.createDirectories(this.uploadPath);
         } catch (IOException ex) {
@@ -74,17 +166,23 @@ public class FileStorageService {
         String filename = UUID.randomUUID() + extension;
         Path target = uploadPath.resolve(filename);
 
-        byte[] payload = readBytes(file);
-        byte[] bytesToStore = maybeOptimizeImage(payload, normalizedContentType);
-
-        try {
-            Files.write(target, bytesToStore);
+        try (InputStream input = file.getInputStream()) {
+            Files.copy(input, target);
         } catch (IOException ex) {
             throw new BadRequestException("Failed to store file");
         }
+        scheduleOptimization(filename, normalizedContentType);
         return filename;
     }
 
+    /**
+     * Background optimization state of a stored upload, or empty for formats that are never
+     * re-encoded and files this instance has not handled recently.
+     */
+    public Optional<ImageOptimizationWorker.State> optimizationState(String storedPath) {
+        return imageOptimizationWorker.state(canonicalStoredReference(storedPath));
+    }
+
     public String canonicalStoredReference(String storedPath) {
         if (!StringUtils.hasText(storedPath)) {
             return null;
@@ -114,6 +212,23 @@ public class FileStorageService {
         return new StoredFile(target, filename, detectContentType(target, filename));
     }
 
+    /**
+     * Loads the rendered {@code variant} of a stored upload, or the original when that variant
+     * does not exist.
+     */
+    public StoredFile loadVariant(String storedPath, ImageVariant variant) {
+        StoredFile original = load(storedPath);
+        if (variant == null || variant == ImageVariant.ORIGINAL) {
+            return original;
+        }
+        String variantName = variantFilename(original.filename(), variant);
+        Path target = uploadPath.resolve(variantName);
+        if (!Files.isRegularFile(target)) {
+            return original;
+        }
+        return new StoredFile(target, variantName, original.contentType());
+    }
+
     private void validateImage(MultipartFile file) {
         if (maxFileSizeBytes > 0 && file.getSize() > maxFileSizeBytes) {
             throw new BadRequestException("File exceeds the maximum allowed size.");
@@ -128,6 +243,95 @@ public class FileStorageService {
         }
     }
 
+    /**
+     * Queues the re-encode once the surrounding transaction commits, so uploads of a rolled-back
+     * ticket are never decoded.
+     */
+    private void scheduleOptimization(String filename, String contentType) {
+        if (!isOptimizable(contentType)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    imageOptimizationWorker.submit(filename, () -> processStoredFile(filename, contentType));
+                }
+            });
+            return;
+        }
+        imageOptimizationWorker.submit(filename, () -> processStoredFile(filename, contentType));
+    }
+
+    private ImageOptimizationWorker.State processStoredFile(String filename, String contentType) throws IOException {
+        Path target = uploadPath.resolve(filename);
+        if (!Files.isRegularFile(target)) {
+            return ImageOptimizationWorker.State.SKIPPED;
+        }
+        byte[] original = Files.readAllBytes(target);
+        // Decoding allocates four bytes per pixel regardless of the compressed size.
+        if (JavaImageOptimizer.pixelCount(original).map(pixels -> pixels > maxPixels).orElse(true)) {
+            return ImageOptimizationWorker.State.SKIPPED;
+        }
+        writeVariants(filename, original, contentType);
+        byte[] optimized = maybeOptimizeImage(original, contentType);
+        if (optimized == original) {
+            return ImageOptimizationWorker.State.UNCHANGED;
+        }
+        replaceAtomically(target, optimized);
+        return ImageOptimizationWorker.State.OPTIMIZED;
+    }
+
+    private void writeVariants(String filename, byte[] original, String contentType) throws IOException {
+        long started = System.nanoTime();
+        List<ResizedImage> resized = JavaImageOptimizer.resize(
+                contentType,
+                original,
+                RESIZED_VARIANTS.stream().map(ImageVariant::maxEdge).toList(),
+                jpegQuality,
+                pngCompressionQuality);
+        for (ResizedImage image : resized) {
+            ImageVariant variant = RESIZED_VARIANTS.stream()
+                    .filter(candidate -> candidate.maxEdge() == image.maxEdge())
+                    .findFirst()
+                    .orElseThrow();
+            replaceAtomically(uploadPath.resolve(variantFilename(filename, variant)), image.bytes());
+        }
+        Timer.builder("image.variants")
+                .description("Time spent rendering the resized variants of an uploaded image, by content type")
+                .tag("content.type", contentType)
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    private void replaceAtomically(Path target, byte[] bytes) throws IOException {
+        Path staging = target.resolveSibling("." + target.getFileName() + ".partial");
+        try {
+            Files.write(staging, bytes);
+            try {
+                Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(staging, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(staging);
+        }
+    }
+
+    private static String variantFilename(String filename, ImageVariant variant) {
+        int dot = filename.lastIndexOf('.');
+        return dot < 0
+                ? filename + "-" + variant.key()
+                : filename.substring(0, dot) + "-" + variant.key() + filename.substring(dot);
+    }
+
+    private static boolean isOptimizable(String contentType) {
+        return switch (contentType) {
+            case "image/jpeg", "image/jpg", "image/png" -> true;
+            default -> false;
+        };
+    }
+
     private String resolveExtension(String contentType) {
         return switch (normalizeContentType(contentType)) {
             case "image/jpeg", "image/jpg" -> ".jpg";
@@ -144,8 +348,13 @@ public class FileStorageService {
         return contentType.trim().toLowerCase();
     }
 
+    /**
+     * Times every optimization attempt by content type and outcome, and records the bytes saved
+     * when the optimized copy is the one stored.
+     */
     private byte[] maybeOptimizeImage(byte[] originalBytes, String contentType) {
-        return JavaImageOptimizer.optimize(
+        long started = System.nanoTime();
+        byte[] stored = JavaImageOptimizer.optimize(
                         contentType,
                         originalBytes,
                         minSavingsPercent,
@@ -154,6 +363,22 @@ public class FileStorageService {
                 .filter(result -> isOptimizationUsable(result, contentType, originalBytes.length))
                 .map(OptimizedImageResult::bytes)
                 .orElse(originalBytes);
+        boolean optimized = stored != originalBytes;
+        Timer.builder("image.optimization")
+                .description("Time spent optimizing an uploaded image, by content type and outcome")
+                .tag("content.type", contentType)
+                .tag("outcome", optimized ? "optimized" : "original")
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        if (optimized) {
+            DistributionSummary.builder("image.optimization.saved")
+                    .description("Bytes saved per optimized upload, by content type")
+                    .baseUnit("bytes")
+                    .tag("content.type", contentType)
+                    .register(meterRegistry)
+                    .record(originalBytes.length - stored.length);
+        }
+        return stored;
     }
 
     private boolean isOptimizationUsable(OptimizedImageResult result, String expectedContentType, int originalSize) {
@@ -180,14 +405,6 @@ public class FileStorageService {
         return savingsPercent >= minSavingsPercent;
     }
 
-    private byte[] readBytes(MultipartFile file) {
-        try {
-            return file.getBytes();
-        } catch (IOException ex) {
-            throw new BadRequestException("Failed to read uploaded file.");
-        }
-    }
-
     private int clampQuality(int quality) {
         return Math.max(1, Math.min(100, quality));
     }
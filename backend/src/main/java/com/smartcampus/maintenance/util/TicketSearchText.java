@@ -0,0 +1,60 @@
+package com.smartcampus.maintenance.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.springframework.util.StringUtils;
+
+/**
+ * Builds the {@code tickets.search_text} document and turns free-text input into the arguments
+ * of the {@code ticket_text_match} SQL function.
+ */
+public final class TicketSearchText {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TERMS = 8;
+
+    private TicketSearchText() {
+    }
+
+    /**
+     * Every term must appear; each matches as a word prefix in MySQL and as a substring in H2.
+     */
+    public record Query(List<String> terms) {
+
+        /** MySQL boolean-mode query: every term required, prefix-matched. */
+        public String booleanMode() {
+            return terms.stream().map(term -> "+" + term + "*").collect(Collectors.joining(" "));
+        }
+
+        /** Java regex (H2 {@code regexp_like}) requiring every term somewhere in the document. */
+        public String pattern() {
+            return terms.stream().map(term -> "(?=.*" + term + ")").collect(Collectors.joining("", "(?s)^", ""));
+        }
+    }
+
+    public static Optional<Query> parse(String raw) {
+        if (!StringUtils.hasText(raw)) {
+            return Optional.empty();
+        }
+        List<String> terms = Arrays.stream(NON_WORD.split(raw.toLowerCase(Locale.ROOT)))
+                .filter(StringUtils::hasText)
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+        return terms.isEmpty() ? Optional.empty() : Optional.of(new Query(terms));
+    }
+
+    public static String document(String... parts) {
+        return Arrays.stream(parts)
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .collect(Collectors.joining(" "))
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,14 @@
+-- Incrementally maintained ticket counters for the admin analytics endpoints.
+-- Rows are keyed by (dimension, group_key); TicketStatsRollupService applies deltas
+-- in the same transaction as each ticket write and rebuilds the table on startup drift.
+create table if not exists ticket_stat_rollups (
+    id                 bigint auto_increment primary key,
+    dimension          varchar(20)  not null,
+    group_key          varchar(160) not null,
+    ticket_count       bigint       not null default 0,
+    resolved_count     bigint       not null default 0,
+    resolution_minutes bigint       not null default 0,
+    updated_at         datetime(6)  not null
+);
+
+create unique index ux_ticket_stat_rollups_dimension_key on ticket_stat_rollups (dimension, group_key);
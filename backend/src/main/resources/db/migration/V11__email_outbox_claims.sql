@@ -0,0 +1,7 @@
+-- Lease columns so several backend instances can drain the email outbox without
+-- sending the same message twice. A row is owned by claimed_by until claim_expires_at;
+-- an expired lease (crashed pod) makes the row claimable again.
+alter table email_outbox add column claimed_by varchar(100) null;
+alter table email_outbox add column claim_expires_at datetime(6) null;
+
+create index idx_email_outbox_status_next_attempt on email_outbox (status, next_attempt_at);
@@ -0,0 +1,6 @@
+-- Absolute SLA deadline per ticket (created_at + SLA hours for the current urgency) so the
+-- escalation engine can find due tickets with an index range scan instead of a full scan.
+-- Existing rows are backfilled on startup by SlaService.backfillDeadlines.
+alter table tickets add column sla_deadline_at datetime(6) null;
+
+create index idx_tickets_sla_deadline_at on tickets (sla_deadline_at);
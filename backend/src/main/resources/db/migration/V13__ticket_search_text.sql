@@ -0,0 +1,4 @@
+-- Lower-cased search document per ticket (title, description, location, building and request
+-- type label) so text search reads one column instead of OR-ing LIKEs across three tables.
+-- Existing rows are backfilled on startup by TicketSearchService.backfillSearchText.
+alter table tickets add column search_text longtext null;
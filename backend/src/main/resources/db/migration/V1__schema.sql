@@ -1,4 +1,4 @@
-~-- ============================================================
+-- ============================================================
 --  CampusFix — Complete Database Schema
 --  Flyway managed. Run via Spring Boot on first startup.
 -- ============================================================
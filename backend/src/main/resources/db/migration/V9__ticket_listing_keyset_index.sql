@@ -0,0 +1,2 @@
+-- Seek index for the paginated admin ticket listing (ORDER BY created_at DESC, id DESC).
+create index idx_tickets_created_at_id on tickets (created_at, id);
@@ -4,25 +4,40 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smartcampus.maintenance.entity.Ticket;
 import com.smartcampus.maintenance.entity.enums.TicketStatus;
+import com.smartcampus.maintenance.entity.enums.UrgencyLevel;
 import com.smartcampus.maintenance.repository.TicketRepository;
+import com.smartcampus.maintenance.service.EscalationScheduler;
 import com.smartcampus.maintenance.service.RefreshCookieService;
+import com.smartcampus.maintenance.service.SlaDeadlineQueue;
 import com.smartcampus.maintenance.service.TicketAttachmentAccessService;
 import com.smartcampus.maintenance.service.TicketAttachmentAccessService.AttachmentType;
 import com.smartcampus.maintenance.util.FileStorageService;
 import jakarta.servlet.http.Cookie;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -32,6 +47,12 @@ class ApiFlowIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -47,6 +68,14 @@ class ApiFlowIntegrationTest {
     @Autowired
     private TicketAttachmentAccessService ticketAttachmentAccessService;
 
+    @Autowired
+    private SlaDeadlineQueue slaDeadlineQueue;
+
+    @Autowired
+    private EscalationScheduler escalationScheduler;
+
+    private static final Map<String, String> ACCESS_TOKENS = new ConcurrentHashMap<>();
+
     private static final byte[] PNG_BYTES = new byte[] {
         (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0x00, 0x00, 0x00, 0x0D
     };
@@ -129,6 +158,19 @@ class ApiFlowIntegrationTest {
             .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    void notificationStreamRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/api/notifications/stream"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void notificationStreamOpensForAuthenticatedUser() throws Exception {
+        mockMvc.perform(get("/api/notifications/stream")
+                .header("Authorization", "Bearer " + tokenFor("student1", "password")))
+            .andExpect(request().asyncStarted());
+    }
+
     @Test
     void studentCannotAccessAdminTicketListing() throws Exception {
         String studentToken = tokenFor("student1", "password");
@@ -137,6 +179,125 @@ class ApiFlowIntegrationTest {
             .andExpect(status().isForbidden());
     }
 
+    @Test
+    void adminTicketPageWalksCursorWithoutOverlap() throws Exception {
+        String adminToken = tokenFor("admin", "password");
+
+        JsonNode firstPage = objectMapper.readTree(mockMvc.perform(get("/api/tickets/page")
+                .param("limit", "3")
+                .header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString());
+        assertThat(firstPage.get("items")).hasSize(3);
+        assertThat(firstPage.get("hasMore").asBoolean()).isTrue();
+
+        JsonNode secondPage = objectMapper.readTree(mockMvc.perform(get("/api/tickets/page")
+                .param("limit", "3")
+                .param("cursor", firstPage.get("nextCursor").asText())
+                .header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString());
+        Set<Long> firstIds = new HashSet<>();
+        firstPage.get("items").forEach(item -> firstIds.add(item.get("id").asLong()));
+        assertThat(secondPage.get("items")).isNotEmpty()
+            .allSatisfy(item -> assertThat(firstIds).doesNotContain(item.get("id").asLong()));
+    }
+
+    @Test
+    void adminTicketPageRejectsMalformedCursor() throws Exception {
+        String adminToken = tokenFor("admin", "password");
+        mockMvc.perform(get("/api/tickets/page")
+                .param("cursor", "not-a-cursor")
+                .header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void analyticsSummaryCountsNewTicketsFromRollups() throws Exception {
+        String adminToken = tokenFor("admin", "password");
+        String studentToken = tokenFor("student1", "password");
+        long totalBefore = analyticsSummary(adminToken).get("totalTickets").asLong();
+        Ticket template = ticketRepository.findAll().stream().findFirst().orElseThrow();
+
+        mockMvc.perform(post("/api/tickets")
+                .header("Authorization", "Bearer " + studentToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"title":"Flickering hallway light","description":"The hallway light keeps flickering.",
+                     "requestTypeId":%d,"buildingId":%d,"location":"Floor 2","urgency":"LOW"}
+                    """.formatted(template.getRequestType().getId(), template.getBuildingRecord().getId())))
+            .andExpect(status().isCreated());
+
+        JsonNode summary = analyticsSummary(adminToken);
+        assertThat(summary.get("totalTickets").asLong()).isEqualTo(totalBefore + 1);
+        long statusTotal = 0;
+        for (JsonNode count : summary.get("byStatus")) {
+            statusTotal += count.asLong();
+        }
+        assertThat(statusTotal).isEqualTo(totalBefore + 1);
+    }
+
+    @Test
+    void overdueTicketEscalatesOnTheNextDeadlineTick() throws Exception {
+        String studentToken = tokenFor("student1", "password");
+        Ticket template = ticketRepository.findAll().stream().findFirst().orElseThrow();
+
+        MvcResult created = mockMvc.perform(post("/api/tickets")
+                .header("Authorization", "Bearer " + studentToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"title":"Dripping tap","description":"The tap in the kitchenette drips constantly.",
+                     "requestTypeId":%d,"buildingId":%d,"location":"Floor 1","urgency":"LOW"}
+                    """.formatted(template.getRequestType().getId(), template.getBuildingRecord().getId())))
+            .andExpect(status().isCreated())
+            .andReturn();
+        long ticketId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        Ticket ticket = ticketRepository.findById(ticketId).orElseThrow();
+        assertThat(ticket.getSlaDeadlineAt()).isEqualTo(ticket.getCreatedAt().plusHours(168));
+
+        LocalDateTime overdue = LocalDateTime.now().minusMinutes(1);
+        ticket.setSlaDeadlineAt(overdue);
+        ticketRepository.save(ticket);
+        slaDeadlineQueue.schedule(ticketId, overdue);
+        escalationScheduler.fireDueDeadlines();
+
+        Ticket escalated = ticketRepository.findById(ticketId).orElseThrow();
+        assertThat(escalated.getUrgency()).isEqualTo(UrgencyLevel.MEDIUM);
+        assertThat(escalated.getSlaDeadlineAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    void csvExportStreamsOnlyMatchingTickets() throws Exception {
+        mockMvc.perform(get("/api/analytics/export/csv")
+                .header("Authorization", "Bearer " + tokenFor("student1", "password")))
+            .andExpect(status().isForbidden());
+
+        Ticket ticket = prepareApprovedTicket();
+        String adminToken = tokenFor("admin", "password");
+        String today = LocalDate.now().toString();
+        MvcResult started = mockMvc.perform(get("/api/analytics/export/csv")
+                .header("Authorization", "Bearer " + adminToken)
+                .param("status", "APPROVED")
+                .param("to", today))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String csv = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = csv.lines().toList();
+        assertThat(lines.getFirst()).startsWith("ID,Title,Category");
+        assertThat(lines).anySatisfy(line -> assertThat(line).startsWith(ticket.getId() + ","));
+        assertThat(lines.subList(1, lines.size())).allSatisfy(line -> assertThat(line).contains(",APPROVED,"));
+
+        mockMvc.perform(get("/api/analytics/export/csv")
+                .header("Authorization", "Bearer " + adminToken)
+                .param("from", today)
+                .param("to", LocalDate.now().minusDays(1).toString()))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void maintenanceCanAccessAssignedTickets() throws Exception {
         String maintenanceToken = tokenFor("maintenance1", "password");
@@ -162,6 +323,68 @@ class ApiFlowIntegrationTest {
         assertThat(json.get(0).get("reasons").isArray()).isTrue();
     }
 
+    @Test
+    void workloadIndexConsistencyIsAdminOnly() throws Exception {
+        mockMvc.perform(get("/api/tickets/workload-index/consistency")
+                .header("Authorization", "Bearer " + tokenFor("student1", "password")))
+            .andExpect(status().isForbidden());
+
+        MvcResult result = mockMvc.perform(get("/api/tickets/workload-index/consistency")
+                .header("Authorization", "Bearer " + tokenFor("admin", "password")))
+            .andExpect(status().isOk())
+            .andReturn();
+        JsonNode json = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(json.get("ready").asBoolean()).isTrue();
+        assertThat(json.get("driftingTechnicianIds").isArray()).isTrue();
+    }
+
+    @Test
+    void profileEditDoesNotWriteBackCachedCredentials() throws Exception {
+        String studentToken = tokenFor("student2", "password");
+        mockMvc.perform(get("/api/users/me").header("Authorization", "Bearer " + studentToken))
+            .andExpect(status().isOk());
+
+        // Another instance changes the password; this instance's principal cache does not see it.
+        String rotatedHash = passwordEncoder.encode("password");
+        jdbcTemplate.update("update users set password_hash = ? where username = ?", rotatedHash, "student2");
+
+        mockMvc.perform(patch("/api/users/me")
+                .header("Authorization", "Bearer " + studentToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"fullName":"Jordan Student"}
+                    """))
+            .andExpect(status().isOk());
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select password_hash from users where username = ?", String.class, "student2"))
+            .isEqualTo(rotatedHash);
+    }
+
+    @Test
+    void staffBroadcastIsDeliveredToEveryRecipient() throws Exception {
+        String adminToken = tokenFor("admin", "password");
+        String maintenanceToken = tokenFor("maintenance1", "password");
+
+        MvcResult result = mockMvc.perform(post("/api/users/broadcast")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"title":"Water shutoff","message":"Water is off in the east wing tonight.","audience":"STAFF"}
+                    """))
+            .andExpect(status().isOk())
+            .andReturn();
+        assertThat(objectMapper.readTree(result.getResponse().getContentAsString()).get("recipientCount").asInt())
+            .isPositive();
+
+        JsonNode notifications = objectMapper.readTree(mockMvc.perform(get("/api/notifications")
+                .header("Authorization", "Bearer " + maintenanceToken))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString());
+        assertThat(notifications).anySatisfy(notification ->
+            assertThat(notification.get("title").asText()).isEqualTo("Broadcast: Water shutoff"));
+    }
+
     @Test
     void attachmentEndpointRejectsUnsignedRequests() throws Exception {
         Ticket ticket = prepareTicketWithImage();
@@ -178,9 +401,175 @@ class ApiFlowIntegrationTest {
         mockMvc.perform(get(signedUrl))
             .andExpect(status().isOk())
             .andExpect(result -> assertThat(result.getResponse().getContentType()).startsWith("image/png"));
+        mockMvc.perform(get(signedUrl + "&size=thumbnail"))
+            .andExpect(status().isOk())
+            .andExpect(result -> assertThat(result.getResponse().getContentType()).startsWith("image/png"));
+        mockMvc.perform(get(signedUrl + "&size=poster"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void ticketListsCarryImageFlagsAndUrlsAreSignedOnDemand() throws Exception {
+        Ticket ticket = prepareTicketWithImage();
+        String adminToken = tokenFor("admin", "password");
+
+        MvcResult listResult = mockMvc.perform(get("/api/tickets")
+                .header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isOk())
+            .andReturn();
+        JsonNode listed = null;
+        for (JsonNode row : objectMapper.readTree(listResult.getResponse().getContentAsString())) {
+            if (row.get("id").asLong() == ticket.getId()) {
+                listed = row;
+            }
+        }
+        assertThat(listed).isNotNull();
+        assertThat(listed.get("hasImage").asBoolean()).isTrue();
+        assertThat(listed.get("imageUrl").isNull()).isTrue();
+
+        MvcResult signResult = mockMvc.perform(post("/api/tickets/attachment-urls")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"ticketIds":[%d, 987654321]}
+                    """.formatted(ticket.getId())))
+            .andExpect(status().isOk())
+            .andReturn();
+        JsonNode signed = objectMapper.readTree(signResult.getResponse().getContentAsString());
+        assertThat(signed).hasSize(1);
+        assertThat(signed.get(0).get("ticketId").asLong()).isEqualTo(ticket.getId());
+
+        mockMvc.perform(get(signed.get(0).get("imageUrl").asText()))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void adminSearchFindsTicketsByEveryWordAndStaysAdminOnly() throws Exception {
+        String studentToken = tokenFor("student1", "password");
+        Ticket template = ticketRepository.findAll().stream().findFirst().orElseThrow();
+        MvcResult created = mockMvc.perform(post("/api/tickets")
+                .header("Authorization", "Bearer " + studentToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"title":"Squeaky turnstile","description":"The lobby turnstile squeaks loudly.",
+                     "requestTypeId":%d,"buildingId":%d,"location":"Ground floor","urgency":"LOW"}
+                    """.formatted(template.getRequestType().getId(), template.getBuildingRecord().getId())))
+            .andExpect(status().isCreated())
+            .andReturn();
+        long ticketId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(get("/api/tickets/search")
+                .param("q", "turnstile")
+                .header("Authorization", "Bearer " + studentToken))
+            .andExpect(status().isForbidden());
+
+        String adminToken = tokenFor("admin", "password");
+        JsonNode found = objectMapper.readTree(mockMvc.perform(get("/api/tickets/search")
+                .param("q", "Lobby, TURNSTILE!")
+                .header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString());
+        assertThat(found.get("items")).hasSize(1);
+        assertThat(found.get("items").get(0).get("id").asLong()).isEqualTo(ticketId);
+        assertThat(found.get("hasMore").asBoolean()).isFalse();
+
+        JsonNode none = objectMapper.readTree(mockMvc.perform(get("/api/tickets/search")
+                .param("q", "turnstile elevator")
+                .header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString());
+        assertThat(none.get("items")).isEmpty();
+
+        JsonNode listed = objectMapper.readTree(mockMvc.perform(get("/api/tickets")
+                .param("search", "turnstile")
+                .header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString());
+        assertThat(listed).hasSize(1);
+        assertThat(listed.get(0).get("id").asLong()).isEqualTo(ticketId);
+    }
+
+    @Test
+    void renamingABuildingRefreshesTicketSearchDocuments() throws Exception {
+        String adminToken = tokenFor("admin", "password");
+        Ticket template = ticketRepository.findAll().stream().findFirst().orElseThrow();
+        long buildingId = template.getBuildingRecord().getId();
+        MvcResult created = mockMvc.perform(post("/api/tickets")
+                .header("Authorization", "Bearer " + tokenFor("student1", "password"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"title":"Creaky gate","description":"The side gate creaks when opened.",
+                     "requestTypeId":%d,"buildingId":%d,"location":"Courtyard","urgency":"LOW"}
+                    """.formatted(template.getRequestType().getId(), buildingId)))
+            .andExpect(status().isCreated())
+            .andReturn();
+        long ticketId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        Map<String, Object> building = jdbcTemplate.queryForMap(
+            "select name, code, floors, active, sort_order from buildings where id = ?", buildingId);
+
+        try {
+            renameBuilding(adminToken, buildingId, building, "Zephyrine Hall");
+
+            JsonNode found = objectMapper.readTree(mockMvc.perform(get("/api/tickets/search")
+                    .param("q", "zephyrine gate")
+                    .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+            assertThat(found.get("items")).hasSize(1);
+            assertThat(found.get("items").get(0).get("id").asLong()).isEqualTo(ticketId);
+        } finally {
+            renameBuilding(adminToken, buildingId, building, (String) building.get("NAME"));
+        }
+    }
+
+    private void renameBuilding(String adminToken, long buildingId, Map<String, Object> building, String name)
+            throws Exception {
+        mockMvc.perform(patch("/api/buildings/%d".formatted(buildingId))
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of(
+                    "name", name,
+                    "code", building.get("CODE"),
+                    "floors", building.get("FLOORS"),
+                    "active", building.get("ACTIVE"),
+                    "sortOrder", building.get("SORT_ORDER")))))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void ticketSideEffectsAreDeliveredAfterCommit() throws Exception {
+        String studentToken = tokenFor("student1", "password");
+        Ticket template = ticketRepository.findAll().stream().findFirst().orElseThrow();
+        MvcResult created = mockMvc.perform(post("/api/tickets")
+                .header("Authorization", "Bearer " + studentToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"title":"Cracked stair tread","description":"A stair tread near the entrance is cracked.",
+                     "requestTypeId":%d,"buildingId":%d,"location":"Main stairs","urgency":"LOW"}
+                    """.formatted(template.getRequestType().getId(), template.getBuildingRecord().getId())))
+            .andExpect(status().isCreated())
+            .andReturn();
+        long ticketId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(post("/api/tickets/" + ticketId + "/comments")
+                .header("Authorization", "Bearer " + studentToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"content":"It is getting worse."}
+                    """))
+            .andExpect(status().isCreated());
+
+        String adminToken = tokenFor("admin", "password");
+        awaitNotification(adminToken, "New ticket #" + ticketId);
+        awaitNotification(adminToken, "New comment on ticket #" + ticketId);
     }
 
     private String tokenFor(String username, String password) throws Exception {
+        // Reuse one access token per account so the suite stays under the login rate limit.
+        String cached = ACCESS_TOKENS.get(username);
+        if (cached != null) {
+            return cached;
+        }
         MvcResult result = mockMvc.perform(post("/api/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("""
@@ -189,7 +578,34 @@ class ApiFlowIntegrationTest {
             .andExpect(status().isOk())
             .andReturn();
         JsonNode json = objectMapper.readTree(result.getResponse().getContentAsString());
-        return json.get("accessToken").asText();
+        String token = json.get("accessToken").asText();
+        ACCESS_TOKENS.put(username, token);
+        return token;
+    }
+
+    private void awaitNotification(String token, String title) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            JsonNode notifications = objectMapper.readTree(mockMvc.perform(get("/api/notifications")
+                    .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+            for (JsonNode notification : notifications) {
+                if (notification.get("title").asText().equals(title)) {
+                    return;
+                }
+            }
+            assertThat(System.currentTimeMillis()).as("notification \"%s\"", title).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private JsonNode analyticsSummary(String adminToken) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/analytics/summary")
+                .header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isOk())
+            .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
     }
 
     private String refreshCookieValue(MvcResult result) {
@@ -14,6 +14,7 @@ import com.smartcampus.maintenance.repository.EmailOutboxRepository;
 import com.smartcampus.maintenance.repository.PasswordResetTokenRepository;
 import com.smartcampus.maintenance.repository.PendingRegistrationRepository;
 import com.smartcampus.maintenance.repository.UserRepository;
+import com.smartcampus.maintenance.security.AccessTokenClaims;
 import com.smartcampus.maintenance.security.CustomUserDetailsService;
 import com.smartcampus.maintenance.security.JwtService;
 import com.smartcampus.maintenance.service.AuthService;
@@ -155,6 +156,21 @@ class AuthSecurityServiceIntegrationTest {
         assertThat(jwtService.isTokenValid(oldJwt, updatedUserDetails)).isFalse();
     }
 
+    @Test
+    void claimsFastPathSeesTokenVersionBumpsWithoutWaitingForTheTtl() {
+        User user = createUser(true, "Password#123");
+        AccessTokenClaims claims = jwtService.parseAccessToken(jwtService.generateToken(user));
+        assertThat(claims.carriesPrincipal()).isTrue();
+        assertThat(claims.userId()).isEqualTo(user.getId());
+        assertThat(claims.role()).isEqualTo(Role.STUDENT);
+        assertThat(customUserDetailsService.currentTokenVersion(user.getId())).contains(claims.tokenVersion());
+
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        userRepository.save(user);
+
+        assertThat(customUserDetailsService.currentTokenVersion(user.getId())).contains(claims.tokenVersion() + 1);
+    }
+
     private RegisterRequest pendingRegistrationRequest() {
         String suffix = UUID.randomUUID().toString().substring(0, 8);
         return new RegisterRequest(
@@ -0,0 +1,209 @@
+package com.smartcampus.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartcampus.maintenance.entity.EmailOutbox;
+import com.smartcampus.maintenance.entity.enums.EmailOutboxStatus;
+import com.smartcampus.maintenance.repository.EmailOutboxRepository;
+import com.smartcampus.maintenance.service.EmailOutboxService;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest(properties = {
+        "app.email.enabled=true",
+        "app.email.outbox.batch-size=5",
+        "app.email.outbox.worker-threads=3",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false"
+})
+class EmailOutboxDeliveryIntegrationTest {
+
+    private static final int WORKER_THREADS = 3;
+    private static final FakeSmtpServer SMTP_SERVER = FakeSmtpServer.start();
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @DynamicPropertySource
+    static void smtpProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.mail.host", () -> "localhost");
+        registry.add("spring.mail.port", SMTP_SERVER::port);
+    }
+
+    @AfterAll
+    static void stopSmtpServer() {
+        SMTP_SERVER.stop();
+    }
+
+    @Test
+    void workersDrainTheOutboxOverReusedSmtpConnections() {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < 12; i++) {
+            emailOutboxService.enqueue(
+                    "outbox_" + runId + "_" + i + "@example.com",
+                    "Outbox delivery " + i,
+                    "Plain body " + i,
+                    i % 2 == 0 ? "<p>Html body " + i + "</p>" : null);
+        }
+
+        emailOutboxService.processPendingBatch();
+
+        List<EmailOutbox> queued = emailOutboxRepository.findAll().stream()
+                .filter(message -> message.getToEmail().startsWith("outbox_" + runId))
+                .toList();
+        assertThat(queued).hasSize(12);
+        assertThat(queued).allSatisfy(message -> {
+            assertThat(message.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+            assertThat(message.getAttemptCount()).isEqualTo(1);
+        });
+        assertThat(SMTP_SERVER.messages()).isGreaterThanOrEqualTo(12);
+        assertThat(SMTP_SERVER.connections()).isBetween(1, WORKER_THREADS);
+    }
+
+    @Test
+    void messagesLeasedByAnotherInstanceAreSkippedUntilTheLeaseExpires() {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        emailOutboxService.enqueue("leased_" + runId + "@example.com", "Leased", "Leased body", null);
+        emailOutboxService.enqueue("expired_" + runId + "@example.com", "Expired lease", "Expired body", null);
+        EmailOutbox leased = messageFor("leased_" + runId + "@example.com");
+        leased.setClaimedBy("other-pod");
+        leased.setClaimExpiresAt(LocalDateTime.now().plusMinutes(5));
+        emailOutboxRepository.save(leased);
+        EmailOutbox expired = messageFor("expired_" + runId + "@example.com");
+        expired.setClaimedBy("crashed-pod");
+        expired.setClaimExpiresAt(LocalDateTime.now().minusMinutes(1));
+        emailOutboxRepository.save(expired);
+
+        emailOutboxService.processPendingBatch();
+
+        EmailOutbox stillLeased = messageFor("leased_" + runId + "@example.com");
+        assertThat(stillLeased.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(stillLeased.getAttemptCount()).isZero();
+        assertThat(stillLeased.getClaimedBy()).isEqualTo("other-pod");
+        EmailOutbox reclaimed = messageFor("expired_" + runId + "@example.com");
+        assertThat(reclaimed.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(reclaimed.getClaimedBy()).isNull();
+        assertThat(reclaimed.getClaimExpiresAt()).isNull();
+    }
+
+    private EmailOutbox messageFor(String email) {
+        return emailOutboxRepository.findAll().stream()
+                .filter(message -> message.getToEmail().equals(email))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * Just enough SMTP to accept unauthenticated, plaintext mail and count sessions and messages.
+     */
+    private static final class FakeSmtpServer {
+
+        private final ServerSocket serverSocket;
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger messages = new AtomicInteger();
+
+        private FakeSmtpServer(ServerSocket serverSocket) {
+            this.serverSocket = serverSocket;
+        }
+
+        static FakeSmtpServer start() {
+            try {
+                FakeSmtpServer server = new FakeSmtpServer(new ServerSocket(0));
+                Thread acceptor = new Thread(server::acceptLoop, "fake-smtp-acceptor");
+                acceptor.setDaemon(true);
+                acceptor.start();
+                return server;
+            } catch (IOException ex) {
+                throw new IllegalStateException("Unable to start fake SMTP server", ex);
+            }
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        int connections() {
+            return connections.get();
+        }
+
+        int messages() {
+            return messages.get();
+        }
+
+        void stop() {
+            try {
+                serverSocket.close();
+            } catch (IOException ignored) {
+                // Shutting down anyway.
+            }
+        }
+
+        private void acceptLoop() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    connections.incrementAndGet();
+                    Thread session = new Thread(() -> handle(socket), "fake-smtp-session");
+                    session.setDaemon(true);
+                    session.start();
+                } catch (IOException ex) {
+                    return;
+                }
+            }
+        }
+
+        private void handle(Socket socket) {
+            try (socket;
+                    BufferedReader in = new BufferedReader(
+                            new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                    OutputStream out = socket.getOutputStream()) {
+                reply(out, "220 localhost fake SMTP ready");
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.toUpperCase(Locale.ROOT);
+                    if (command.startsWith("EHLO")) {
+                        reply(out, "250-localhost\r\n250 8BITMIME");
+                    } else if (command.startsWith("DATA")) {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // Message content is not inspected.
+                        }
+                        messages.incrementAndGet();
+                        reply(out, "250 OK queued");
+                    } else if (command.startsWith("QUIT")) {
+                        reply(out, "221 Bye");
+                        return;
+                    } else {
+                        reply(out, "250 OK");
+                    }
+                }
+            } catch (IOException ignored) {
+                // Client went away.
+            }
+        }
+
+        private void reply(OutputStream out, String response) throws IOException {
+            out.write((response + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+    }
+}
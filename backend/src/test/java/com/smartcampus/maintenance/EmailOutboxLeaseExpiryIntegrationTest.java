@@ -0,0 +1,77 @@
+package com.smartcampus.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.smartcampus.maintenance.entity.EmailOutbox;
+import com.smartcampus.maintenance.entity.enums.EmailOutboxStatus;
+import com.smartcampus.maintenance.repository.EmailOutboxRepository;
+import com.smartcampus.maintenance.service.EmailDeliveryService;
+import com.smartcampus.maintenance.service.EmailOutboxService;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = {
+        "app.email.enabled=true",
+        "app.email.outbox.batch-size=50",
+        "app.email.outbox.worker-threads=1",
+        "app.email.outbox.claim-owner=lease-test-pod"
+})
+class EmailOutboxLeaseExpiryIntegrationTest {
+
+    @MockitoBean
+    private EmailDeliveryService emailDeliveryService;
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void messageWhoseLeaseExpiresBeforeItsTurnIsNotSent() {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        EmailOutbox first = pending("first_" + runId + "@example.com", LocalDateTime.now().minusMinutes(2));
+        EmailOutbox late = pending("late_" + runId + "@example.com", LocalDateTime.now().minusMinutes(1));
+        // The single worker is still on the first send when the lease on the queued message runs out.
+        doAnswer(invocation -> {
+            jdbcTemplate.update(
+                    "update email_outbox set claim_expires_at = ? where id = ?",
+                    LocalDateTime.now().minusSeconds(1),
+                    late.getId());
+            return null;
+        }).when(emailDeliveryService).send(eq(first.getToEmail()), anyString(), anyString(), any());
+
+        emailOutboxService.processPendingBatch();
+
+        verify(emailDeliveryService, never()).send(eq(late.getToEmail()), any(), any(), any());
+        EmailOutbox skipped = emailOutboxRepository.findById(late.getId()).orElseThrow();
+        assertThat(skipped.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(skipped.getAttemptCount()).isZero();
+        EmailOutbox sent = emailOutboxRepository.findById(first.getId()).orElseThrow();
+        assertThat(sent.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(sent.getClaimedBy()).isNull();
+    }
+
+    private EmailOutbox pending(String toEmail, LocalDateTime createdAt) {
+        EmailOutbox message = new EmailOutbox();
+        message.setToEmail(toEmail);
+        message.setSubject("Lease expiry");
+        message.setPlainTextBody("Lease expiry body");
+        message.setCreatedAt(createdAt);
+        return emailOutboxRepository.save(message);
+    }
+}
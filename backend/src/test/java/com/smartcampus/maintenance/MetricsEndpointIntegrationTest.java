@@ -0,0 +1,88 @@
+package com.smartcampus.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.repository.TicketRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=health,prometheus")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void prometheusScrapeRequiresAnAdminByDefault() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus")
+                .header("Authorization", "Bearer " + tokenFor("student1")))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void ticketCreationPhasesAndAssignmentQueriesAreScraped() throws Exception {
+        Ticket template = ticketRepository.findAll().stream().findFirst().orElseThrow();
+        mockMvc.perform(post("/api/tickets")
+                .header("Authorization", "Bearer " + tokenFor("student1"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"title":"Flickering corridor light","description":"The corridor light flickers all evening.",
+                     "requestTypeId":%d,"buildingId":%d,"location":"Floor 2","urgency":"LOW"}
+                    """.formatted(template.getRequestType().getId(), template.getBuildingRecord().getId())))
+            .andExpect(status().isCreated());
+
+        assertThat(meterRegistry.find("assignment.decision.queries").summaries())
+            .extracting(DistributionSummary::totalAmount)
+            .anySatisfy(statements -> assertThat(statements).isGreaterThan(0));
+
+        MvcResult scrape = mockMvc.perform(get("/actuator/prometheus")
+                .header("Authorization", "Bearer " + tokenFor("admin")))
+            .andExpect(status().isOk())
+            .andReturn();
+        String body = scrape.getResponse().getContentAsString();
+        assertThat(body)
+            .contains("tickets_create_phase_seconds_count")
+            .contains("phase=\"storage\"")
+            .contains("phase=\"auto-assign\"")
+            .contains("assignment_decision_queries_count")
+            .contains("email_outbox_queue_depth")
+            .contains("catalog_stream_emitters");
+    }
+
+    private String tokenFor(String username) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"username":"%s","password":"password"}
+                    """.formatted(username)))
+            .andExpect(status().isOk())
+            .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+}
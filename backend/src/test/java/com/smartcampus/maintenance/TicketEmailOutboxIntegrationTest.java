@@ -0,0 +1,84 @@
+package com.smartcampus.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartcampus.maintenance.dto.ticket.TicketCreateRequest;
+import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.entity.User;
+import com.smartcampus.maintenance.entity.enums.UrgencyLevel;
+import com.smartcampus.maintenance.repository.TicketRepository;
+import com.smartcampus.maintenance.repository.UserRepository;
+import com.smartcampus.maintenance.service.EmailDeliveryService;
+import com.smartcampus.maintenance.service.TicketService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "app.email.enabled=true")
+class TicketEmailOutboxIntegrationTest {
+
+    @MockitoBean
+    private EmailDeliveryService emailDeliveryService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void ticketCreatedEmailCommitsWithTheTicket() {
+        Long ticketId = new TransactionTemplate(transactionManager).execute(status ->
+                ticketService.createTicket(student(), request("Flickering hallway light"), null).id());
+
+        assertThat(outboxRowsFor(ticketId)).isEqualTo(1);
+    }
+
+    @Test
+    void ticketCreatedEmailRollsBackWithTheTicket() {
+        Long ticketId = new TransactionTemplate(transactionManager).execute(status -> {
+            Long id = ticketService.createTicket(student(), request("Loose window latch"), null).id();
+            status.setRollbackOnly();
+            return id;
+        });
+
+        assertThat(ticketRepository.existsById(ticketId)).isFalse();
+        assertThat(outboxRowsFor(ticketId)).isZero();
+    }
+
+    private User student() {
+        return userRepository.findByUsername("student1").orElseThrow();
+    }
+
+    private TicketCreateRequest request(String title) {
+        Ticket template = ticketRepository.findAll().stream().findFirst().orElseThrow();
+        return new TicketCreateRequest(
+                title,
+                title + " reported by the outbox test.",
+                template.getRequestType().getId(),
+                template.getBuildingRecord().getId(),
+                "Ground floor",
+                UrgencyLevel.LOW);
+    }
+
+    private Integer outboxRowsFor(Long ticketId) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from email_outbox where subject = ? and plain_text_body like ?",
+                Integer.class,
+                "CampusFix: Ticket Created",
+                "%(ID: " + ticketId + ")%");
+    }
+}
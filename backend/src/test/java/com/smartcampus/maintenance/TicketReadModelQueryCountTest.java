@@ -0,0 +1,103 @@
+package com.smartcampus.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartcampus.maintenance.dto.ticket.TicketResponse;
+import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.entity.User;
+import com.smartcampus.maintenance.repository.TicketRepository;
+import com.smartcampus.maintenance.repository.UserRepository;
+import com.smartcampus.maintenance.service.TicketService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class TicketReadModelQueryCountTest {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private boolean statisticsWereEnabled;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statisticsWereEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    /**
+     * The SessionFactory is shared by every test reusing this cached context, so leave it as found.
+     */
+    @AfterEach
+    void restoreStatistics() {
+        statistics.clear();
+        statistics.setStatisticsEnabled(statisticsWereEnabled);
+    }
+
+    @Test
+    void adminListingIsOneStatementRegardlessOfTicketCount() {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+
+        List<TicketResponse> tickets = countingStatements(1, () -> ticketService.getAllTickets(
+                admin, null, null, null, null, null, null, null, null, false));
+
+        assertThat(tickets).hasSizeGreaterThan(1);
+        assertThat(tickets).allSatisfy(ticket -> assertThat(ticket.createdBy()).isNotNull());
+    }
+
+    @Test
+    void adminPageIsOneStatement() {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+
+        countingStatements(1, () -> ticketService.getTicketPage(
+                admin, null, null, null, null, null, null, null, null, null, 5, false));
+    }
+
+    @Test
+    void studentAndTechnicianListingsAreOneStatementEach() {
+        Ticket assigned = ticketRepository.findAll().stream()
+                .filter(ticket -> ticket.getAssignedTo() != null)
+                .findFirst()
+                .orElseThrow();
+        User student = userRepository.findById(assigned.getCreatedBy().getId()).orElseThrow();
+        User technician = userRepository.findById(assigned.getAssignedTo().getId()).orElseThrow();
+
+        assertThat(countingStatements(1, () -> ticketService.getMyTickets(student, false))).isNotEmpty();
+        assertThat(countingStatements(1, () -> ticketService.getAssignedTickets(technician, false))).isNotEmpty();
+    }
+
+    @Test
+    void detailUsesAFixedNumberOfStatements() {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        Long ticketId = ticketRepository.findAll().getFirst().getId();
+
+        // Ticket with its associations, its logs with authors, and its rating with author.
+        countingStatements(3, () -> ticketService.getTicketDetail(ticketId, admin));
+    }
+
+    private <T> T countingStatements(long expected, Supplier<T> action) {
+        statistics.clear();
+        T result = action.get();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        return result;
+    }
+}
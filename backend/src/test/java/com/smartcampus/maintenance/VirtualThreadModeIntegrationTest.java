@@ -0,0 +1,57 @@
+package com.smartcampus.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskExecutor;
+
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "app.threads.virtual.pinning-diagnostics.enabled=true",
+        "app.threads.virtual.pinning-diagnostics.threshold-ms=10"
+})
+class VirtualThreadModeIntegrationTest {
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void asyncWorkRunsOnVirtualThreads() throws Exception {
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+        applicationTaskExecutor.execute(() -> virtual.complete(Thread.currentThread().isVirtual()));
+        assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void pinnedVirtualThreadsAreCounted() throws Exception {
+        Object monitor = new Object();
+        Thread pinned = Thread.ofVirtual().start(() -> {
+            synchronized (monitor) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        pinned.join();
+
+        // JFR streams flush roughly once a second.
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (meterRegistry.counter("jvm.threads.virtual.pinned").count() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(meterRegistry.counter("jvm.threads.virtual.pinned").count()).isGreaterThanOrEqualTo(1);
+    }
+}
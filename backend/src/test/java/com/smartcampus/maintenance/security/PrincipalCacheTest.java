@@ -0,0 +1,100 @@
+package com.smartcampus.maintenance.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartcampus.maintenance.entity.User;
+import com.smartcampus.maintenance.entity.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PrincipalCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void servesRepeatLookupsFromMemoryUntilTheUserIsInvalidated() {
+        PrincipalCache cache = new PrincipalCache(meterRegistry, 100, 60);
+        AtomicInteger loads = new AtomicInteger();
+        User user = user(7L, "student7", Role.STUDENT);
+
+        for (int i = 0; i < 3; i++) {
+            Optional<PrincipalSnapshot> snapshot = cache.get("student7", () -> {
+                loads.incrementAndGet();
+                return Optional.of(PrincipalSnapshot.of(user));
+            });
+            assertThat(snapshot).map(PrincipalSnapshot::role).contains(Role.STUDENT);
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(requests("hit")).isEqualTo(2.0);
+        assertThat(requests("miss")).isEqualTo(1.0);
+
+        user.setRole(Role.ADMIN);
+        cache.invalidate(7L);
+
+        assertThat(cache.get("student7", () -> {
+            loads.incrementAndGet();
+            return Optional.of(PrincipalSnapshot.of(user));
+        })).map(PrincipalSnapshot::role).contains(Role.ADMIN);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesBeyondTheBound() {
+        PrincipalCache cache = new PrincipalCache(meterRegistry, 2, 60);
+        cache.get("a", () -> Optional.of(PrincipalSnapshot.of(user(1L, "a", Role.STUDENT))));
+        cache.get("b", () -> Optional.of(PrincipalSnapshot.of(user(2L, "b", Role.STUDENT))));
+        cache.get("a", Optional::empty);
+        cache.get("c", () -> Optional.of(PrincipalSnapshot.of(user(3L, "c", Role.STUDENT))));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a", Optional::empty)).isPresent();
+        assertThat(cache.get("b", Optional::empty)).isEmpty();
+    }
+
+    @Test
+    void zeroTtlDisablesCaching() {
+        PrincipalCache cache = new PrincipalCache(meterRegistry, 100, 0);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("x", () -> {
+            loads.incrementAndGet();
+            return Optional.of(PrincipalSnapshot.of(user(9L, "x", Role.STUDENT)));
+        });
+        cache.get("x", () -> {
+            loads.incrementAndGet();
+            return Optional.of(PrincipalSnapshot.of(user(9L, "x", Role.STUDENT)));
+        });
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void snapshotRoundTripsEveryColumn() {
+        User user = user(5L, "tech5", Role.MAINTENANCE);
+        user.setTokenVersion(3);
+        user.setMfaEnabled(true);
+
+        User copy = PrincipalSnapshot.of(user).toUser();
+
+        assertThat(copy).usingRecursiveComparison().isEqualTo(user);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("auth.principal.cache.requests").tag("result", result).counter().count();
+    }
+
+    private User user(Long id, String username, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPasswordHash("hash");
+        user.setFullName("User " + id);
+        user.setRole(role);
+        user.setEmailVerified(true);
+        return user;
+    }
+}
@@ -15,6 +15,8 @@ import com.smartcampus.maintenance.entity.enums.Role;
 import com.smartcampus.maintenance.entity.enums.TechnicianSpecialty;
 import com.smartcampus.maintenance.repository.TicketRepository;
 import com.smartcampus.maintenance.repository.UserRepository;
+import com.smartcampus.maintenance.repository.projection.CandidateMetricsRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.EnumSet;
 import java.util.List;
@@ -39,12 +41,14 @@ class AutoAssignmentServiceTest {
         lowLoad.setSpecialties(EnumSet.of(TechnicianSpecialty.GENERAL_MAINTENANCE));
         specialist.setSpecialties(EnumSet.of(TechnicianSpecialty.NETWORK));
         when(userRepository.findByRoleOrderByFullNameAsc(Role.MAINTENANCE)).thenReturn(List.of(lowLoad, specialist));
-        stubCandidateMetrics(lowLoad.getId(), 2L, 1L, 0L, 1L);
-        stubCandidateMetrics(specialist.getId(), 5L, 6L, 3L, 4L);
+        stubCandidateMetrics(
+                metrics(lowLoad, 2L, 1L, 0L, 1L),
+                metrics(specialist, 5L, 6L, 3L, 4L));
 
         AutoAssignmentService service = new AutoAssignmentService(
                 userRepository,
-                ticketRepository);
+                ticketRepository,
+                unbuiltWorkloadIndex());
 
         List<TicketAssignmentRecommendationResponse> recommendations = service.recommendAssignees(sampleTicket(), 3);
 
@@ -60,12 +64,14 @@ class AutoAssignmentServiceTest {
         alpha.setSpecialties(EnumSet.of(TechnicianSpecialty.NETWORK));
         bravo.setSpecialties(EnumSet.of(TechnicianSpecialty.NETWORK));
         when(userRepository.findByRoleOrderByFullNameAsc(Role.MAINTENANCE)).thenReturn(List.of(alpha, bravo));
-        stubCandidateMetrics(alpha.getId(), 1L, 0L, 0L, 0L);
-        stubCandidateMetrics(bravo.getId(), 8L, 0L, 0L, 0L);
+        stubCandidateMetrics(
+                metrics(alpha, 1L, 0L, 0L, 0L),
+                metrics(bravo, 8L, 0L, 0L, 0L));
 
         AutoAssignmentService service = new AutoAssignmentService(
                 userRepository,
-                ticketRepository);
+                ticketRepository,
+                unbuiltWorkloadIndex());
 
         List<TicketAssignmentRecommendationResponse> recommendations = service.recommendAssignees(sampleTicket(), 2);
 
@@ -79,27 +85,46 @@ class AutoAssignmentServiceTest {
         User electrician = maintenanceUser(31L, "casey", "Casey Technician");
         electrician.setSpecialties(EnumSet.of(TechnicianSpecialty.ELECTRICAL));
         when(userRepository.findByRoleOrderByFullNameAsc(Role.MAINTENANCE)).thenReturn(List.of(electrician));
-        stubCandidateMetrics(electrician.getId(), 1L, 0L, 0L, 0L);
+        stubCandidateMetrics(metrics(electrician, 1L, 0L, 0L, 0L));
 
-        AutoAssignmentService service = new AutoAssignmentService(userRepository, ticketRepository);
+        AutoAssignmentService service = new AutoAssignmentService(userRepository, ticketRepository, unbuiltWorkloadIndex());
 
         assertThat(service.findBestAssigneeWithinCapacity(sampleTicket(), 4)).isEmpty();
         assertThat(service.recommendAssignees(sampleTicket(), 3)).singleElement()
                 .satisfies(recommendation -> assertThat(recommendation.specializationMatch()).isFalse());
     }
 
-    private void stubCandidateMetrics(Long userId, long activeOpen, long sameDomain, long sameBuilding, long recent) {
+    private void stubCandidateMetrics(CandidateMetricsRow... metrics) {
         EnumSet<com.smartcampus.maintenance.entity.enums.TicketStatus> resolvedStates = EnumSet.of(
                 com.smartcampus.maintenance.entity.enums.TicketStatus.RESOLVED,
                 com.smartcampus.maintenance.entity.enums.TicketStatus.CLOSED);
-        when(ticketRepository.countByAssignedToId(userId)).thenReturn(activeOpen + 1);
-        when(ticketRepository.countByAssignedToIdAndStatusIn(eq(userId), eq(resolvedStates))).thenReturn(1L);
-        when(ticketRepository.countByAssignedToIdAndRequestType_ServiceDomain_KeyAndStatusIn(eq(userId), eq("IT"), eq(resolvedStates)))
-                .thenReturn(sameDomain);
-        when(ticketRepository.countByAssignedToIdAndBuildingRecord_IdAndStatusIn(eq(userId), eq(7L), eq(resolvedStates)))
-                .thenReturn(sameBuilding);
-        when(ticketRepository.countByAssignedToIdAndResolvedAtAfterAndStatusIn(eq(userId), any(LocalDateTime.class), eq(resolvedStates)))
-                .thenReturn(recent);
+        when(ticketRepository.aggregateCandidateMetrics(
+                eq(Role.MAINTENANCE),
+                eq(resolvedStates),
+                eq("IT"),
+                eq(7L),
+                any(LocalDateTime.class)))
+                .thenReturn(List.of(metrics));
+    }
+
+    private CandidateMetricsRow metrics(
+            User user,
+            long activeOpen,
+            long sameDomain,
+            long sameBuilding,
+            long recent) {
+        return new CandidateMetricsRow(
+                user.getId(),
+                user.getUsername(),
+                user.getFullName(),
+                activeOpen,
+                sameDomain,
+                sameBuilding,
+                recent);
+    }
+
+    private TechnicianWorkloadIndex unbuiltWorkloadIndex() {
+        return new TechnicianWorkloadIndex(ticketRepository, new SimpleMeterRegistry());
     }
 
     private Ticket sampleTicket() {
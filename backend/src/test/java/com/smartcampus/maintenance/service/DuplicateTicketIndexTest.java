@@ -0,0 +1,151 @@
+package com.smartcampus.maintenance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.smartcampus.maintenance.entity.Building;
+import com.smartcampus.maintenance.entity.RequestType;
+import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.entity.enums.TicketStatus;
+import com.smartcampus.maintenance.repository.TicketRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DuplicateTicketIndexTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Test
+    void ranksSimilarTitlesWithinTheSameBuildingAndRequestType() {
+        when(ticketRepository.streamOpenTicketTitles(any())).thenReturn(titleRows(
+                new Object[] {1L, 7L, 3L, "Projector not working"},
+                new Object[] {2L, 7L, 3L, "Projector not working in room 204"},
+                new Object[] {3L, 7L, 3L, "Broken window latch"},
+                new Object[] {4L, 8L, 3L, "Projector not working"}));
+        DuplicateTicketIndex index = new DuplicateTicketIndex(ticketRepository, new SimpleMeterRegistry(), 32);
+
+        assertThat(index.findSimilar(7L, 3L, "projector not working", 5)).isEmpty();
+        index.buildOnStartup();
+
+        List<DuplicateTicketIndex.Match> matches = index.findSimilar(7L, 3L, "  Projector NOT workng ", 5).orElseThrow();
+        assertThat(matches).extracting(DuplicateTicketIndex.Match::ticketId).containsExactly(1L, 2L);
+        assertThat(matches.getFirst().similarity()).isGreaterThan(0.9);
+        assertThat(index.findSimilar(9L, 3L, "Projector not working", 5).orElseThrow()).isEmpty();
+    }
+
+    @Test
+    void dropsTicketsOnceTheyAreClosed() {
+        when(ticketRepository.streamOpenTicketTitles(any())).thenReturn(Stream.empty());
+        DuplicateTicketIndex index = new DuplicateTicketIndex(ticketRepository, new SimpleMeterRegistry(), 32);
+        index.buildOnStartup();
+
+        Ticket ticket = ticket(10L, "Leaking radiator", TicketStatus.SUBMITTED);
+        index.record(ticket);
+        assertThat(index.findSimilar(7L, 3L, "leaking radiator", 5).orElseThrow())
+                .extracting(DuplicateTicketIndex.Match::ticketId)
+                .containsExactly(10L);
+
+        ticket.setStatus(TicketStatus.CLOSED);
+        index.record(ticket);
+        assertThat(index.findSimilar(7L, 3L, "leaking radiator", 5).orElseThrow()).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void boundedLevenshteinAgreesWithTheFullMatrixWithinTheBound() {
+        Random random = new Random(42);
+        for (int run = 0; run < 2_000; run++) {
+            String a = randomTitle(random);
+            String b = random.nextBoolean() ? mutate(a, random) : randomTitle(random);
+            int exact = fullLevenshtein(a, b);
+            int maxDistance = random.nextInt(12);
+            int bounded = TitleSimilarity.boundedLevenshtein(a, b, maxDistance);
+            assertThat(bounded).as("%s / %s within %d", a, b, maxDistance)
+                    .isEqualTo(Math.min(exact, maxDistance + 1));
+        }
+    }
+
+    @Test
+    void similarityKeepsTheContainmentAndThresholdSemantics() {
+        assertThat(TitleSimilarity.similarity("wifi down", "wifi down")).isEqualTo(1.0);
+        assertThat(TitleSimilarity.similarity("wifi down", "wifi down in library")).isEqualTo(0.8);
+        assertThat(TitleSimilarity.similarity("wifi down", "wifi dawn")).isGreaterThan(TitleSimilarity.THRESHOLD);
+        assertThat(TitleSimilarity.similarity("wifi down", "door stuck")).isZero();
+    }
+
+    private Stream<Object[]> titleRows(Object[]... rows) {
+        return Arrays.stream(rows);
+    }
+
+    private Ticket ticket(Long id, String title, TicketStatus status) {
+        Building building = new Building();
+        building.setId(7L);
+        RequestType requestType = new RequestType();
+        requestType.setId(3L);
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setTitle(title);
+        ticket.setBuildingRecord(building);
+        ticket.setRequestType(requestType);
+        ticket.setStatus(status);
+        return ticket;
+    }
+
+    private static String randomTitle(Random random) {
+        StringBuilder title = new StringBuilder();
+        int length = random.nextInt(25);
+        for (int i = 0; i < length; i++) {
+            title.append((char) ('a' + random.nextInt(6)));
+        }
+        return title.toString();
+    }
+
+    private static String mutate(String value, Random random) {
+        StringBuilder mutated = new StringBuilder(value);
+        int edits = random.nextInt(6);
+        for (int i = 0; i < edits; i++) {
+            int position = mutated.isEmpty() ? 0 : random.nextInt(mutated.length());
+            switch (random.nextInt(3)) {
+                case 0 -> mutated.insert(position, (char) ('a' + random.nextInt(6)));
+                case 1 -> {
+                    if (!mutated.isEmpty()) {
+                        mutated.deleteCharAt(position);
+                    }
+                }
+                default -> {
+                    if (!mutated.isEmpty()) {
+                        mutated.setCharAt(position, (char) ('a' + random.nextInt(6)));
+                    }
+                }
+            }
+        }
+        return mutated.toString();
+    }
+
+    private static int fullLevenshtein(String a, String b) {
+        int[][] dp = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            dp[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            dp[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                dp[i][j] = Math.min(Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1), dp[i - 1][j - 1] + cost);
+            }
+        }
+        return dp[a.length()][b.length()];
+    }
+}
@@ -0,0 +1,109 @@
+package com.smartcampus.maintenance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.smartcampus.maintenance.exception.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class RateLimitServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void rejectsOnceTheBucketIsEmptyAndRefillsOverTheWindow() throws InterruptedException {
+        RateLimitService service = service(100);
+        Duration window = Duration.ofMillis(300);
+
+        for (int i = 0; i < 3; i++) {
+            service.enforce("login-ip", "10.0.0.1", 3, window);
+        }
+        assertThatThrownBy(() -> service.enforce("login-ip", "10.0.0.1", 3, window))
+                .isInstanceOf(ApiException.class);
+        service.enforce("login-ip", "10.0.0.2", 3, window);
+
+        Thread.sleep(150);
+        service.enforce("login-ip", "10.0.0.1", 3, window);
+
+        assertThat(requests("login-ip", "allowed")).isEqualTo(5.0);
+        assertThat(requests("login-ip", "rejected")).isEqualTo(1.0);
+    }
+
+    @Test
+    void keepsAtMostTheConfiguredNumberOfBucketsPerScope() {
+        RateLimitService service = service(50);
+
+        for (int i = 0; i < 1_000; i++) {
+            try {
+                service.enforce("register-ip", "198.51.100." + i, 5, Duration.ofMinutes(1));
+            } catch (ApiException ignored) {
+                // Keys beyond the bound share the overflow bucket and are throttled together.
+            }
+        }
+
+        assertThat(service.bucketCount("register-ip")).isEqualTo(50);
+        assertThat(requests("register-ip", "allowed")).isEqualTo(55.0);
+    }
+
+    @Test
+    void floodOfNewKeysCannotResetADrainedBucket() {
+        RateLimitService service = service(10);
+        Duration window = Duration.ofMinutes(1);
+        for (int i = 0; i < 3; i++) {
+            service.enforce("login-account", "victim", 3, window);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            try {
+                service.enforce("login-account", "attacker-" + i, 3, window);
+            } catch (ApiException ignored) {
+                // The attacker is throttled too once the overflow bucket is spent.
+            }
+        }
+
+        assertThatThrownBy(() -> service.enforce("login-account", "victim", 3, window))
+                .isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void evictsAFullyRefilledBucketToMakeRoom() throws InterruptedException {
+        RateLimitService service = service(2);
+        service.enforce("verify-ip", "198.51.100.1", 100, Duration.ofMinutes(1));
+        service.enforce("verify-ip", "198.51.100.2", 100, Duration.ofMinutes(1));
+
+        Thread.sleep(1_000);
+        service.enforce("verify-ip", "198.51.100.3", 100, Duration.ofMinutes(1));
+        service.enforce("verify-ip", "198.51.100.3", 100, Duration.ofMinutes(1));
+
+        assertThat(service.bucketCount("verify-ip")).isEqualTo(2);
+        assertThat(requests("verify-ip", "allowed")).isEqualTo(4.0);
+    }
+
+    @Test
+    void dropsBucketsThatHaveFullyRefilled() throws InterruptedException {
+        RateLimitService service = service(100);
+        for (int i = 0; i < 20; i++) {
+            service.enforce("support-ip", "203.0.113." + i, 5, Duration.ofMillis(50));
+        }
+
+        Thread.sleep(80);
+        service.enforce("support-ip", "203.0.113.99", 5, Duration.ofMillis(50));
+
+        assertThat(service.bucketCount("support-ip")).isEqualTo(1);
+    }
+
+    private double requests(String scope, String outcome) {
+        return meterRegistry.get("rate.limit.requests").tag("scope", scope).tag("outcome", outcome).counter().count();
+    }
+
+    @SuppressWarnings("unchecked")
+    private RateLimitService service(int maxKeysPerScope) {
+        ObjectProvider<StringRedisTemplate> redis = mock(ObjectProvider.class);
+        return new RateLimitService(redis, meterRegistry, true, false, maxKeysPerScope);
+    }
+}
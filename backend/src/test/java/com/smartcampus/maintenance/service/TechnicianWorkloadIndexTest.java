@@ -0,0 +1,135 @@
+package com.smartcampus.maintenance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.smartcampus.maintenance.dto.ticket.WorkloadIndexConsistencyResponse;
+import com.smartcampus.maintenance.entity.Building;
+import com.smartcampus.maintenance.entity.RequestType;
+import com.smartcampus.maintenance.entity.ServiceDomain;
+import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.entity.User;
+import com.smartcampus.maintenance.entity.enums.Role;
+import com.smartcampus.maintenance.entity.enums.TicketStatus;
+import com.smartcampus.maintenance.repository.TicketRepository;
+import com.smartcampus.maintenance.repository.projection.CandidateMetricsRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TechnicianWorkloadIndexTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Test
+    void appliesTicketTransitionsWithoutQueryingTheDatabase() {
+        User technician = maintenanceUser(31L);
+        when(ticketRepository.streamWorkloadSources()).thenReturn(workloadRows(
+                new Object[] {31L, TicketStatus.IN_PROGRESS, "IT", 7L, null}));
+        TechnicianWorkloadIndex index = new TechnicianWorkloadIndex(ticketRepository, new SimpleMeterRegistry());
+        index.buildOnStartup();
+
+        Ticket ticket = assignedTicket(technician, TicketStatus.IN_PROGRESS);
+        TechnicianWorkloadIndex.Contribution before = TechnicianWorkloadIndex.Contribution.of(ticket);
+        ticket.setStatus(TicketStatus.RESOLVED);
+        ticket.setResolvedAt(LocalDateTime.now());
+        index.recordChange(before, ticket);
+
+        CandidateMetricsRow metrics = index
+                .candidateMetrics(List.of(technician), "IT", 7L, LocalDateTime.now().minusDays(30))
+                .orElseThrow()
+                .get(31L);
+        assertThat(metrics.activeOpenTickets()).isZero();
+        assertThat(metrics.sameDomainResolvedTickets()).isEqualTo(1);
+        assertThat(metrics.sameBuildingResolvedTickets()).isEqualTo(1);
+        assertThat(metrics.recentResolvedTickets()).isEqualTo(1);
+    }
+
+    @Test
+    void reportsDriftWhenTheDatabaseChangesBehindTheIndex() {
+        when(ticketRepository.streamWorkloadSources())
+                .thenReturn(workloadRows(new Object[] {31L, TicketStatus.ASSIGNED, "IT", 7L, null}))
+                .thenReturn(workloadRows(
+                        new Object[] {31L, TicketStatus.ASSIGNED, "IT", 7L, null},
+                        new Object[] {32L, TicketStatus.ASSIGNED, "IT", 7L, null}));
+        TechnicianWorkloadIndex index = new TechnicianWorkloadIndex(ticketRepository, new SimpleMeterRegistry());
+        index.buildOnStartup();
+
+        WorkloadIndexConsistencyResponse consistency = index.checkConsistency();
+        assertThat(consistency.consistent()).isFalse();
+        assertThat(consistency.driftingTechnicianIds()).containsExactly(32L);
+    }
+
+    @Test
+    void reconcileDuringCommitDoesNotCountTheTransitionTwice() {
+        User technician = maintenanceUser(31L);
+        when(ticketRepository.streamWorkloadSources())
+                .thenReturn(workloadRows())
+                .thenReturn(workloadRows(new Object[] {31L, TicketStatus.ASSIGNED, "IT", 7L, null}));
+        TechnicianWorkloadIndex index = new TechnicianWorkloadIndex(ticketRepository, new SimpleMeterRegistry());
+        index.buildOnStartup();
+
+        Ticket ticket = assignedTicket(null, TicketStatus.APPROVED);
+        TechnicianWorkloadIndex.Contribution before = TechnicianWorkloadIndex.Contribution.of(ticket);
+        ticket.setAssignedTo(technician);
+        ticket.setStatus(TicketStatus.ASSIGNED);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.recordChange(before, ticket);
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+            // The row is committed and visible to the reconcile before afterCommit applies the delta.
+            index.reconcile();
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        CandidateMetricsRow metrics = index
+                .candidateMetrics(List.of(technician), "IT", 7L, LocalDateTime.now().minusDays(30))
+                .orElseThrow()
+                .get(31L);
+        assertThat(metrics.activeOpenTickets()).isEqualTo(1);
+    }
+
+    private Stream<Object[]> workloadRows(Object[]... rows) {
+        return Arrays.stream(rows);
+    }
+
+    private Ticket assignedTicket(User assignee, TicketStatus status) {
+        ServiceDomain serviceDomain = new ServiceDomain();
+        serviceDomain.setKey("IT");
+        RequestType requestType = new RequestType();
+        requestType.setServiceDomain(serviceDomain);
+        Building building = new Building();
+        building.setId(7L);
+
+        Ticket ticket = new Ticket();
+        ticket.setId(200L);
+        ticket.setRequestType(requestType);
+        ticket.setBuildingRecord(building);
+        ticket.setAssignedTo(assignee);
+        ticket.setStatus(status);
+        return ticket;
+    }
+
+    private User maintenanceUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("tech" + id);
+        user.setFullName("Technician " + id);
+        user.setRole(Role.MAINTENANCE);
+        return user;
+    }
+}
@@ -0,0 +1,83 @@
+package com.smartcampus.maintenance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.smartcampus.maintenance.entity.Ticket;
+import com.smartcampus.maintenance.exception.ForbiddenException;
+import com.smartcampus.maintenance.service.TicketAttachmentAccessService.AttachmentType;
+import com.smartcampus.maintenance.util.FileStorageService;
+import com.smartcampus.maintenance.util.FileStorageService.ImageVariant;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Test;
+
+class TicketAttachmentAccessServiceTest {
+
+    private static final String SECRET = "attachment-signing-secret-with-at-least-32-bytes";
+    private static final Pattern SIGNED_URL =
+            Pattern.compile("/api/tickets/(\\d+)/attachments/(before|after)\\?expires=(\\d+)&signature=([A-Za-z0-9_-]+)");
+
+    private final TicketAttachmentAccessService service = new TicketAttachmentAccessService(
+            new FileStorageService(System.getProperty("java.io.tmpdir"), List.of("image/jpeg"), 1024),
+            SECRET,
+            300,
+            2);
+
+    @Test
+    void signedUrlsMatchThePlainHmacOfTheCanonicalMessage() throws Exception {
+        Ticket ticket = ticket(9_007_199_254L);
+
+        for (AttachmentType type : AttachmentType.values()) {
+            Matcher url = SIGNED_URL.matcher(service.buildSignedUrl(ticket, type, "/uploads/photo-" + type + ".jpg"));
+            assertThat(url.matches()).isTrue();
+            String message = "%s:%s:%s:%s".formatted(url.group(1), url.group(2), "photo-" + type + ".jpg", url.group(3));
+            assertThat(url.group(4)).isEqualTo(hmac(message));
+
+            service.validate(ticket, type, "photo-" + type + ".jpg", Long.parseLong(url.group(3)), url.group(4));
+        }
+    }
+
+    @Test
+    void rejectsSignaturesForAnotherTicketOrType() {
+        Ticket ticket = ticket(42L);
+        Matcher url = SIGNED_URL.matcher(service.buildSignedUrl(ticket, AttachmentType.BEFORE, "a.jpg"));
+        assertThat(url.matches()).isTrue();
+        long expires = Long.parseLong(url.group(3));
+
+        assertThatThrownBy(() -> service.validate(ticket(43L), AttachmentType.BEFORE, "a.jpg", expires, url.group(4)))
+                .isInstanceOf(ForbiddenException.class);
+        assertThatThrownBy(() -> service.validate(ticket, AttachmentType.AFTER, "a.jpg", expires, url.group(4)))
+                .isInstanceOf(ForbiddenException.class);
+    }
+
+    @Test
+    void sizedUrlsCarryTheVariantOutsideTheSignature() {
+        Ticket ticket = ticket(7L);
+        String sized = service.buildSignedUrl(ticket, AttachmentType.BEFORE, "b.jpg", ImageVariant.THUMBNAIL);
+        assertThat(sized).endsWith("&size=thumbnail");
+
+        Matcher url = SIGNED_URL.matcher(sized.substring(0, sized.length() - "&size=thumbnail".length()));
+        assertThat(url.matches()).isTrue();
+        service.validate(ticket, AttachmentType.BEFORE, "b.jpg", Long.parseLong(url.group(3)), url.group(4));
+        assertThat(service.buildSignedUrl(ticket, AttachmentType.BEFORE, "b.jpg", ImageVariant.ORIGINAL))
+                .doesNotContain("size=");
+    }
+
+    private static String hmac(String message) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Ticket ticket(Long id) {
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        return ticket;
+    }
+}
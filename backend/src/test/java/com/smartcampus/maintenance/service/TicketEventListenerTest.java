@@ -0,0 +1,112 @@
+package com.smartcampus.maintenance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.smartcampus.maintenance.event.TicketCommentAddedEvent;
+import com.smartcampus.maintenance.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TicketEventListenerTest {
+
+    private static final Duration HAND_OFF_LIMIT = Duration.ofSeconds(2);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationDispatchService notificationDispatchService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch firstStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirst = new CountDownLatch(1);
+    private TicketEventListener listener;
+
+    @AfterEach
+    void shutdown() {
+        releaseFirst.countDown();
+        if (listener != null) {
+            listener.shutdown();
+        }
+    }
+
+    @Test
+    void saturatedListenerQueuesEventsWithoutBlockingTheCommitter() throws InterruptedException {
+        listener = listener(1, 10);
+        blockDeliveryOf(1L);
+
+        listener.onTicketCommentAdded(comment(1L));
+        assertThat(firstStarted.await(2, TimeUnit.SECONDS)).isTrue();
+        assertTimeoutPreemptively(HAND_OFF_LIMIT, () -> listener.onTicketCommentAdded(comment(2L)));
+        verify(notificationDispatchService, never())
+                .notifyUsers(anyCollection(), eq(title(2L)), anyString(), any(), anyString());
+
+        releaseFirst.countDown();
+
+        verify(notificationDispatchService, timeout(2_000))
+                .notifyUsers(anyCollection(), eq(title(2L)), anyString(), any(), anyString());
+    }
+
+    @Test
+    void fullQueueDropsTheEventInsteadOfBlocking() throws InterruptedException {
+        listener = listener(1, 1);
+        blockDeliveryOf(1L);
+
+        listener.onTicketCommentAdded(comment(1L));
+        assertThat(firstStarted.await(2, TimeUnit.SECONDS)).isTrue();
+        assertTimeoutPreemptively(HAND_OFF_LIMIT, () -> {
+            listener.onTicketCommentAdded(comment(2L));
+            listener.onTicketCommentAdded(comment(3L));
+        });
+        releaseFirst.countDown();
+
+        verify(notificationDispatchService, timeout(2_000))
+                .notifyUsers(anyCollection(), eq(title(2L)), anyString(), any(), anyString());
+        verify(notificationDispatchService, never())
+                .notifyUsers(anyCollection(), eq(title(3L)), anyString(), any(), anyString());
+        assertThat(handled("rejected")).isEqualTo(1.0);
+    }
+
+    private void blockDeliveryOf(Long ticketId) {
+        doAnswer(invocation -> {
+            firstStarted.countDown();
+            releaseFirst.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(notificationDispatchService)
+                .notifyUsers(anyCollection(), eq(title(ticketId)), anyString(), any(), anyString());
+    }
+
+    private double handled(String outcome) {
+        return meterRegistry.get("tickets.events.handled").tag("outcome", outcome).counter().count();
+    }
+
+    private TicketEventListener listener(int maxConcurrency, int queueCapacity) {
+        return new TicketEventListener(
+                userRepository, notificationDispatchService, meterRegistry, maxConcurrency, queueCapacity, 1_000L);
+    }
+
+    private static TicketCommentAddedEvent comment(Long ticketId) {
+        return new TicketCommentAddedEvent(ticketId, "Leaking tap", ticketId * 10, 7L, "Alex Admin", 3L, null);
+    }
+
+    private static String title(Long ticketId) {
+        return "New comment on ticket #" + ticketId;
+    }
+}
@@ -4,9 +4,24 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.smartcampus.maintenance.exception.BadRequestException;
+import com.smartcampus.maintenance.optimization.ImageOptimizationWorker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.springframework.mock.web.MockMultipartFile;
@@ -154,4 +169,120 @@ class FileStorageServiceTest {
 
         assertThat(Files.readAllBytes(tempDir.resolve(storedPath))).isEqualTo(WEBP_BYTES);
     }
+
+    @Test
+    void optimizesJpegInTheBackgroundAndSwapsTheFileIn() throws Exception {
+        FileStorageService service = new FileStorageService(
+            tempDir.toString(),
+            List.of("image/jpeg", "image/png", "image/webp"),
+            5_242_880L
+        );
+        byte[] original = highQualityJpeg(320, 240);
+        MockMultipartFile file = new MockMultipartFile("image", "ticket.jpg", "image/jpeg", original);
+
+        String storedPath = service.store(file);
+
+        assertThat(awaitFinalState(service, storedPath)).isEqualTo(ImageOptimizationWorker.State.OPTIMIZED);
+        byte[] stored = Files.readAllBytes(tempDir.resolve(storedPath));
+        assertThat(stored.length).isLessThan(original.length);
+        assertThat(ImageIO.read(tempDir.resolve(storedPath).toFile()).getWidth()).isEqualTo(320);
+        Path thumbnail = service.loadVariant(storedPath, FileStorageService.ImageVariant.THUMBNAIL).path();
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).containsExactlyInAnyOrder(tempDir.resolve(storedPath), thumbnail);
+        }
+    }
+
+    @Test
+    void rendersResizedVariantsAndFallsBackToTheOriginal() throws Exception {
+        FileStorageService service = new FileStorageService(
+            tempDir.toString(),
+            List.of("image/jpeg", "image/png", "image/webp"),
+            5_242_880L
+        );
+        String storedPath = service.store(
+            new MockMultipartFile("image", "ticket.jpg", "image/jpeg", highQualityJpeg(1200, 900)));
+        String webpPath = service.store(new MockMultipartFile("image", "ticket.webp", "image/webp", WEBP_BYTES));
+
+        assertThat(awaitFinalState(service, storedPath)).isEqualTo(ImageOptimizationWorker.State.OPTIMIZED);
+        BufferedImage thumbnail = ImageIO.read(
+            service.loadVariant(storedPath, FileStorageService.ImageVariant.THUMBNAIL).path().toFile());
+        BufferedImage medium = ImageIO.read(
+            service.loadVariant(storedPath, FileStorageService.ImageVariant.MEDIUM).path().toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(200);
+        assertThat(thumbnail.getHeight()).isEqualTo(150);
+        assertThat(medium.getWidth()).isEqualTo(800);
+        assertThat(medium.getHeight()).isEqualTo(600);
+        assertThat(service.loadVariant(storedPath, FileStorageService.ImageVariant.ORIGINAL).path())
+            .isEqualTo(tempDir.resolve(storedPath));
+        assertThat(service.loadVariant(webpPath, FileStorageService.ImageVariant.THUMBNAIL).path())
+            .isEqualTo(tempDir.resolve(webpPath));
+        assertThatThrownBy(() -> FileStorageService.ImageVariant.fromKey("poster"))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void keepsOriginalBytesWhenImageExceedsPixelLimit() throws Exception {
+        FileStorageService service = new FileStorageService(
+            new SimpleMeterRegistry(),
+            new ImageOptimizationWorker(new SimpleMeterRegistry(), 1, 4),
+            tempDir.toString(),
+            List.of("image/jpeg", "image/png", "image/webp"),
+            5_242_880L,
+            5,
+            85,
+            85,
+            10_000L
+        );
+        byte[] original = highQualityJpeg(320, 240);
+        MockMultipartFile file = new MockMultipartFile("image", "ticket.jpg", "image/jpeg", original);
+
+        String storedPath = service.store(file);
+
+        assertThat(awaitFinalState(service, storedPath)).isEqualTo(ImageOptimizationWorker.State.SKIPPED);
+        assertThat(Files.readAllBytes(tempDir.resolve(storedPath))).isEqualTo(original);
+    }
+
+    private static ImageOptimizationWorker.State awaitFinalState(FileStorageService service, String storedPath)
+            throws InterruptedException {
+        EnumSet<ImageOptimizationWorker.State> inFlight = EnumSet.of(
+            ImageOptimizationWorker.State.PENDING, ImageOptimizationWorker.State.RUNNING);
+        long deadline = System.currentTimeMillis() + 10_000;
+        ImageOptimizationWorker.State state = service.optimizationState(storedPath).orElseThrow();
+        while (inFlight.contains(state) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            state = service.optimizationState(storedPath).orElseThrow();
+        }
+        return state;
+    }
+
+    private static byte[] highQualityJpeg(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, new Color(92, 110, 128), width, height, new Color(214, 198, 170)));
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        Random random = new Random(7);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int noise = random.nextInt(17) - 8;
+                int rgb = image.getRGB(x, y);
+                int r = Math.max(0, Math.min(255, ((rgb >> 16) & 0xFF) + noise));
+                int g = Math.max(0, Math.min(255, ((rgb >> 8) & 0xFF) + noise));
+                int b = Math.max(0, Math.min(255, (rgb & 0xFF) + noise));
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(0.97f);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
 }
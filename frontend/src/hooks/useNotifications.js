@@ -1,15 +1,33 @@
-import { useCallback, useEffect, useState } from "react";
+import { useCallback, useEffect, useRef, useState } from "react";
+import { fetchEventSource } from "@microsoft/fetch-event-source";
+import { useAuth } from "./useAuth";
+import { apiBaseUrl } from "../services/apiClient";
 import { notificationService } from "../services/notificationService";
 
 const POLL_MS = 20_000;
+const MAX_RETRY_DELAY_MS = 30_000;
+const BASE_RETRY_DELAY_MS = 1_000;
 
 export const useNotifications = (enabled = true) => {
+  const { auth } = useAuth();
   const [notifications, setNotifications] = useState([]);
   const [unreadCount, setUnreadCount] = useState(0);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState("");
+  const [streamConnected, setStreamConnected] = useState(false);
   const [isVisible, setIsVisible] = useState(() => (typeof document === "undefined" ? true : document.visibilityState === "visible"));
-  const pollingEnabled = enabled && isVisible;
+  const accessTokenRef = useRef(auth?.accessToken);
+  const notificationsRef = useRef(notifications);
+  // Polling is only a fallback while the push stream is unavailable.
+  const pollingEnabled = enabled && isVisible && !streamConnected;
+
+  useEffect(() => {
+    accessTokenRef.current = auth?.accessToken;
+  }, [auth?.accessToken]);
+
+  useEffect(() => {
+    notificationsRef.current = notifications;
+  }, [notifications]);
 
   const refresh = useCallback(async () => {
     if (!enabled) return;
@@ -43,10 +61,104 @@ export const useNotifications = (enabled = true) => {
     return () => window.clearInterval(timer);
   }, [pollingEnabled, refresh]);
 
+  useEffect(() => {
+    if (!enabled || !auth?.accessToken) {
+      return undefined;
+    }
+
+    const controller = new AbortController();
+    let retryCount = 0;
+
+    fetchEventSource(`${apiBaseUrl}/notifications/stream`, {
+      signal: controller.signal,
+      headers: {
+        Authorization: `Bearer ${accessTokenRef.current}`,
+      },
+      credentials: "include",
+      openWhenHidden: true,
+
+      onopen() {
+        retryCount = 0;
+      },
+
+      onmessage(event) {
+        if (!event.data) return;
+        let payload;
+        try {
+          payload = JSON.parse(event.data);
+        } catch {
+          return;
+        }
+        switch (payload.action) {
+          case "CONNECTED":
+            // Anything created while disconnected is picked up by one full reload.
+            setStreamConnected(true);
+            refresh();
+            break;
+          case "CREATED":
+            if (payload.notification) {
+              setNotifications((prev) => [payload.notification, ...prev.filter((item) => item.id !== payload.notification.id)]);
+            }
+            setUnreadCount((prev) => Math.max(0, prev + Number(payload.unreadDelta || 0)));
+            break;
+          case "READ": {
+            // Skip items this tab already marked read itself.
+            const readId = payload.notification?.id;
+            if (notificationsRef.current.some((item) => item.id === readId && item.read)) break;
+            setNotifications((prev) => prev.map((item) => (item.id === readId ? { ...item, read: true } : item)));
+            setUnreadCount((prev) => Math.max(0, prev + Number(payload.unreadDelta || 0)));
+            break;
+          }
+          case "READ_ALL":
+            setNotifications((prev) => prev.map((item) => ({ ...item, read: true })));
+            setUnreadCount(0);
+            break;
+          default:
+            break;
+        }
+      },
+
+      onclose() {
+        // The server closes streams on timeout; throw so the library reconnects with a fresh token.
+        setStreamConnected(false);
+        throw new Error("Notification stream closed");
+      },
+
+      onerror() {
+        setStreamConnected(false);
+        retryCount += 1;
+        return Math.min(BASE_RETRY_DELAY_MS * Math.pow(2, retryCount - 1), MAX_RETRY_DELAY_MS);
+      },
+    }).catch(() => {
+      setStreamConnected(false);
+    });
+
+    return () => {
+      controller.abort();
+      setStreamConnected(false);
+    };
+  }, [enabled, auth?.accessToken, refresh]);
+
   const markRead = useCallback(async (id) => {
-    await notificationService.markRead(id);
-    setNotifications((prev) => prev.map((item) => (item.id === id ? { ...item, read: true } : item)));
-    setUnreadCount((prev) => Math.max(0, prev - 1));
+    // Mark locally before the request so the stream's READ echo for this item is ignored.
+    const previous = notificationsRef.current.find((item) => item.id === id);
+    const wasUnread = Boolean(previous && !previous.read);
+    notificationsRef.current = notificationsRef.current.map((item) => (item.id === id ? { ...item, read: true } : item));
+    setNotifications(notificationsRef.current);
+    if (wasUnread) {
+      setUnreadCount((prev) => Math.max(0, prev - 1));
+    }
+    try {
+      await notificationService.markRead(id);
+    } catch (err) {
+      // The server did not record the read; put the item and the badge back as they were.
+      if (wasUnread) {
+        notificationsRef.current = notificationsRef.current.map((item) => (item.id === id ? { ...item, read: previous.read } : item));
+        setNotifications(notificationsRef.current);
+        setUnreadCount((prev) => prev + 1);
+      }
+      throw err;
+    }
   }, []);
 
   const markAllRead = useCallback(async () => {
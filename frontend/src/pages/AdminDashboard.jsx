@@ -45,6 +45,7 @@ import { STATUSES, URGENCY_LEVELS } from "../utils/constants";
 import { formatDate, titleCase } from "../utils/helpers";
 import { formatSpecialtyLabel } from "../utils/technicianSpecialties.js";
 import {
+  getTicketAttachmentUrl,
   getTicketBuildingName,
   getTicketLocationSummary,
   getTicketRequestTypeLabel,
@@ -756,13 +757,13 @@ export const AdminDashboard = () => {
                 {selectedTicket.ticket.imageUrl && (
                   <div>
                     <p className="mb-1 text-xs font-semibold uppercase text-gray-500 dark:text-gray-400">Before</p>
-                    <img src={selectedTicket.ticket.imageUrl} alt="Before" className="w-full rounded-xl border border-gray-200 object-cover dark:border-slate-700" />
+                    <img src={getTicketAttachmentUrl(selectedTicket.ticket.imageUrl, "medium")} alt="Before" className="w-full rounded-xl border border-gray-200 object-cover dark:border-slate-700" />
                   </div>
                 )}
                 {selectedTicket.ticket.afterImageUrl && (
                   <div>
                     <p className="mb-1 text-xs font-semibold uppercase text-gray-500 dark:text-gray-400">After</p>
-                    <img src={selectedTicket.ticket.afterImageUrl} alt="After" className="w-full rounded-xl border border-gray-200 object-cover dark:border-slate-700" />
+                    <img src={getTicketAttachmentUrl(selectedTicket.ticket.afterImageUrl, "medium")} alt="After" className="w-full rounded-xl border border-gray-200 object-cover dark:border-slate-700" />
                   </div>
                 )}
               </div>
@@ -32,6 +32,7 @@ import {
 import { ticketService } from "../services/ticketService";
 import { formatDate, toHours } from "../utils/helpers";
 import {
+  getTicketAttachmentUrl,
   getTicketBuildingName,
   getTicketLocationSummary,
   getTicketRequestTypeLabel,
@@ -702,7 +703,7 @@ export const MaintenanceDashboard = () => {
                   <div>
                     <p className="mb-1 text-xs font-semibold uppercase text-gray-500 dark:text-gray-400">Before</p>
                     <img
-                      src={selectedTicket.ticket.imageUrl}
+                      src={getTicketAttachmentUrl(selectedTicket.ticket.imageUrl, "medium")}
                       alt="Student uploaded damage photo"
                       className="w-full rounded-xl border border-gray-200 object-cover dark:border-slate-700"
                     />
@@ -712,7 +713,7 @@ export const MaintenanceDashboard = () => {
                   <div>
                     <p className="mb-1 text-xs font-semibold uppercase text-gray-500 dark:text-gray-400">After</p>
                     <img
-                      src={selectedTicket.ticket.afterImageUrl}
+                      src={getTicketAttachmentUrl(selectedTicket.ticket.afterImageUrl, "medium")}
                       alt="Maintenance uploaded completion photo"
                       className="w-full rounded-xl border border-gray-200 object-cover dark:border-slate-700"
                     />
@@ -43,6 +43,7 @@ import { URGENCY_LEVELS } from "../utils/constants";
 import { formatDate, titleCase, toHours } from "../utils/helpers";
 import { loadProfilePreferences } from "../utils/profilePreferences";
 import {
+  getTicketAttachmentUrl,
   getTicketBuildingName,
   getTicketLocationSummary,
   getTicketRequestTypeLabel,
@@ -987,7 +988,7 @@ export const StudentDashboard = () => {
                   <div>
                     <p className="mb-1 text-xs font-semibold uppercase text-gray-500 dark:text-gray-400">Before</p>
                     <img
-                      src={selectedTicket.ticket.imageUrl}
+                      src={getTicketAttachmentUrl(selectedTicket.ticket.imageUrl, "medium")}
                       alt="Uploaded issue photo"
                       className="w-full rounded-xl border border-gray-200 object-cover dark:border-slate-700"
                     />
@@ -997,7 +998,7 @@ export const StudentDashboard = () => {
                   <div>
                     <p className="mb-1 text-xs font-semibold uppercase text-gray-500 dark:text-gray-400">After</p>
                     <img
-                      src={selectedTicket.ticket.afterImageUrl}
+                      src={getTicketAttachmentUrl(selectedTicket.ticket.afterImageUrl, "medium")}
                       alt="Uploaded completion photo"
                       className="w-full rounded-xl border border-gray-200 object-cover dark:border-slate-700"
                     />
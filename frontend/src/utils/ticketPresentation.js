@@ -17,3 +17,11 @@ export const getTicketLocationSummary = (ticket) => {
   }
   return `${buildingName} | ${ticket.location}`;
 };
+
+// Signed attachment URLs accept a size hint; the signature covers every rendition of the photo.
+export const getTicketAttachmentUrl = (url, size = "original") => {
+  if (!url || size === "original") {
+    return url;
+  }
+  return `${url}${url.includes("?") ? "&" : "?"}size=${size}`;
+};
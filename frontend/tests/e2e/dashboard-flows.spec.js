@@ -139,6 +139,19 @@ async function mockCommonApi(page, session, extraHandler) {
       return;
     }
 
+    if (path === "/api/notifications/stream" && method === "GET") {
+      await route.fulfill({
+        status: 200,
+        contentType: "text/event-stream",
+        headers: {
+          "cache-control": "no-cache",
+          connection: "keep-alive",
+        },
+        body: "event: ping\ndata: {\"action\":\"noop\"}\n\n",
+      });
+      return;
+    }
+
     if (path === "/api/notifications" && method === "GET") {
       await json(route, notifications);
       return;